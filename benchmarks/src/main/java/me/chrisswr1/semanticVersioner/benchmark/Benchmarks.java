@@ -0,0 +1,51 @@
+package me.chrisswr1.semanticVersioner.benchmark;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * runs the benchmarks in throughput mode with the GC profiler, which reports the allocation rate per operation
+ * <p>
+ * The usual JMH command line options are accepted, e.g. a regular expression to select benchmarks.
+ *
+ * @author chwe
+ */
+public class Benchmarks {
+	private Benchmarks() {
+	}
+	
+	public static void main(String[] args)
+			throws RunnerException, CommandLineOptionException {
+		CommandLineOptions    commandLine = new CommandLineOptions(args);
+		ChainedOptionsBuilder builder     = new OptionsBuilder()
+				.parent(commandLine)
+				.timeUnit(commandLine.getTimeUnit().orElse(TimeUnit.MICROSECONDS))
+				.warmupIterations(commandLine.getWarmupIterations().orElse(3))
+				.warmupTime(commandLine.getWarmupTime().orElse(TimeValue.seconds(1)))
+				.measurementIterations(commandLine.getMeasurementIterations().orElse(5))
+				.measurementTime(commandLine.getMeasurementTime().orElse(TimeValue.seconds(1)))
+				.forks(commandLine.getForkCount().orElse(1))
+				.addProfiler(GCProfiler.class);
+		
+		if (commandLine.getIncludes().isEmpty()) {
+			builder.include(Benchmarks.class.getPackage().getName() + ".*");
+		}
+		if (commandLine.getBenchModes().isEmpty()) {
+			builder.mode(Mode.Throughput);
+		}
+		
+		Options options = builder.build();
+		
+		new Runner(options).run();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,112 @@
+package me.chrisswr1.semanticVersioner.benchmark;
+
+import me.chrisswr1.semanticVersioner.SemanticVersion;
+import me.chrisswr1.semanticVersioner.SemanticVersions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * measures comparing, equality and sorting of parsed versions
+ *
+ * @author chwe
+ */
+@State(Scope.Benchmark)
+public class CompareBenchmark {
+	private static final int sortSize = 100000;
+	
+	@Param({"RELEASES", "LONG_PRE_RELEASES", "LARGE_NUMBERS"})
+	private Corpus corpus;
+	
+	private String[]              strings;
+	private SemanticVersion[]     versions;
+	private SemanticVersion[]     copies;
+	private List<SemanticVersion> unsorted;
+	
+	@Setup
+	public void setUp() {
+		this.strings = this.corpus.strings();
+		this.versions = new SemanticVersion[this.strings.length];
+		this.copies = new SemanticVersion[this.strings.length];
+		
+		for (int i = 0; i < this.strings.length; i++) {
+			this.versions[i] = new SemanticVersion(this.strings[i]);
+			this.copies[i] = new SemanticVersion(this.strings[i % 2 == 0 ? i : i - 1]);
+		}
+		
+		Random random = new Random(42);
+		this.unsorted = new ArrayList<>(CompareBenchmark.sortSize);
+		for (int i = 0; i < CompareBenchmark.sortSize; i++) {
+			this.unsorted.add(this.versions[random.nextInt(this.versions.length)]);
+		}
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(Corpus.size)
+	public void compareTo(Blackhole blackhole) {
+		SemanticVersion[] versions = this.versions;
+		
+		for (int i = 0; i < versions.length; i++) {
+			blackhole.consume(versions[i].compareTo(this.copies[i]));
+		}
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(Corpus.size)
+	public void equals(Blackhole blackhole) {
+		SemanticVersion[] versions = this.versions;
+		
+		for (int i = 0; i < versions.length; i++) {
+			blackhole.consume(versions[i].equals(this.copies[i]));
+		}
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(Corpus.size)
+	public void matches(Blackhole blackhole) {
+		SemanticVersion[] versions = this.versions;
+		
+		for (int i = 0; i < versions.length; i++) {
+			blackhole.consume(versions[i].matches(this.strings[i % 2 == 0 ? i : i - 1]));
+		}
+	}
+	
+	@Benchmark
+	public List<SemanticVersion> sort() {
+		List<SemanticVersion> result = new ArrayList<>(this.unsorted);
+		Collections.sort(result);
+		
+		return result;
+	}
+	
+	@Benchmark
+	public SemanticVersion[] sortArray() {
+		SemanticVersion[] result = this.unsorted.toArray(new SemanticVersion[0]);
+		Arrays.sort(result);
+		
+		return result;
+	}
+	
+	@Benchmark
+	public SemanticVersion[] sortBulk() {
+		SemanticVersion[] result = this.unsorted.toArray(new SemanticVersion[0]);
+		SemanticVersions.sort(result);
+		
+		return result;
+	}
+	
+	@Benchmark
+	public SemanticVersion[] sortDistinct() {
+		return SemanticVersions.sortDistinct(this.unsorted.toArray(new SemanticVersion[0]));
+	}
+}
\ No newline at end of file
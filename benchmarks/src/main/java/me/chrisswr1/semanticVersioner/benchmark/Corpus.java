@@ -0,0 +1,96 @@
+package me.chrisswr1.semanticVersioner.benchmark;
+
+import java.util.Random;
+
+/**
+ * deterministic sets of version strings, which the benchmarks run over
+ *
+ * @author chwe
+ */
+public enum Corpus {
+	/**
+	 * plain releases like {@code 4.12.3}
+	 */
+	RELEASES {
+		@Override
+		String next(Random random) {
+			return (1 + random.nextInt(30)) + "." + random.nextInt(50) + "." + random.nextInt(200);
+		}
+	},
+	/**
+	 * pre-releases with up to eight identifiers and build metadata
+	 */
+	LONG_PRE_RELEASES {
+		@Override
+		String next(Random random) {
+			StringBuilder builder = new StringBuilder(RELEASES.next(random));
+			
+			int count = 1 + random.nextInt(8);
+			for (int i = 0; i < count; i++) {
+				builder.append(i == 0 ? '-' : '.');
+				
+				if (random.nextBoolean()) {
+					builder.append(random.nextInt(100));
+				} else {
+					builder.append(Corpus.words[random.nextInt(Corpus.words.length)]);
+				}
+			}
+			
+			if (random.nextBoolean()) {
+				builder.append("+build.").append(random.nextInt(10000));
+			}
+			
+			return builder.toString();
+		}
+	},
+	/**
+	 * versions with numbers beyond the range of an int
+	 */
+	LARGE_NUMBERS {
+		@Override
+		String next(Random random) {
+			return (1 + random.nextInt(9)) + "." + Math.abs(random.nextLong() % 100000000000L) + "."
+			       + Math.abs(random.nextLong() % 10000000000000L) + "-rc." + (random.nextLong() >>> 1);
+		}
+	},
+	/**
+	 * strings, which are almost valid versions
+	 */
+	INVALID {
+		@Override
+		String next(Random random) {
+			String version = LONG_PRE_RELEASES.next(random);
+			
+			switch (random.nextInt(4)) {
+				case 0:
+					return "0" + version;
+				case 1:
+					return version + "..";
+				case 2:
+					return version.replace('.', ',');
+				default:
+					return "v" + version + "!";
+			}
+		}
+	};
+	
+	public static final int size = 1024;
+	
+	private static final String[] words = {"alpha", "beta", "rc", "SNAPSHOT", "x-y", "jenkins", "M1", "final"};
+	
+	abstract String next(Random random);
+	
+	/**
+	 * @return {@link #size} strings, which are the same for every call
+	 */
+	public String[] strings() {
+		Random   random = new Random(this.ordinal());
+		String[] result = new String[Corpus.size];
+		
+		for (int i = 0; i < result.length; i++) {
+			result[i] = this.next(random);
+		}
+		
+		return result;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+package me.chrisswr1.semanticVersioner.benchmark;
+
+import me.chrisswr1.semanticVersioner.SemanticVersion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * measures the conversion of versions to strings
+ *
+ * @author chwe
+ */
+@State(Scope.Benchmark)
+public class FormatBenchmark {
+	@Param({"RELEASES", "LONG_PRE_RELEASES", "LARGE_NUMBERS"})
+	private Corpus corpus;
+	
+	private SemanticVersion[] versions;
+	
+	@Setup
+	public void setUp() {
+		String[] strings = this.corpus.strings();
+		this.versions = new SemanticVersion[strings.length];
+		
+		for (int i = 0; i < strings.length; i++) {
+			this.versions[i] = new SemanticVersion(strings[i]);
+		}
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(Corpus.size)
+	public void toString(Blackhole blackhole) {
+		for (SemanticVersion version : this.versions) {
+			blackhole.consume(version.toString());
+		}
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(Corpus.size)
+	public void toUrlSaveString(Blackhole blackhole) {
+		for (SemanticVersion version : this.versions) {
+			blackhole.consume(version.toUrlSaveString());
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+package me.chrisswr1.semanticVersioner.benchmark;
+
+import me.chrisswr1.semanticVersioner.SemanticVersion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * measures parsing and validation of version strings
+ *
+ * @author chwe
+ */
+@State(Scope.Benchmark)
+public class ParseBenchmark {
+	@Param({"RELEASES", "LONG_PRE_RELEASES", "LARGE_NUMBERS", "INVALID"})
+	private Corpus corpus;
+	
+	private String[] strings;
+	
+	@Setup
+	public void setUp() {
+		this.strings = this.corpus.strings();
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(Corpus.size)
+	public void parse(Blackhole blackhole) {
+		for (String string : this.strings) {
+			try {
+				blackhole.consume(new SemanticVersion(string));
+			} catch (IllegalArgumentException e) {
+				blackhole.consume(e);
+			}
+		}
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(Corpus.size)
+	public void isValid(Blackhole blackhole) {
+		for (String string : this.strings) {
+			blackhole.consume(SemanticVersion.isValid(string));
+		}
+	}
+}
\ No newline at end of file
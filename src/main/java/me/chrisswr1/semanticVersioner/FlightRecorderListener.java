@@ -0,0 +1,126 @@
+package me.chrisswr1.semanticVersioner;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * {@link VersionListener}, which commits JDK Flight Recorder events
+ * <p>
+ * This class is only loaded by {@link Instrumentation#enableFlightRecorder()}, so JVMs without Flight Recorder can use
+ * the other listeners.
+ *
+ * @author chwe
+ */
+final class FlightRecorderListener
+		extends VersionStatistics {
+	private static final int maxInputLength = 256;
+	
+	private final Runnable hook = this::commitStatistics;
+	
+	FlightRecorderListener() {
+		FlightRecorder.addPeriodicEvent(StatisticsEvent.class, this.hook);
+	}
+	
+	/**
+	 * stops the periodic statistics events
+	 */
+	void close() {
+		FlightRecorder.removePeriodicEvent(this.hook);
+	}
+	
+	@Override
+	public void parsed(CharSequence input, ParseError error, long nanos) {
+		super.parsed(input, error, nanos);
+		FlightRecorderListener.commitParse(input, error, nanos, false);
+	}
+	
+	@Override
+	public void validated(CharSequence input, ParseError error, long nanos) {
+		super.validated(input, error, nanos);
+		FlightRecorderListener.commitParse(input, error, nanos, true);
+	}
+	
+	private static void commitParse(CharSequence input, ParseError error, long nanos, boolean validation) {
+		ParseEvent event = new ParseEvent();
+		
+		if (event.shouldCommit()) {
+			event.input = input.length() > FlightRecorderListener.maxInputLength
+			              ? input.subSequence(0, FlightRecorderListener.maxInputLength).toString()
+			              : input.toString();
+			event.error = error == null ? null : error.name();
+			event.valid = error == null;
+			event.validation = validation;
+			event.parseTime = nanos;
+			event.commit();
+		}
+	}
+	
+	private void commitStatistics() {
+		StatisticsEvent event = new StatisticsEvent();
+		
+		event.parses = this.getParseCount();
+		event.validations = this.getValidationCount();
+		event.failures = this.getFailureCount();
+		event.comparisons = this.getComparisonCount();
+		event.cacheHits = this.getCacheHitCount();
+		event.cacheMisses = this.getCacheMissCount();
+		event.medianParseTime = this.getLatencyPercentile(50);
+		event.p99ParseTime = this.getLatencyPercentile(99);
+		event.commit();
+	}
+	
+	@Name("me.chrisswr1.semanticVersioner.Parse")
+	@Label("Version Parse")
+	@Category("Semantic Versioner")
+	@Description("Parse or validation of a semantic version")
+	@StackTrace(false)
+	static final class ParseEvent
+			extends Event {
+		@Label("Input")
+		String  input;
+		@Label("Error")
+		String  error;
+		@Label("Valid")
+		boolean valid;
+		@Label("Validation Only")
+		boolean validation;
+		@Label("Parse Time")
+		@Timespan(Timespan.NANOSECONDS)
+		long    parseTime;
+	}
+	
+	@Name("me.chrisswr1.semanticVersioner.Statistics")
+	@Label("Version Statistics")
+	@Category("Semantic Versioner")
+	@Description("Counters since the Flight Recorder was enabled")
+	@Period("1 s")
+	@StackTrace(false)
+	static final class StatisticsEvent
+			extends Event {
+		@Label("Parses")
+		long parses;
+		@Label("Validations")
+		long validations;
+		@Label("Failures")
+		long failures;
+		@Label("Comparisons")
+		long comparisons;
+		@Label("Cache Hits")
+		long cacheHits;
+		@Label("Cache Misses")
+		long cacheMisses;
+		@Label("Median Parse Time")
+		@Timespan(Timespan.NANOSECONDS)
+		long medianParseTime;
+		@Label("99th Percentile Parse Time")
+		@Timespan(Timespan.NANOSECONDS)
+		long p99ParseTime;
+	}
+}
\ No newline at end of file
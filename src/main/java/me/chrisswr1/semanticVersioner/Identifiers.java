@@ -0,0 +1,584 @@
+package me.chrisswr1.semanticVersioner;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * immutable, dot separated pre-release or build metadata identifiers
+ * <p>
+ * Numeric identifiers are held as primitive longs or, if they exceed a long, as exact {@link BigInteger}s. Alphanumeric
+ * identifiers are interned strings. Every identifier is accessed in constant time.
+ *
+ * @author chwe
+ */
+public final class Identifiers {
+	private static final Identifiers empty = new Identifiers(0, null, null);
+	
+	private final int      size;
+	/**
+	 * the values of the numeric identifiers, which fit into a long, or null, if there are none
+	 */
+	private final long[]   numbers;
+	/**
+	 * the strings and big numbers or null, if all identifiers are longs
+	 */
+	private final Object[] objects;
+	private       int      hash;
+	
+	private Identifiers(int size, long[] numbers, Object[] objects) {
+		this.size = size;
+		this.numbers = numbers;
+		this.objects = objects;
+	}
+	
+	public static Identifiers empty() {
+		return Identifiers.empty;
+	}
+	
+	/**
+	 * creates identifiers of the given objects
+	 *
+	 * @param identifiers {@link Number}s or strings of digits, letters and hyphens
+	 * @return the identifiers
+	 * @throws IllegalArgumentException if an identifier is invalid
+	 */
+	public static Identifiers of(List<?> identifiers) {
+		Builder builder = new Builder();
+		
+		for (Object identifier : identifiers) {
+			if (identifier instanceof Number) {
+				builder.addNumber((Number) identifier);
+				continue;
+			}
+			
+			String  string  = String.valueOf(identifier);
+			boolean numeric = true;
+			
+			for (int i = 0; i < string.length(); i++) {
+				char c = string.charAt(i);
+				
+				if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || c == '-') {
+					numeric = false;
+				} else if (c < '0' || c > '9') {
+					throw new IllegalArgumentException("Invalid character in identifier: " + string + "!");
+				}
+			}
+			
+			if (string.isEmpty()) {
+				throw new IllegalArgumentException("Identifiers must not be empty!");
+			}
+			
+			if (numeric) {
+				builder.addDigits(string);
+			} else {
+				builder.addString(string.intern());
+			}
+		}
+		
+		return builder.build();
+	}
+	
+	public int size() {
+		return this.size;
+	}
+	
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+	
+	private void checkIndex(int index) {
+		if (index < 0 || index >= this.size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+		}
+	}
+	
+	private Object object(int index) {
+		return this.objects == null ? null : this.objects[index];
+	}
+	
+	public boolean isNumeric(int index) {
+		this.checkIndex(index);
+		
+		return !(this.object(index) instanceof String);
+	}
+	
+	/**
+	 * @return true, if the identifier is numeric and exceeds a long
+	 */
+	public boolean isBigNumber(int index) {
+		this.checkIndex(index);
+		
+		return this.object(index) instanceof BigInteger;
+	}
+	
+	/**
+	 * @return the value of a numeric identifier, which is saturated to {@link Long#MAX_VALUE}
+	 * @throws IllegalStateException if the identifier is alphanumeric
+	 */
+	public long getNumber(int index) {
+		this.checkIndex(index);
+		
+		Object object = this.object(index);
+		if (object == null) {
+			return this.numbers[index];
+		}
+		if (object instanceof BigInteger) {
+			return Long.MAX_VALUE;
+		}
+		
+		throw new IllegalStateException("The identifier " + object + " is not numeric!");
+	}
+	
+	/**
+	 * @return the exact value of a numeric identifier
+	 * @throws IllegalStateException if the identifier is alphanumeric
+	 */
+	public BigInteger getBigNumber(int index) {
+		this.checkIndex(index);
+		
+		Object object = this.object(index);
+		if (object == null) {
+			return BigInteger.valueOf(this.numbers[index]);
+		}
+		if (object instanceof BigInteger) {
+			return (BigInteger) object;
+		}
+		
+		throw new IllegalStateException("The identifier " + object + " is not numeric!");
+	}
+	
+	/**
+	 * @return the identifier as it is written
+	 */
+	public String getString(int index) {
+		this.checkIndex(index);
+		
+		Object object = this.object(index);
+		
+		return object == null ? Long.toString(this.numbers[index]) : object.toString();
+	}
+	
+	/**
+	 * @return the identifier as {@link Long}, {@link BigInteger} or {@link String}
+	 */
+	public Object get(int index) {
+		this.checkIndex(index);
+		
+		Object object = this.object(index);
+		
+		return object == null ? (Object) this.numbers[index] : object;
+	}
+	
+	/**
+	 * @return an unmodifiable list view of {@link #get(int)}
+	 */
+	public List<Object> asList() {
+		return new ListView();
+	}
+	
+	/**
+	 * compares two identifiers by the rules of §11
+	 * <p>
+	 * Alphanumeric identifiers are compared ignoring case first.
+	 */
+	public int compare(int index, Identifiers other, int otherIndex) {
+		this.checkIndex(index);
+		other.checkIndex(otherIndex);
+		
+		Object tObject = this.object(index);
+		Object oObject = other.object(otherIndex);
+		
+		return Identifiers.compare(tObject == null ? this.numbers[index] : 0, tObject,
+		                           oObject == null ? other.numbers[otherIndex] : 0, oObject);
+	}
+	
+	/**
+	 * compares an identifier like {@link #get(int)} returns it with one of the given identifiers, which is not boxed
+	 *
+	 * @param identifier a {@link Long}, a {@link BigInteger}, which exceeds a long, or a {@link String}
+	 */
+	public static int compare(Object identifier, Identifiers other, int otherIndex) {
+		other.checkIndex(otherIndex);
+		
+		Object oObject = other.object(otherIndex);
+		
+		return Identifiers.compare(Identifiers.number(identifier), Identifiers.object(identifier),
+		                           oObject == null ? other.numbers[otherIndex] : 0, oObject);
+	}
+	
+	/**
+	 * compares two identifiers like {@link #get(int)} returns them
+	 *
+	 * @param tIdentifier a {@link Long}, a {@link BigInteger}, which exceeds a long, or a {@link String}
+	 * @param oIdentifier a {@link Long}, a {@link BigInteger}, which exceeds a long, or a {@link String}
+	 */
+	public static int compare(Object tIdentifier, Object oIdentifier) {
+		return Identifiers.compare(Identifiers.number(tIdentifier), Identifiers.object(tIdentifier),
+		                           Identifiers.number(oIdentifier), Identifiers.object(oIdentifier));
+	}
+	
+	/**
+	 * compares an identifier with the characters of an identifier without creating a string
+	 */
+	int compare(int index, CharSequence text, int from, int to) {
+		this.checkIndex(index);
+		
+		Object object = this.object(index);
+		long   value  = 0;
+		
+		for (int i = from; i < to; i++) {
+			int digit = text.charAt(i) - '0';
+			
+			if (digit < 0 || digit > 9) {
+				return object instanceof String ? Identifiers.compareStrings((String) object, text, from, to) : -1;
+			}
+			if (value >= 0) {
+				value = value > (Long.MAX_VALUE - digit) / 10 ? -1 : value * 10 + digit;
+			}
+		}
+		
+		Object big = value < 0 ? new BigInteger(text.subSequence(from, to).toString()) : null;
+		
+		return Identifiers.compare(object == null ? this.numbers[index] : 0, object, Math.max(value, 0), big);
+	}
+	
+	private static long number(Object identifier) {
+		return identifier instanceof Long ? (Long) identifier : 0;
+	}
+	
+	private static Object object(Object identifier) {
+		return identifier instanceof Long ? null : identifier;
+	}
+	
+	/**
+	 * compares two identifiers, which are held like in {@link #numbers} and {@link #objects}
+	 */
+	private static int compare(long tNumber, Object tObject, long oNumber, Object oObject) {
+		boolean tNumeric = !(tObject instanceof String);
+		boolean oNumeric = !(oObject instanceof String);
+		
+		if (tNumeric && oNumeric) {
+			if (tObject == null && oObject == null) {
+				return Long.compare(tNumber, oNumber);
+			}
+			if (tObject == null || oObject == null) {
+				return tObject == null ? -1 : 1;
+			}
+			
+			return ((BigInteger) tObject).compareTo((BigInteger) oObject);
+		}
+		
+		if (tNumeric != oNumeric) {
+			return tNumeric ? -1 : 1;
+		}
+		if (tObject == oObject) {
+			return 0;
+		}
+		
+		String oString = (String) oObject;
+		
+		return Identifiers.compareStrings((String) tObject, oString, 0, oString.length());
+	}
+	
+	/**
+	 * compares an alphanumeric identifier with the characters of another one ignoring case first, which is the same as
+	 * {@link String#compareToIgnoreCase(String)} and then {@link String#compareTo(String)} for the ASCII identifiers
+	 */
+	private static int compareStrings(String tString, CharSequence text, int from, int to) {
+		int oLength = to - from;
+		int length  = Math.min(tString.length(), oLength);
+		
+		for (int i = 0; i < length; i++) {
+			int result = Character.compare(Identifiers.toLowerCase(tString.charAt(i)), Identifiers.toLowerCase(text.charAt(from + i)));
+			if (result != 0) {
+				return result;
+			}
+		}
+		
+		if (tString.length() != oLength) {
+			return Integer.compare(tString.length(), oLength);
+		}
+		
+		for (int i = 0; i < length; i++) {
+			int result = Character.compare(tString.charAt(i), text.charAt(from + i));
+			if (result != 0) {
+				return result;
+			}
+		}
+		
+		return 0;
+	}
+	
+	private static char toLowerCase(char c) {
+		return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+	}
+	
+	/**
+	 * appends the identifiers, of which the first one is preceded by the given delimiter
+	 */
+	void appendTo(Appendable appendable, char delimiter)
+			throws IOException {
+		for (int i = 0; i < this.size; i++) {
+			appendable.append(i == 0 ? delimiter : SemanticVersion.partDelimiter.charAt(0));
+			
+			Object object = this.object(i);
+			if (object == null) {
+				SemanticVersion.appendNumber(appendable, this.numbers[i]);
+			} else {
+				appendable.append(object.toString());
+			}
+		}
+	}
+	
+	/**
+	 * @return a rough estimate of the count of characters
+	 */
+	int estimateLength() {
+		return 8 * this.size;
+	}
+	
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		
+		if (!(obj instanceof Identifiers)) {
+			return false;
+		}
+		
+		Identifiers other = (Identifiers) obj;
+		if (this.size != other.size || this.hashCode() != other.hashCode()) {
+			return false;
+		}
+		
+		for (int i = 0; i < this.size; i++) {
+			Object tObject = this.object(i);
+			Object oObject = other.object(i);
+			
+			if (tObject == null ? oObject != null || this.numbers[i] != other.numbers[i] : !(tObject.equals(oObject))) {
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	@Override
+	public int hashCode() {
+		int result = this.hash;
+		
+		if (result == 0 && this.size != 0) {
+			result = 1;
+			
+			for (int i = 0; i < this.size; i++) {
+				Object object = this.object(i);
+				
+				result = 31 * result + (object == null ? Long.hashCode(this.numbers[i]) : object.hashCode());
+			}
+			
+			this.hash = result;
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * @return the dot separated identifiers
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder(this.estimateLength());
+		
+		try {
+			this.appendTo(builder, SemanticVersion.partDelimiter.charAt(0));
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+		
+		return this.size == 0 ? "" : builder.substring(1);
+	}
+	
+	private final class ListView
+			extends AbstractList<Object>
+			implements RandomAccess {
+		@Override
+		public Object get(int index) {
+			return Identifiers.this.get(index);
+		}
+		
+		@Override
+		public int size() {
+			return Identifiers.this.size;
+		}
+	}
+	
+	/**
+	 * collects identifiers, which may still be rearranged, without boxing numbers
+	 */
+	static final class Builder {
+		private long[]   numbers = new long[4];
+		private Object[] objects;
+		private int      size    = 0;
+		
+		int size() {
+			return this.size;
+		}
+		
+		private void grow() {
+			if (this.size == this.numbers.length) {
+				this.numbers = Arrays.copyOf(this.numbers, this.size * 2);
+				
+				if (this.objects != null) {
+					this.objects = Arrays.copyOf(this.objects, this.size * 2);
+				}
+			}
+		}
+		
+		private void setObject(int index, Object object) {
+			if (this.objects == null) {
+				if (object == null) {
+					return;
+				}
+				
+				this.objects = new Object[this.numbers.length];
+			}
+			
+			this.objects[index] = object;
+		}
+		
+		void addNumber(long value) {
+			this.insertNumber(this.size, value);
+		}
+		
+		void insertNumber(int index, long value) {
+			this.grow();
+			
+			System.arraycopy(this.numbers, index, this.numbers, index + 1, this.size - index);
+			if (this.objects != null) {
+				System.arraycopy(this.objects, index, this.objects, index + 1, this.size - index);
+				this.objects[index] = null;
+			}
+			
+			this.numbers[index] = value;
+			this.size++;
+		}
+		
+		void addString(String value) {
+			this.grow();
+			this.setObject(this.size++, value);
+		}
+		
+		void setString(int index, String value) {
+			this.setObject(index, value);
+		}
+		
+		void addBigNumber(BigInteger value) {
+			if (value.bitLength() < Long.SIZE) {
+				this.addNumber(value.longValue());
+				return;
+			}
+			
+			this.grow();
+			this.setObject(this.size++, value);
+		}
+		
+		/**
+		 * adds a numeric identifier of the given digits
+		 */
+		void addDigits(CharSequence digits) {
+			long value = 0;
+			
+			for (int i = 0; i < digits.length(); i++) {
+				int digit = digits.charAt(i) - '0';
+				
+				if (value > (Long.MAX_VALUE - digit) / 10) {
+					this.addBigNumber(new BigInteger(digits.toString()));
+					return;
+				}
+				
+				value = value * 10 + digit;
+			}
+			
+			this.addNumber(value);
+		}
+		
+		void addNumber(Number number) {
+			BigInteger value;
+			
+			if (number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte) {
+				value = BigInteger.valueOf(number.longValue());
+			} else if (number instanceof BigInteger) {
+				value = (BigInteger) number;
+			} else {
+				double doubleValue = number.doubleValue();
+				
+				if (Double.isNaN(doubleValue) || Double.isInfinite(doubleValue) || doubleValue != Math.floor(doubleValue)) {
+					throw new IllegalArgumentException("Numeric identifiers must be integers: " + number + "!");
+				}
+				
+				value = new BigDecimal(doubleValue).toBigInteger();
+			}
+			
+			if (value.signum() < 0) {
+				throw new IllegalArgumentException("Numeric identifiers must not be negative: " + number + "!");
+			}
+			
+			this.addBigNumber(value);
+		}
+		
+		/**
+		 * @return the alphanumeric identifier or null, if it is numeric
+		 */
+		String getString(int index) {
+			Object object = this.objects == null ? null : this.objects[index];
+			
+			return object instanceof String ? (String) object : null;
+		}
+		
+		/**
+		 * removes the last identifier and adds it to the given builder
+		 */
+		void moveLastTo(Builder target) {
+			int    index  = this.size - 1;
+			Object object = this.objects == null ? null : this.objects[index];
+			
+			if (object instanceof String) {
+				target.addString((String) object);
+			} else if (object instanceof BigInteger) {
+				target.addBigNumber((BigInteger) object);
+			} else {
+				target.addNumber(this.numbers[index]);
+			}
+			
+			this.setObject(index, null);
+			this.size--;
+		}
+		
+		Identifiers build() {
+			if (this.size == 0) {
+				return Identifiers.empty;
+			}
+			
+			boolean longs   = false;
+			boolean objects = false;
+			
+			for (int i = 0; i < this.size; i++) {
+				if (this.objects == null || this.objects[i] == null) {
+					longs = true;
+				} else {
+					objects = true;
+				}
+			}
+			
+			return new Identifiers(this.size,
+			                       longs ? Arrays.copyOf(this.numbers, this.size) : null,
+			                       objects ? Arrays.copyOf(this.objects, this.size) : null);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,148 @@
+package me.chrisswr1.semanticVersioner;
+
+import java.util.Arrays;
+
+/**
+ * registry of the {@link VersionListener}s
+ * <p>
+ * Without listeners, the instrumented paths only read a single static field. JDK Flight Recorder events are only
+ * loaded, if {@link #enableFlightRecorder()} is called.
+ *
+ * @author chwe
+ */
+public final class Instrumentation {
+	/**
+	 * the listener, which is called on the hot paths, or null, if no listener is registered
+	 */
+	static volatile VersionListener listener = null;
+	
+	private static VersionListener[]      listeners      = new VersionListener[0];
+	private static FlightRecorderListener flightRecorder = null;
+	
+	private Instrumentation() {
+	}
+	
+	public static synchronized void addListener(VersionListener listener) {
+		if (listener == null) {
+			throw new NullPointerException("The listener must not be null!");
+		}
+		
+		VersionListener[] listeners = Arrays.copyOf(Instrumentation.listeners, Instrumentation.listeners.length + 1);
+		listeners[listeners.length - 1] = listener;
+		
+		Instrumentation.update(listeners);
+	}
+	
+	/**
+	 * @return true, if the listener was registered
+	 */
+	public static synchronized boolean removeListener(VersionListener listener) {
+		VersionListener[] listeners = Instrumentation.listeners;
+		
+		for (int i = 0; i < listeners.length; i++) {
+			if (listeners[i] == listener) {
+				VersionListener[] remaining = new VersionListener[listeners.length - 1];
+				System.arraycopy(listeners, 0, remaining, 0, i);
+				System.arraycopy(listeners, i + 1, remaining, i, remaining.length - i);
+				
+				if (listener == Instrumentation.flightRecorder) {
+					Instrumentation.closeFlightRecorder();
+				}
+				
+				Instrumentation.update(remaining);
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	public static synchronized void removeAllListeners() {
+		if (Instrumentation.flightRecorder != null) {
+			Instrumentation.closeFlightRecorder();
+		}
+		
+		Instrumentation.update(new VersionListener[0]);
+	}
+	
+	public static boolean isEnabled() {
+		return Instrumentation.listener != null;
+	}
+	
+	/**
+	 * registers a listener, which commits JDK Flight Recorder events
+	 * <p>
+	 * Parses are recorded as {@code me.chrisswr1.semanticVersioner.Parse} events and the counters as periodic
+	 * {@code me.chrisswr1.semanticVersioner.Statistics} events. Calling this method again has no effect.
+	 *
+	 * @throws UnsupportedOperationException if the JVM has no Flight Recorder
+	 */
+	public static synchronized void enableFlightRecorder() {
+		if (Instrumentation.flightRecorder != null) {
+			return;
+		}
+		
+		try {
+			Class.forName("jdk.jfr.Event");
+		} catch (ClassNotFoundException e) {
+			throw new UnsupportedOperationException("The JVM has no Flight Recorder!", e);
+		}
+		
+		Instrumentation.flightRecorder = new FlightRecorderListener();
+		Instrumentation.addListener(Instrumentation.flightRecorder);
+	}
+	
+	private static void closeFlightRecorder() {
+		Instrumentation.flightRecorder.close();
+		Instrumentation.flightRecorder = null;
+	}
+	
+	private static void update(VersionListener[] listeners) {
+		Instrumentation.listeners = listeners;
+		
+		if (listeners.length == 0) {
+			Instrumentation.listener = null;
+		} else if (listeners.length == 1) {
+			Instrumentation.listener = listeners[0];
+		} else {
+			Instrumentation.listener = new Multicaster(listeners);
+		}
+	}
+	
+	private static final class Multicaster
+			implements VersionListener {
+		private final VersionListener[] listeners;
+		
+		Multicaster(VersionListener[] listeners) {
+			this.listeners = listeners;
+		}
+		
+		@Override
+		public void parsed(CharSequence input, ParseError error, long nanos) {
+			for (VersionListener listener : this.listeners) {
+				listener.parsed(input, error, nanos);
+			}
+		}
+		
+		@Override
+		public void validated(CharSequence input, ParseError error, long nanos) {
+			for (VersionListener listener : this.listeners) {
+				listener.validated(input, error, nanos);
+			}
+		}
+		
+		@Override
+		public void compared(SemanticVersion version1, SemanticVersion version2) {
+			for (VersionListener listener : this.listeners) {
+				listener.compared(version1, version2);
+			}
+		}
+		
+		@Override
+		public void cacheAccessed(VersionCache cache, boolean hit) {
+			for (VersionListener listener : this.listeners) {
+				listener.cacheAccessed(cache, hit);
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package me.chrisswr1.semanticVersioner;
+
+import lombok.Getter;
+
+/**
+ * the reason, why a string is not a valid {@link SemanticVersion}
+ *
+ * @author chwe
+ */
+public enum ParseError {
+	EXPECTED_DIGIT("Expected a digit"),
+	EXPECTED_DELIMITER("Expected '" + SemanticVersion.partDelimiter + "'"),
+	ZERO_VERSION("Major and minor must not be both 0"),
+	NUMBER_TOO_LARGE("Number is too large"),
+	LEADING_ZERO("Leading zeros are not allowed"),
+	EXPECTED_IDENTIFIER("Expected an identifier"),
+	UNEXPECTED_CHARACTER("Unexpected character");
+	
+	@Getter
+	private final String message;
+	
+	ParseError(String message) {
+		this.message = message;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,121 @@
+package me.chrisswr1.semanticVersioner;
+
+import lombok.Getter;
+
+/**
+ * immutable set of coercions, which the parser applies to real-world version strings
+ * <p>
+ * The strict options accept exactly the language of {@link SemanticVersion#getVersionPattern()}. Each coercion is
+ * applied in the same single pass.
+ *
+ * @author chwe
+ */
+public final class ParseOptions {
+	private static final ParseOptions strict  = new ParseOptions(false, false, Placement.REJECT, false, false);
+	private static final ParseOptions lenient = new ParseOptions(true, true, Placement.BUILD_METADATA, true, true);
+	
+	/**
+	 * skip a leading prefix of letters, {@code -}, {@code _}, {@code /} and whitespace, e.g. {@code v} or
+	 * {@code release-}
+	 */
+	@Getter
+	private final boolean   stripPrefix;
+	/**
+	 * accept a single number as major version and pad the missing parts with 0
+	 */
+	@Getter
+	private final boolean   padParts;
+	/**
+	 * the identifiers, which numeric parts after the patch (e.g. {@code 1.2.3.4}) are added to
+	 */
+	@Getter
+	private final Placement extraParts;
+	/**
+	 * accept Maven qualifiers after a {@code .} (e.g. {@code 1.2.3.Final}), move release qualifiers like {@code Final}
+	 * or {@code GA} into the build metadata and split qualifiers like {@code RC1} into {@code RC.1}
+	 */
+	@Getter
+	private final boolean   mavenQualifiers;
+	/**
+	 * accept leading zeros in the numeric parts
+	 */
+	@Getter
+	private final boolean   leadingZeros;
+	
+	private ParseOptions(boolean stripPrefix, boolean padParts, Placement extraParts, boolean mavenQualifiers,
+	                     boolean leadingZeros) {
+		this.stripPrefix = stripPrefix;
+		this.padParts = padParts;
+		this.extraParts = extraParts;
+		this.mavenQualifiers = mavenQualifiers;
+		this.leadingZeros = leadingZeros;
+	}
+	
+	/**
+	 * @return the options, which only accept valid semantic versions
+	 */
+	public static ParseOptions strict() {
+		return ParseOptions.strict;
+	}
+	
+	/**
+	 * @return the options with all coercions, which add numeric parts after the patch to the build metadata
+	 */
+	public static ParseOptions lenient() {
+		return ParseOptions.lenient;
+	}
+	
+	public boolean isStrict() {
+		return !(this.stripPrefix || this.padParts || this.mavenQualifiers || this.leadingZeros)
+		       && this.extraParts == Placement.REJECT;
+	}
+	
+	public ParseOptions withStripPrefix(boolean stripPrefix) {
+		return new ParseOptions(stripPrefix, this.padParts, this.extraParts, this.mavenQualifiers, this.leadingZeros);
+	}
+	
+	public ParseOptions withPadParts(boolean padParts) {
+		return new ParseOptions(this.stripPrefix, padParts, this.extraParts, this.mavenQualifiers, this.leadingZeros);
+	}
+	
+	public ParseOptions withExtraParts(Placement extraParts) {
+		if (extraParts == null) {
+			throw new IllegalArgumentException("The placement must not be null!");
+		}
+		
+		return new ParseOptions(this.stripPrefix, this.padParts, extraParts, this.mavenQualifiers, this.leadingZeros);
+	}
+	
+	public ParseOptions withMavenQualifiers(boolean mavenQualifiers) {
+		return new ParseOptions(this.stripPrefix, this.padParts, this.extraParts, mavenQualifiers, this.leadingZeros);
+	}
+	
+	public ParseOptions withLeadingZeros(boolean leadingZeros) {
+		return new ParseOptions(this.stripPrefix, this.padParts, this.extraParts, this.mavenQualifiers, leadingZeros);
+	}
+	
+	@Override
+	public String toString() {
+		return "ParseOptions[stripPrefix=" + this.stripPrefix + ", padParts=" + this.padParts
+		       + ", extraParts=" + this.extraParts + ", mavenQualifiers=" + this.mavenQualifiers
+		       + ", leadingZeros=" + this.leadingZeros + "]";
+	}
+	
+	/**
+	 * the handling of numeric parts after the patch
+	 */
+	public enum Placement {
+		/**
+		 * the version is invalid
+		 */
+		REJECT,
+		/**
+		 * the parts become the first pre-release identifiers
+		 */
+		PRE_RELEASE,
+		/**
+		 * the parts become the first build metadata identifiers
+		 */
+		BUILD_METADATA
+	}
+}
\ No newline at end of file
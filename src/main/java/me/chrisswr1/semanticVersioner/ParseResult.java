@@ -0,0 +1,95 @@
+package me.chrisswr1.semanticVersioner;
+
+import lombok.Getter;
+
+import java.util.Optional;
+
+/**
+ * the outcome of {@link SemanticVersion#tryParse(CharSequence)}, which is either a version or an error
+ *
+ * @author chwe
+ */
+public final class ParseResult {
+	/**
+	 * the parsed version or null, if the input is invalid
+	 */
+	@Getter
+	private final SemanticVersion version;
+	/**
+	 * the reason of the failure or null, if the input is valid
+	 */
+	@Getter
+	private final ParseError      error;
+	/**
+	 * the offset of the first character, which violates the format, or -1, if the input is valid
+	 */
+	@Getter
+	private final int             errorOffset;
+	private final char            errorCharacter;
+	
+	private ParseResult(SemanticVersion version, ParseError error, int errorOffset, char errorCharacter) {
+		this.version = version;
+		this.error = error;
+		this.errorOffset = errorOffset;
+		this.errorCharacter = errorCharacter;
+	}
+	
+	static ParseResult success(SemanticVersion version) {
+		return new ParseResult(version, null, -1, '\0');
+	}
+	
+	static ParseResult failure(ParseError error, int errorOffset, char errorCharacter) {
+		return new ParseResult(null, error, errorOffset, errorCharacter);
+	}
+	
+	public boolean isValid() {
+		return this.version != null;
+	}
+	
+	/**
+	 * @return the description of the error or null, if the input is valid
+	 */
+	public String getErrorMessage() {
+		if (this.error == null) {
+			return null;
+		}
+		
+		return ParseResult.describe(this.error, this.errorCharacter);
+	}
+	
+	static String describe(ParseError error, char errorCharacter) {
+		if (error == ParseError.UNEXPECTED_CHARACTER) {
+			return error.getMessage() + " '" + errorCharacter + "'";
+		}
+		
+		return error.getMessage();
+	}
+	
+	public Optional<SemanticVersion> toOptional() {
+		return Optional.ofNullable(this.version);
+	}
+	
+	/**
+	 * @return the parsed version
+	 * @throws SemanticVersionFormatException if the input is invalid
+	 */
+	public SemanticVersion orElseThrow() {
+		if (this.version == null) {
+			throw new SemanticVersionFormatException(
+					"The given string is not a valid semantic version: "
+					+ this.getErrorMessage() + " at offset " + this.errorOffset + "!",
+					this.error, this.errorOffset);
+		}
+		
+		return this.version;
+	}
+	
+	@Override
+	public String toString() {
+		if (this.version != null) {
+			return this.version.toString();
+		}
+		
+		return this.error + "@" + this.errorOffset;
+	}
+}
\ No newline at end of file
@@ -1,49 +1,34 @@
 package me.chrisswr1.semanticVersioner;
 
 import lombok.Getter;
-import me.chrisswr1.semanticVersioner.util.CollectionUtils;
-import org.apache.commons.lang.StringUtils;
-import org.apache.commons.lang.math.NumberUtils;
+import me.chrisswr1.semanticVersioner.util.AsciiAppendable;
+import me.chrisswr1.semanticVersioner.util.AsciiCharSequence;
 
-import java.util.LinkedList;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
  * @author chwe
  */
 public class SemanticVersion
-		implements Comparable<SemanticVersion> {
-	public static final String  partDelimiter          = ".";
-	public static final String  preReleaseDelimiter    = "-";
-	public static final String  buildMetadataDelimiter = "+";
-	public static final String  intRegEx               = "[1-9]\\d*|\\d";
-	public static final String  wordRegEx              = "[0-9A-Za-z-]+";
-	public static final Pattern versionPattern         = Pattern.compile("(?<complete>"
-	                                                                     + "(?<main>"
-	                                                                     + "("
-	                                                                     + "("
-	                                                                     + "(?<majorzero>0?)"
-	                                                                     + "\\" + partDelimiter + "(?<minorzero>[1-9][\\d]*)"
-	                                                                     + ")"
-	                                                                     + "|"
-	                                                                     + "("
-	                                                                     + "(?<majornonzero>[1-9]\\d*)"
-	                                                                     + "\\" + partDelimiter + "(?<minornonzero>" + intRegEx + ")"
-	                                                                     + ")"
-	                                                                     + ")"
-	                                                                     + "(\\" + partDelimiter + "(?<patch>" + intRegEx + "))?"
-	                                                                     + ")"
-	                                                                     + "(" + preReleaseDelimiter + "(?<release>"
-	                                                                     + "(?<release1>" + wordRegEx + ")"
-	                                                                     + "(\\" + partDelimiter + "(?<releasen>" + wordRegEx + "))*"
-	                                                                     + "))?"
-	                                                                     + "((\\" + buildMetadataDelimiter + "|_)(?<build>"
-	                                                                     + "(?<build1>" + wordRegEx + ")"
-	                                                                     + "(\\" + partDelimiter + "(?<buildn>" + wordRegEx + "))*"
-	                                                                     + "))?"
-	                                                                     + ")");
+		implements Comparable<SemanticVersion>, Externalizable {
+	private static final long serialVersionUID = 1L;
+	
+	public static final String partDelimiter          = ".";
+	public static final String preReleaseDelimiter    = "-";
+	public static final String buildMetadataDelimiter = "+";
+	public static final String intRegEx               = "[1-9]\\d*|\\d";
+	public static final String wordRegEx              = "[0-9A-Za-z-]+";
+	public static final String cacheSizeProperty      = "semanticVersioner.cacheSize";
+	
+	private static volatile VersionCache cache = new VersionCache(Integer.getInteger(cacheSizeProperty, 4096));
 	
 	@Getter
 	private long         major         = 0;
@@ -51,8 +36,29 @@ public class SemanticVersion
 	private long         minor         = 0;
 	@Getter
 	private long         patch         = 0;
-	private List<Object> preRelease    = new LinkedList<>();
-	private List<Object> buildMetadata = new LinkedList<>();
+	private Identifiers  preRelease    = Identifiers.empty();
+	private Identifiers  buildMetadata = Identifiers.empty();
+	
+	/**
+	 * packed major, minor and patch, see {@link #compareTo(SemanticVersion)}
+	 */
+	@Getter
+	private long sortKeyHigh;
+	/**
+	 * packed first pre-release identifier, see {@link #compareTo(SemanticVersion)}
+	 */
+	@Getter
+	private long sortKeyLow;
+	/**
+	 * versions from {@link #of(String)} are shared and may not be changed
+	 */
+	@Getter
+	private boolean          immutable = false;
+	private int              hash      = 0;
+	/**
+	 * the canonical string of an immutable version
+	 */
+	private transient String string;
 	
 	public SemanticVersion(long major, long minor, long patch) {
 		if (major < 0 || minor < 0 || patch < 0) {
@@ -62,226 +68,582 @@ public class SemanticVersion
 		this.major = major;
 		this.minor = minor;
 		this.patch = patch;
+		
+		this.updateSortKeys();
+	}
+	
+	/**
+	 * creates a version with the given dot separated identifiers
+	 *
+	 * @param preRelease    the pre-release identifiers or null
+	 * @param buildMetadata the build metadata identifiers or null
+	 */
+	public SemanticVersion(long major, long minor, long patch, String preRelease, String buildMetadata) {
+		this(major, minor, patch);
+		
+		this.preRelease = SemanticVersion.parseIdentifiers(preRelease);
+		this.buildMetadata = SemanticVersion.parseIdentifiers(buildMetadata);
+		
+		this.updateSortKeys();
+	}
+	
+	/**
+	 * creates a version with the given identifiers
+	 *
+	 * @param preRelease    the pre-release identifiers as {@link Number}s or alphanumeric strings
+	 * @param buildMetadata the build metadata identifiers as {@link Number}s or alphanumeric strings
+	 */
+	public SemanticVersion(long major, long minor, long patch, List<?> preRelease, List<?> buildMetadata) {
+		this(major, minor, patch);
+		
+		this.preRelease = Identifiers.of(preRelease);
+		this.buildMetadata = Identifiers.of(buildMetadata);
+		
+		this.updateSortKeys();
+	}
+	
+	private SemanticVersion(SemanticVersion other) {
+		this(other.major, other.minor, other.patch);
+		
+		this.preRelease = other.preRelease;
+		this.buildMetadata = other.buildMetadata;
+		
+		this.updateSortKeys();
 	}
 	
 	public SemanticVersion(String version) {
-		Matcher matcher = SemanticVersion.versionPattern.matcher(version);
+		this((CharSequence) version);
+	}
+	
+	public SemanticVersion(CharSequence version) {
+		SemanticVersionParser parser = new SemanticVersionParser(version);
+		
+		if (!(this.parse(parser))) {
+			throw parser.toException("The given string is not a valid semantic version");
+		}
+	}
+	
+	/**
+	 * creates the placeholder 0.0.0, which is no valid semantic version, for {@link Externalizable} only
+	 * <p>
+	 * The version must not be used, until {@link #readExternal(ObjectInput)} has read the actual version.
+	 */
+	public SemanticVersion() {
+		this(0, 0, 0);
+	}
+	
+	/**
+	 * parses the given characters without throwing an exception on invalid input
+	 *
+	 * @param version the characters to parse
+	 * @return the version or null, if the characters are not a valid semantic version
+	 */
+	static SemanticVersion parseOrNull(CharSequence version) {
+		SemanticVersion result = new SemanticVersion();
+		
+		if (!(result.parse(new SemanticVersionParser(version)))) {
+			return null;
+		}
 		
-		if (!(matcher.matches())) {
-			throw new IllegalArgumentException("The given string is not a valid semantic version!");
+		return result;
+	}
+	
+	/**
+	 * parses the given characters in a single pass, which never throws an exception
+	 *
+	 * @param version the characters to parse
+	 * @return the version or the reason, why the characters are not a valid semantic version
+	 */
+	public static ParseResult tryParse(CharSequence version) {
+		return SemanticVersion.tryParse(version, ParseOptions.strict());
+	}
+	
+	/**
+	 * coerces the given characters in a single pass, which never throws an exception
+	 *
+	 * @param version the characters to parse
+	 * @param options the coercions to apply
+	 * @return the version or the reason, why the characters could not be coerced to a semantic version
+	 */
+	public static ParseResult tryParse(CharSequence version, ParseOptions options) {
+		SemanticVersion       result = new SemanticVersion();
+		SemanticVersionParser parser = new SemanticVersionParser(version, options, true);
+		
+		if (!(result.parse(parser))) {
+			return ParseResult.failure(parser.getError(), parser.getErrorOffset(), parser.getErrorCharacter());
 		}
 		
-		String majorZero = matcher.group("majorzero");
+		return ParseResult.success(result);
+	}
+	
+	/**
+	 * coerces the given characters to a version
+	 *
+	 * @param version the characters to parse
+	 * @param options the coercions to apply, e.g. {@link ParseOptions#lenient()}
+	 * @return the version
+	 * @throws SemanticVersionFormatException if the characters could not be coerced to a semantic version
+	 */
+	public static SemanticVersion parse(CharSequence version, ParseOptions options) {
+		SemanticVersion       result = new SemanticVersion();
+		SemanticVersionParser parser = new SemanticVersionParser(version, options, true);
+		
+		if (!(result.parse(parser))) {
+			throw parser.toException("The given string could not be coerced to a semantic version");
+		}
 		
-		if (majorZero != null) {
-			this.major = Long.valueOf(majorZero);
-			this.minor = Long.valueOf(matcher.group("minorzero"));
-		} else {
-			this.major = Long.valueOf(matcher.group("majornonzero"));
-			this.minor = Long.valueOf(matcher.group("minornonzero"));
+		return result;
+	}
+	
+	/**
+	 * parses ASCII bytes in a single pass without decoding them to a string
+	 *
+	 * @param bytes  the bytes to parse
+	 * @param offset the index of the first byte
+	 * @param length the count of bytes
+	 * @return the version
+	 * @throws SemanticVersionFormatException if the bytes are not a valid semantic version
+	 */
+	public static SemanticVersion parse(byte[] bytes, int offset, int length) {
+		return new SemanticVersion(new AsciiCharSequence(bytes, offset, length));
+	}
+	
+	/**
+	 * parses the ASCII bytes between the position and the limit of the buffer, which are not consumed
+	 *
+	 * @return the version
+	 * @throws SemanticVersionFormatException if the bytes are not a valid semantic version
+	 */
+	public static SemanticVersion parse(ByteBuffer buffer) {
+		return new SemanticVersion(SemanticVersion.remaining(buffer));
+	}
+	
+	/**
+	 * parses ASCII bytes like {@link #parse(byte[], int, int)}, which never throws an exception
+	 *
+	 * @return the version or the reason, why the bytes are not a valid semantic version
+	 */
+	public static ParseResult tryParse(byte[] bytes, int offset, int length) {
+		return SemanticVersion.tryParse(new AsciiCharSequence(bytes, offset, length));
+	}
+	
+	/**
+	 * parses the remaining ASCII bytes like {@link #parse(ByteBuffer)}, which never throws an exception
+	 *
+	 * @return the version or the reason, why the bytes are not a valid semantic version
+	 */
+	public static ParseResult tryParse(ByteBuffer buffer) {
+		return SemanticVersion.tryParse(SemanticVersion.remaining(buffer));
+	}
+	
+	private static CharSequence remaining(ByteBuffer buffer) {
+		return new AsciiCharSequence(buffer, buffer.position(), buffer.remaining());
+	}
+	
+	private boolean parse(SemanticVersionParser parser) {
+		if (!(parser.parse())) {
+			return false;
 		}
 		
-		this.patch = Long.valueOf(matcher.group("patch"));
+		this.major = parser.getMajor();
+		this.minor = parser.getMinor();
+		this.patch = parser.getPatch();
+		this.preRelease = parser.getPreRelease();
+		this.buildMetadata = parser.getBuildMetadata();
 		
-		String release = matcher.group("release");
-		if (release != null) {
-			for (String releasePart : release.split("\\" + partDelimiter)) {
-				if (StringUtils.isNumeric(releasePart)) {
-					this.preRelease.add(Double.valueOf(releasePart));
-				} else {
-					this.preRelease.add(releasePart);
-				}
-			}
+		this.updateSortKeys();
+		
+		return true;
+	}
+	
+	private static Identifiers parseIdentifiers(String identifiers) {
+		if (identifiers == null || identifiers.isEmpty()) {
+			return Identifiers.empty();
 		}
 		
-		String build = matcher.group("build");
-		if (build != null) {
-			for (String buildPart : build.split("\\" + partDelimiter)) {
-				if (StringUtils.isNumeric(buildPart)) {
-					this.buildMetadata.add(Double.valueOf(buildPart));
-				} else {
-					this.buildMetadata.add(buildPart);
-				}
-			}
+		SemanticVersionParser parser = new SemanticVersionParser(identifiers);
+		
+		if (!(parser.parseIdentifiers())) {
+			throw parser.toException("The given identifiers are not valid");
 		}
+		
+		return parser.getPreRelease();
 	}
 	
+	/**
+	 * writes the version in the format of {@link VersionCodec}
+	 */
+	@Override
+	public void writeExternal(ObjectOutput out)
+			throws IOException {
+		VersionCodec.write(this, out);
+	}
+	
+	@Override
+	public void readExternal(ObjectInput in)
+			throws IOException {
+		this.checkMutable();
+		
+		SemanticVersion version = VersionCodec.read(in);
+		
+		this.major = version.major;
+		this.minor = version.minor;
+		this.patch = version.patch;
+		this.preRelease = version.preRelease;
+		this.buildMetadata = version.buildMetadata;
+		
+		this.updateSortKeys();
+	}
+	
+	/**
+	 * checks, if the other object is a {@link SemanticVersion} with the same precedence
+	 * <p>
+	 * Build metadata is ignored.
+	 */
 	@Override
 	public boolean equals(Object obj) {
-		if (obj instanceof String) {
-			return this.equals(new SemanticVersion((String) obj));
+		if (this == obj) {
+			return true;
 		}
 		
 		if (!(obj instanceof SemanticVersion)) {
-			throw new IllegalArgumentException("The other object must be a SemanticVersion!");
+			return false;
 		}
 		
 		SemanticVersion other = (SemanticVersion) obj;
 		
 		return
-				this.getMajor() == other.getMajor()
+				this.sortKeyHigh == other.sortKeyHigh
+				&& this.sortKeyLow == other.sortKeyLow
+				&& this.getMajor() == other.getMajor()
 				&& this.getMinor() == other.getMinor()
 				&& this.getPatch() == other.getPatch()
-				&& CollectionUtils.identical(this.preRelease, other.preRelease);
+				&& this.preRelease.equals(other.preRelease);
 	}
 	
 	@Override
-	public String toString() {
-		String result = this.getMainString();
-		
-		if (this.preRelease.size() != 0) {
-			StringBuilder builder = new StringBuilder(preReleaseDelimiter);
-			
-			for (Object preReleasePart : this.preRelease) {
-				if (preReleasePart instanceof Number) {
-					builder.append(((Number) preReleasePart).longValue());
-				} else {
-					builder.append(preReleasePart);
-				}
-				
-				builder.append(partDelimiter);
-			}
-			
-			builder.setLength(Math.max(builder.length() - partDelimiter.length(), 0));
+	public int hashCode() {
+		int result = this.hash;
+		
+		if (result == 0) {
+			result = Long.hashCode(this.getMajor());
+			result = 31 * result + Long.hashCode(this.getMinor());
+			result = 31 * result + Long.hashCode(this.getPatch());
+			result = 31 * result + this.preRelease.hashCode();
 			
-			result += builder.toString();
+			this.hash = result;
 		}
 		
-		if (this.buildMetadata.size() != 0) {
-			StringBuilder builder = new StringBuilder(buildMetadataDelimiter);
+		return result;
+	}
+	
+	/**
+	 * returns the canonical form of this version, which is cached by immutable versions
+	 */
+	@Override
+	public String toString() {
+		String result = this.string;
+		
+		if (result == null) {
+			result = this.appendTo(new StringBuilder(this.estimateLength()), SemanticVersion.buildMetadataDelimiter.charAt(0)).toString();
 			
-			for (Object buildMetadataPart : this.buildMetadata) {
-				if (buildMetadataPart instanceof Number) {
-					builder.append(((Number) buildMetadataPart).longValue());
-				} else {
-					builder.append(buildMetadataPart);
-				}
-				
-				builder.append(partDelimiter);
+			if (this.immutable) {
+				this.string = result;
 			}
-			
-			builder.setLength(Math.max(builder.length() - partDelimiter.length(), 0));
-			
-			result += builder.toString();
 		}
 		
 		return result;
 	}
 	
-	@Override
-	public int compareTo(SemanticVersion other) {
-		long tMajor = this.getMajor();
-		long tMinor = this.getMinor();
-		long tPatch = this.getPatch();
+	/**
+	 * appends the canonical form of this version
+	 *
+	 * @return the given builder
+	 */
+	public StringBuilder appendTo(StringBuilder builder) {
+		if (this.string != null) {
+			return builder.append(this.string);
+		}
+		
+		return this.appendTo(builder, SemanticVersion.buildMetadataDelimiter.charAt(0));
+	}
+	
+	/**
+	 * appends the canonical form of this version without creating temporary strings
+	 *
+	 * @return the given appendable
+	 * @throws IOException if the appendable throws one
+	 */
+	public Appendable appendTo(Appendable appendable)
+			throws IOException {
+		if (appendable instanceof StringBuilder) {
+			return this.appendTo((StringBuilder) appendable);
+		}
+		if (this.string != null) {
+			return appendable.append(this.string);
+		}
+		
+		return this.format(appendable, SemanticVersion.buildMetadataDelimiter.charAt(0));
+	}
+	
+	/**
+	 * appends the form of {@link #toUrlSaveString()}
+	 *
+	 * @return the given builder
+	 */
+	public StringBuilder appendUrlSaveTo(StringBuilder builder) {
+		return this.appendTo(builder, '_');
+	}
+	
+	/**
+	 * appends the form of {@link #toUrlSaveString()} without creating temporary strings
+	 *
+	 * @return the given appendable
+	 * @throws IOException if the appendable throws one
+	 */
+	public Appendable appendUrlSaveTo(Appendable appendable)
+			throws IOException {
+		return this.format(appendable, '_');
+	}
+	
+	/**
+	 * returns the canonical form of this version as ASCII bytes
+	 */
+	public byte[] toBytes() {
+		if (this.string != null) {
+			return this.string.getBytes(StandardCharsets.US_ASCII);
+		}
 		
-		long oMajor = other.getMajor();
-		long oMinor = other.getMinor();
-		long oPatch = other.getPatch();
+		AsciiAppendable counter = this.appendTo(new AsciiAppendable(null));
+		byte[]          result  = new byte[counter.length()];
 		
-		long majorDiff = tMajor - oMajor;
-		long minorDiff = tMinor - oMinor;
-		long patchDiff = tPatch - oPatch;
+		this.appendTo(new AsciiAppendable(ByteBuffer.wrap(result)));
 		
-		int tPreReleaseParts = this.preRelease.size();
-		int oPreReleaseParts = other.preRelease.size();
-		int preReleaseParts  = Math.max(tPreReleaseParts, oPreReleaseParts);
-		int partsCountDiff   = tPreReleaseParts - oPreReleaseParts;
-		int parts            = preReleaseParts + 3;
-		
-		double increment = NumberUtils.max(new long[]{
-				tMajor,
-				oMajor,
-				tMinor,
-				oMinor,
-				tPatch,
-				oPatch,
-				Math.abs(partsCountDiff),
-				Character.MAX_VALUE
-		});
-		for (Object pr : this.preRelease) {
-			if (pr instanceof Number) {
-				increment = Math.max(increment, ((Number) pr).doubleValue());
+		return result;
+	}
+	
+	/**
+	 * writes the canonical form of this version as ASCII bytes at the position of the buffer
+	 *
+	 * @return the given buffer
+	 * @throws BufferOverflowException if the buffer is too small, in which case its position is not changed
+	 */
+	public ByteBuffer writeTo(ByteBuffer buffer) {
+		int position = buffer.position();
+		
+		try {
+			this.appendTo(new AsciiAppendable(buffer));
+		} catch (BufferOverflowException e) {
+			buffer.position(position);
+			throw e;
+		}
+		
+		return buffer;
+	}
+	
+	private AsciiAppendable appendTo(AsciiAppendable appendable) {
+		try {
+			if (this.string != null) {
+				appendable.append(this.string);
+			} else {
+				this.format(appendable, SemanticVersion.buildMetadataDelimiter.charAt(0));
 			}
-			// TODO lexiographic order...
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
 		}
 		
-		increment = Math.pow(10, Math.ceil(Math.log10(increment)));
-		if (increment < 10) {
-			increment = 10;
+		return appendable;
+	}
+	
+	private StringBuilder appendTo(StringBuilder builder, char buildMetadataDelimiter) {
+		try {
+			this.format(builder, buildMetadataDelimiter);
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
 		}
 		
-		double diff =
-				majorDiff * Math.pow(increment, parts - 1)
-				+ minorDiff * Math.pow(increment, parts - 2)
-				+ patchDiff * Math.pow(increment, parts - 3);
+		return builder;
+	}
+	
+	private Appendable format(Appendable appendable, char buildMetadataDelimiter)
+			throws IOException {
+		SemanticVersion.appendNumber(appendable, this.major);
+		appendable.append(SemanticVersion.partDelimiter.charAt(0));
+		SemanticVersion.appendNumber(appendable, this.minor);
+		appendable.append(SemanticVersion.partDelimiter.charAt(0));
+		SemanticVersion.appendNumber(appendable, this.patch);
+		
+		this.preRelease.appendTo(appendable, SemanticVersion.preReleaseDelimiter.charAt(0));
+		this.buildMetadata.appendTo(appendable, buildMetadataDelimiter);
+		
+		return appendable;
+	}
+	
+	static void appendNumber(Appendable appendable, long number)
+			throws IOException {
+		if (appendable instanceof StringBuilder) {
+			((StringBuilder) appendable).append(number);
+			return;
+		}
 		
-		double partsDiff       = 0;
-		int    comparableParts = Math.min(tPreReleaseParts, oPreReleaseParts);
-		for (int i = 0; i < comparableParts; i++) {
-			Object tPreReleasePart = this.preRelease.get(i);
-			Object oPreReleasePart = other.preRelease.get(i);
-			
-			double partDiff;
-			
-			if (tPreReleasePart instanceof Number && oPreReleasePart instanceof Number) {
-				partDiff = ((Number) tPreReleasePart).doubleValue() - ((Number) oPreReleasePart).doubleValue();
-			} else {
-				// TODO §11: Numeric identifiers always have lower precedence than non-numeric identifiers.
-				
-				String tPartString;
-				String oPartString;
-				
-				if (tPreReleasePart instanceof Number) {
-					tPartString = Long.toString(((Number) tPreReleasePart).longValue());
-				} else {
-					tPartString = tPreReleasePart.toString();
-				}
-				if (oPreReleasePart instanceof Number) {
-					oPartString = Long.toString(((Number) oPreReleasePart).longValue());
-				} else {
-					oPartString = oPreReleasePart.toString();
-				}
-				
-				// TODO calculate real difference
-				partDiff = tPartString.toLowerCase().compareTo(oPartString.toLowerCase());
-			}
-			
-			partsDiff += partDiff * Math.pow(increment, parts - (i + 4));
+		long divisor = 1;
+		while (number / divisor >= 10) {
+			divisor *= 10;
+		}
+		
+		for (; divisor > 0; divisor /= 10) {
+			appendable.append((char) ('0' + number / divisor % 10));
+		}
+	}
+	
+	private int estimateLength() {
+		return 16 + this.preRelease.estimateLength() + this.buildMetadata.estimateLength();
+	}
+	
+	/**
+	 * compares the precedence of two versions
+	 * <p>
+	 * The packed sort keys are compared first. Only if both are equal, the versions are compared field by field.
+	 */
+	@Override
+	public int compareTo(SemanticVersion other) {
+		VersionListener listener = Instrumentation.listener;
+		if (listener != null) {
+			listener.compared(this, other);
 		}
 		
-		if (partsDiff == 0) {
-			partsDiff = partsCountDiff * Math.pow(increment, parts - 4);
+		if (this.sortKeyHigh != other.sortKeyHigh) {
+			return Long.compare(this.sortKeyHigh, other.sortKeyHigh);
+		}
+		if (this.sortKeyLow != other.sortKeyLow) {
+			return Long.compare(this.sortKeyLow, other.sortKeyLow);
 		}
 		
-		if (tPreReleaseParts == 0) {
-			diff += Math.abs(partsDiff);
-		} else if (oPreReleaseParts == 0) {
-			diff -= Math.abs(partsDiff);
-		} else {
-			diff += partsDiff;
+		int result = Long.compare(this.getMajor(), other.getMajor());
+		if (result != 0) {
+			return result;
 		}
 		
-		if (diff > 0) {
-			diff = Math.ceil(diff);
-		} else if (diff < 0) {
-			diff = Math.floor(diff);
+		result = Long.compare(this.getMinor(), other.getMinor());
+		if (result != 0) {
+			return result;
 		}
 		
-		if (diff > Integer.MAX_VALUE) {
-			return Integer.MAX_VALUE;
+		result = Long.compare(this.getPatch(), other.getPatch());
+		if (result != 0) {
+			return result;
 		}
-		if (diff < Integer.MIN_VALUE) {
-			return Integer.MIN_VALUE;
+		
+		int tPreReleaseParts = this.preRelease.size();
+		int oPreReleaseParts = other.preRelease.size();
+		
+		if (tPreReleaseParts == 0 || oPreReleaseParts == 0) {
+			return Integer.compare(oPreReleaseParts, tPreReleaseParts);
+		}
+		
+		int comparableParts = Math.min(tPreReleaseParts, oPreReleaseParts);
+		for (int i = 0; i < comparableParts; i++) {
+			result = this.preRelease.compare(i, other.preRelease, i);
+			if (result != 0) {
+				return result;
+			}
 		}
 		
-		return (int) diff;
+		return Integer.compare(tPreReleaseParts, oPreReleaseParts);
 	}
 	
+	/**
+	 * compares the precedence of this version with the given characters without parsing them
+	 * <p>
+	 * The characters are scanned against the fields of this version without allocations. Build metadata is validated
+	 * but ignored like in {@link #compareTo(SemanticVersion)}.
+	 *
+	 * @param version the characters of a semantic version
+	 * @return a negative number, zero or a positive number, if this version is lower, equal or higher
+	 * @throws SemanticVersionFormatException if the characters are not a valid semantic version
+	 */
+	public int compareTo(CharSequence version) {
+		int result = TextMatcher.compare(this, version, false);
+		
+		if (result == TextMatcher.invalid) {
+			SemanticVersionParser parser = new SemanticVersionParser(version, ParseOptions.strict(), false);
+			parser.parse();
+			
+			throw parser.toException("The given string is not a valid semantic version");
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * tests, if the given characters are a semantic version with the same precedence as this version
+	 * <p>
+	 * Unlike {@link #equals(Object)} with a parsed version, nothing is allocated and the scan stops at the first
+	 * mismatch.
+	 *
+	 * @param version the characters to test
+	 * @return false, if the characters are different or not a valid semantic version
+	 */
+	public boolean matches(CharSequence version) {
+		return TextMatcher.compare(this, version, true) == 0;
+	}
+	
+	/**
+	 * returns an immutable version from the shared {@link VersionCache}
+	 *
+	 * @param version the version to parse
+	 * @return the cached version
+	 */
+	public static SemanticVersion of(String version) {
+		return SemanticVersion.cache.get(version);
+	}
+	
+	/**
+	 * returns the regular expression of a semantic version, which is compiled on the first call
+	 * <p>
+	 * Its named groups expose the parts of a match. Parsing and validation do not use it.
+	 */
+	public static Pattern getVersionPattern() {
+		return PatternHolder.versionPattern;
+	}
+	
+	public static VersionCache getCache() {
+		return SemanticVersion.cache;
+	}
+	
+	/**
+	 * replaces the shared cache of {@link #of(String)} by an empty one
+	 *
+	 * @param maximumSize the maximum count of cached versions
+	 */
+	public static void setCacheSize(int maximumSize) {
+		SemanticVersion.cache = new VersionCache(maximumSize);
+	}
+	
+	/**
+	 * checks the given string in a single pass, which accepts the same language as {@link #getVersionPattern()}
+	 */
 	public static boolean isValid(String version) {
-		return versionPattern.matcher(version).matches();
+		return new SemanticVersionParser(version, ParseOptions.strict(), false).parse();
+	}
+	
+	/**
+	 * checks ASCII bytes like {@link #isValid(String)} without decoding them to a string
+	 */
+	public static boolean isValid(byte[] bytes, int offset, int length) {
+		return new SemanticVersionParser(new AsciiCharSequence(bytes, offset, length), ParseOptions.strict(), false).parse();
+	}
+	
+	/**
+	 * checks the ASCII bytes between the position and the limit of the buffer, which are not consumed
+	 */
+	public static boolean isValid(ByteBuffer buffer) {
+		return new SemanticVersionParser(SemanticVersion.remaining(buffer), ParseOptions.strict(), false).parse();
 	}
 	
 	public void setMajor(long major) {
+		this.checkMutable();
+		
 		if (major < 0) {
 			throw new IllegalArgumentException("Major must not be negative!");
 		}
@@ -291,9 +653,13 @@ public class SemanticVersion
 		}
 		
 		this.major = major;
+		
+		this.updateSortKeys();
 	}
 	
 	public void setMinor(long minor) {
+		this.checkMutable();
+		
 		if (minor < 0) {
 			throw new IllegalArgumentException("Minor must not be negative!");
 		}
@@ -303,32 +669,71 @@ public class SemanticVersion
 		}
 		
 		this.minor = minor;
+		
+		this.updateSortKeys();
 	}
 	
 	public void setPatch(long patch) {
+		this.checkMutable();
+		
 		if (patch < 0) {
 			throw new IllegalArgumentException("Patch must not be negative!");
 		}
 		
 		this.patch = patch;
+		
+		this.updateSortKeys();
 	}
 	
-	public String getMainString() {
-		return String.format("%s.%s.%s", this.getMajor(), this.getMinor(), this.getPatch());
-	}
-	
-	public boolean isSnapshot() {
-		if (this.preRelease.size() != 1) {
-			return false;
+	/**
+	 * @return this version, if it is already immutable, otherwise an immutable copy
+	 */
+	public SemanticVersion toImmutable() {
+		if (this.immutable) {
+			return this;
 		}
 		
-		Object preReleasePart = this.preRelease.get(0);
+		SemanticVersion copy = new SemanticVersion(this);
+		copy.makeImmutable();
 		
-		if (preReleasePart instanceof String) {
-			return ((String) preReleasePart).equalsIgnoreCase("SNAPSHOT");
+		return copy;
+	}
+	
+	void makeImmutable() {
+		this.immutable = true;
+	}
+	
+	private void checkMutable() {
+		if (this.immutable) {
+			throw new UnsupportedOperationException("This version is immutable!");
 		}
-		
-		return false;
+	}
+	
+	private void updateSortKeys() {
+		this.sortKeyHigh = SortKeys.high(this.major, this.minor, this.patch);
+		this.sortKeyLow = SortKeys.low(this.sortKeyHigh, this.preRelease);
+		this.hash = 0;
+	}
+	
+	public Identifiers getPreRelease() {
+		return this.preRelease;
+	}
+	
+	public Identifiers getBuildMetadata() {
+		return this.buildMetadata;
+	}
+	
+	public String getMainString() {
+		return new StringBuilder(24)
+				.append(this.major).append(SemanticVersion.partDelimiter)
+				.append(this.minor).append(SemanticVersion.partDelimiter)
+				.append(this.patch).toString();
+	}
+	
+	public boolean isSnapshot() {
+		return this.preRelease.size() == 1
+		       && !(this.preRelease.isNumeric(0))
+		       && this.preRelease.getString(0).equalsIgnoreCase("SNAPSHOT");
 	}
 	
 	public boolean isRelease() {
@@ -336,35 +741,62 @@ public class SemanticVersion
 	}
 	
 	public long getReleaseCandidateNumber() {
-		long result = -1;
-		
-		if (this.preRelease.size() < 1) {
-			return result;
+		if (this.preRelease.isEmpty()
+		    || this.preRelease.isNumeric(0)
+		    || !(this.preRelease.getString(0).equalsIgnoreCase("RC"))) {
+			return -1;
 		}
 		
-		Object preReleasePart = this.preRelease.get(0);
-		if (!(preReleasePart instanceof String)
-		    || !(((String) preReleasePart).equalsIgnoreCase("RC"))) {
-			return result;
-		}
-		
-		result = 0;
-		
-		if (this.preRelease.size() >= 2) {
-			preReleasePart = this.preRelease.get(1);
-			if (preReleasePart instanceof Number) {
-				result = ((Number) preReleasePart).longValue();
-			}
+		if (this.preRelease.size() >= 2 && this.preRelease.isNumeric(1)) {
+			return this.preRelease.getNumber(1);
 		}
 		
-		return result;
+		return 0;
 	}
 	
 	public boolean isInitialDevelopment() {
 		return this.major <= 0;
 	}
 	
+	/**
+	 * @return true, if this version is a release and not in the initial development
+	 */
+	public boolean isStable() {
+		return this.isRelease() && !(this.isInitialDevelopment());
+	}
+	
 	public String toUrlSaveString() {
-		return this.toString().replaceAll("\\+", "_");
+		if (this.buildMetadata.isEmpty()) {
+			return this.toString();
+		}
+		
+		return this.appendUrlSaveTo(new StringBuilder(this.estimateLength())).toString();
+	}
+	
+	private static final class PatternHolder {
+		private static final Pattern versionPattern = Pattern.compile("(?<complete>"
+		                                                              + "(?<main>"
+		                                                              + "("
+		                                                              + "("
+		                                                              + "(?<majorzero>0?)"
+		                                                              + "\\" + partDelimiter + "(?<minorzero>[1-9][\\d]*)"
+		                                                              + ")"
+		                                                              + "|"
+		                                                              + "("
+		                                                              + "(?<majornonzero>[1-9]\\d*)"
+		                                                              + "\\" + partDelimiter + "(?<minornonzero>" + intRegEx + ")"
+		                                                              + ")"
+		                                                              + ")"
+		                                                              + "(\\" + partDelimiter + "(?<patch>" + intRegEx + "))?"
+		                                                              + ")"
+		                                                              + "(" + preReleaseDelimiter + "(?<release>"
+		                                                              + "(?<release1>" + wordRegEx + ")"
+		                                                              + "(\\" + partDelimiter + "(?<releasen>" + wordRegEx + "))*"
+		                                                              + "))?"
+		                                                              + "((\\" + buildMetadataDelimiter + "|_)(?<build>"
+		                                                              + "(?<build1>" + wordRegEx + ")"
+		                                                              + "(\\" + partDelimiter + "(?<buildn>" + wordRegEx + "))*"
+		                                                              + "))?"
+		                                                              + ")");
 	}
 }
\ No newline at end of file
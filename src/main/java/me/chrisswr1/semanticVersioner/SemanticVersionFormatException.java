@@ -0,0 +1,36 @@
+package me.chrisswr1.semanticVersioner;
+
+import lombok.Getter;
+
+/**
+ * thrown, if a {@link String} could not be parsed to a {@link SemanticVersion}
+ *
+ * @author chwe
+ */
+public class SemanticVersionFormatException
+		extends IllegalArgumentException {
+	private static final long serialVersionUID = 1L;
+	
+	/**
+	 * the offset of the first character, which violates the format
+	 */
+	@Getter
+	private final int errorOffset;
+	
+	/**
+	 * the reason of the failure or null, if it is not known
+	 */
+	@Getter
+	private final ParseError error;
+	
+	public SemanticVersionFormatException(String message, int errorOffset) {
+		this(message, null, errorOffset);
+	}
+	
+	public SemanticVersionFormatException(String message, ParseError error, int errorOffset) {
+		super(message);
+		
+		this.error = error;
+		this.errorOffset = errorOffset;
+	}
+}
\ No newline at end of file
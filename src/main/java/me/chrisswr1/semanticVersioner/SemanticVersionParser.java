@@ -0,0 +1,407 @@
+package me.chrisswr1.semanticVersioner;
+
+import lombok.Getter;
+
+
+/**
+ * single pass scanner, which accepts the same language as {@link SemanticVersion#getVersionPattern()}
+ * <p>
+ * If the identifier lists are null, the input is only validated. The {@link ParseOptions} enable coercions of
+ * real-world version strings.
+ *
+ * @author chwe
+ */
+class SemanticVersionParser {
+	private static final String[] releaseQualifiers = {"final", "ga", "release", "sp"};
+	
+	private final CharSequence        input;
+	private final int                 end;
+	private final Identifiers.Builder preRelease;
+	private final Identifiers.Builder buildMetadata;
+	private final ParseOptions        options;
+	private       int                 position;
+	
+	@Getter
+	private long       major;
+	@Getter
+	private long       minor;
+	@Getter
+	private long       patch;
+	@Getter
+	private ParseError error;
+	@Getter
+	private int        errorOffset = -1;
+	
+	private long number;
+	
+	SemanticVersionParser(CharSequence input) {
+		this(input, ParseOptions.strict(), true);
+	}
+	
+	/**
+	 * @param collect false, if the input is only validated
+	 */
+	SemanticVersionParser(CharSequence input, ParseOptions options, boolean collect) {
+		this.input = input;
+		this.end = input.length();
+		this.preRelease = collect ? new Identifiers.Builder() : null;
+		this.buildMetadata = collect ? new Identifiers.Builder() : null;
+		this.options = options;
+	}
+	
+	Identifiers getPreRelease() {
+		return this.preRelease.build();
+	}
+	
+	Identifiers getBuildMetadata() {
+		return this.buildMetadata.build();
+	}
+	
+	/**
+	 * scans the input and notifies the {@link Instrumentation#listener}, if there is one
+	 */
+	boolean parse() {
+		VersionListener listener = Instrumentation.listener;
+		if (listener == null) {
+			return this.scan();
+		}
+		
+		long    start  = System.nanoTime();
+		boolean result = this.scan();
+		long    nanos  = System.nanoTime() - start;
+		
+		if (this.preRelease == null) {
+			listener.validated(this.input, this.error, nanos);
+		} else {
+			listener.parsed(this.input, this.error, nanos);
+		}
+		
+		return result;
+	}
+	
+	private boolean scan() {
+		if (this.options.isStripPrefix()) {
+			while (this.position < this.end && SemanticVersionParser.isPrefix(this.input.charAt(this.position))) {
+				this.position++;
+			}
+		}
+		
+		int majorStart  = this.position;
+		int majorDigits = this.scanNumber();
+		if (majorDigits < 0) {
+			return false;
+		}
+		
+		boolean majorZero = majorDigits == 0 || this.number == 0;
+		this.major = this.number;
+		
+		if (this.isQualifierStart() || !(this.accept(SemanticVersion.partDelimiter.charAt(0)))) {
+			if (!(this.options.isPadParts()) || majorDigits == 0) {
+				return this.fail(majorDigits == 0 ? ParseError.EXPECTED_DIGIT : ParseError.EXPECTED_DELIMITER, this.position);
+			}
+			if (majorZero) {
+				return this.fail(ParseError.ZERO_VERSION, majorStart);
+			}
+			
+			return this.parseSuffix();
+		}
+		
+		int minorStart  = this.position;
+		int minorDigits = this.scanNumber();
+		if (minorDigits < 0) {
+			return false;
+		}
+		if (minorDigits == 0) {
+			return this.fail(ParseError.EXPECTED_DIGIT, minorStart);
+		}
+		if (majorZero && this.number == 0) {
+			return this.fail(ParseError.ZERO_VERSION, majorStart);
+		}
+		
+		this.minor = this.number;
+		
+		if (!(this.isQualifierStart()) && this.accept(SemanticVersion.partDelimiter.charAt(0))) {
+			int patchStart  = this.position;
+			int patchDigits = this.scanNumber();
+			if (patchDigits < 0) {
+				return false;
+			}
+			if (patchDigits == 0) {
+				return this.fail(ParseError.EXPECTED_DIGIT, patchStart);
+			}
+			
+			this.patch = this.number;
+		}
+		
+		return this.parseSuffix();
+	}
+	
+	/**
+	 * scans the numeric parts after the patch, the pre-release and the build metadata
+	 */
+	private boolean parseSuffix() {
+		ParseOptions.Placement extraParts = this.options.getExtraParts();
+		
+		if (extraParts != ParseOptions.Placement.REJECT) {
+			Identifiers.Builder target = extraParts == ParseOptions.Placement.PRE_RELEASE ? this.preRelease : this.buildMetadata;
+			
+			while (this.isDelimiterBeforeDigit()) {
+				this.position++;
+				
+				if (this.scanNumber() < 0) {
+					return false;
+				}
+				if (target != null) {
+					target.addNumber(this.number);
+				}
+			}
+		}
+		
+		int     qualifierStart = this.preRelease == null ? 0 : this.preRelease.size();
+		boolean qualifier      = this.isQualifierStart();
+		
+		if (qualifier || this.accept(SemanticVersion.preReleaseDelimiter.charAt(0))) {
+			if (qualifier) {
+				this.position++;
+			}
+			
+			if (!(this.scanIdentifiers(this.preRelease))) {
+				return false;
+			}
+			
+			if (this.options.isMavenQualifiers() && this.preRelease != null) {
+				this.coerceQualifiers(qualifierStart);
+			}
+		}
+		
+		if (this.accept(SemanticVersion.buildMetadataDelimiter.charAt(0)) || this.accept('_')) {
+			if (!(this.scanIdentifiers(this.buildMetadata))) {
+				return false;
+			}
+		}
+		
+		if (this.position != this.end) {
+			return this.fail(ParseError.UNEXPECTED_CHARACTER, this.position);
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * moves a single release qualifier into the build metadata and splits qualifiers like {@code RC1}
+	 */
+	private void coerceQualifiers(int start) {
+		if (this.preRelease.size() == start + 1 && SemanticVersionParser.isReleaseQualifier(this.preRelease.getString(start))) {
+			this.preRelease.moveLastTo(this.buildMetadata);
+			return;
+		}
+		
+		for (int i = start; i < this.preRelease.size(); i++) {
+			String qualifier = this.preRelease.getString(i);
+			if (qualifier == null) {
+				continue;
+			}
+			
+			int letters = 0;
+			while (letters < qualifier.length() && Character.isLetter(qualifier.charAt(letters))) {
+				letters++;
+			}
+			
+			int digits = qualifier.length() - letters;
+			if (letters == 0 || digits == 0 || digits > 18) {
+				continue;
+			}
+			
+			long value = 0;
+			for (int j = letters; j < qualifier.length(); j++) {
+				char c = qualifier.charAt(j);
+				if (c < '0' || c > '9') {
+					value = -1;
+					break;
+				}
+				
+				value = value * 10 + (c - '0');
+			}
+			
+			if (value >= 0) {
+				this.preRelease.setString(i, qualifier.substring(0, letters).intern());
+				this.preRelease.insertNumber(++i, value);
+			}
+		}
+	}
+	
+	private static boolean isReleaseQualifier(String identifier) {
+		if (identifier == null) {
+			return false;
+		}
+		
+		for (String qualifier : SemanticVersionParser.releaseQualifiers) {
+			if (qualifier.equalsIgnoreCase(identifier)) {
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	private static boolean isPrefix(char c) {
+		return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || c == '-' || c == '_' || c == '/' || Character.isWhitespace(c);
+	}
+	
+	/**
+	 * @return true, if Maven qualifiers are accepted and a delimiter, which is followed by a letter, is next
+	 */
+	private boolean isQualifierStart() {
+		if (!(this.options.isMavenQualifiers()) || this.position + 1 >= this.end
+		    || this.input.charAt(this.position) != SemanticVersion.partDelimiter.charAt(0)) {
+			return false;
+		}
+		
+		char c = this.input.charAt(this.position + 1);
+		
+		return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+	}
+	
+	private boolean isDelimiterBeforeDigit() {
+		if (this.position + 1 >= this.end || this.input.charAt(this.position) != SemanticVersion.partDelimiter.charAt(0)) {
+			return false;
+		}
+		
+		char c = this.input.charAt(this.position + 1);
+		
+		return c >= '0' && c <= '9';
+	}
+	
+	/**
+	 * scans the complete input as dot separated identifiers, which are collected as pre-release
+	 */
+	boolean parseIdentifiers() {
+		if (!(this.scanIdentifiers(this.preRelease))) {
+			return false;
+		}
+		
+		if (this.position != this.end) {
+			return this.fail(ParseError.UNEXPECTED_CHARACTER, this.position);
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * scans a numeric part, which has no leading zeros unless they are allowed, into {@link #number}
+	 *
+	 * @return the count of scanned digits or -1, if the number is invalid
+	 */
+	private int scanNumber() {
+		int  start = this.position;
+		long value = 0;
+		
+		while (this.position < this.end) {
+			int digit = this.input.charAt(this.position) - '0';
+			if (digit < 0 || digit > 9) {
+				break;
+			}
+			
+			if (value > (Long.MAX_VALUE - digit) / 10) {
+				return this.failNumber(ParseError.NUMBER_TOO_LARGE, start);
+			}
+			
+			value = value * 10 + digit;
+			this.position++;
+		}
+		
+		int digits = this.position - start;
+		if (digits > 1 && this.input.charAt(start) == '0' && !(this.options.isLeadingZeros())) {
+			return this.failNumber(ParseError.LEADING_ZERO, start);
+		}
+		
+		this.number = value;
+		
+		return digits;
+	}
+	
+	private boolean scanIdentifiers(Identifiers.Builder identifiers) {
+		do {
+			int     start   = this.position;
+			boolean numeric = true;
+			long    value   = 0;
+			
+			while (this.position < this.end) {
+				char c = this.input.charAt(this.position);
+				
+				if (c >= '0' && c <= '9') {
+					if (numeric && value >= 0) {
+						int digit = c - '0';
+						value = value > (Long.MAX_VALUE - digit) / 10 ? -1 : value * 10 + digit;
+					}
+				} else if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || c == '-') {
+					numeric = false;
+				} else {
+					break;
+				}
+				
+				this.position++;
+			}
+			
+			if (this.position == start) {
+				return this.fail(ParseError.EXPECTED_IDENTIFIER, start);
+			}
+			
+			if (identifiers == null) {
+				continue;
+			}
+			
+			if (!(numeric)) {
+				identifiers.addString(this.input.subSequence(start, this.position).toString().intern());
+			} else if (value >= 0) {
+				identifiers.addNumber(value);
+			} else {
+				identifiers.addDigits(this.input.subSequence(start, this.position));
+			}
+		} while (this.accept(SemanticVersion.partDelimiter.charAt(0)));
+		
+		return true;
+	}
+	
+	private boolean accept(char c) {
+		if (this.position < this.end && this.input.charAt(this.position) == c) {
+			this.position++;
+			return true;
+		}
+		
+		return false;
+	}
+	
+	private boolean fail(ParseError error, int offset) {
+		this.error = error;
+		this.errorOffset = offset;
+		
+		return false;
+	}
+	
+	private int failNumber(ParseError error, int offset) {
+		this.fail(error, offset);
+		
+		return -1;
+	}
+	
+	/**
+	 * @return the character at the error offset or 0, if it is the end of the input
+	 */
+	char getErrorCharacter() {
+		return this.errorOffset >= 0 && this.errorOffset < this.end ? this.input.charAt(this.errorOffset) : '\0';
+	}
+	
+	String getErrorMessage() {
+		return this.error == null ? null : ParseResult.describe(this.error, this.getErrorCharacter());
+	}
+	
+	/**
+	 * @param description the start of the message, which is followed by the error
+	 */
+	SemanticVersionFormatException toException(String description) {
+		return new SemanticVersionFormatException(
+				description + ": " + this.getErrorMessage() + " at offset " + this.errorOffset + "!",
+				this.error, this.errorOffset);
+	}
+}
\ No newline at end of file
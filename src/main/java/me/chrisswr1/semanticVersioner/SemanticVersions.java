@@ -0,0 +1,278 @@
+package me.chrisswr1.semanticVersioner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * bulk sorting and deduplication of {@link SemanticVersion}s
+ * <p>
+ * The sort keys of all versions are copied into primitive arrays once, which are merge sorted together with the
+ * versions. Large inputs are sorted in parallel on the common {@link ForkJoinPool}. Versions with equal precedence are
+ * ordered by {@link #compare(SemanticVersion, SemanticVersion)}, so the result does not depend on the input order.
+ *
+ * @author chwe
+ */
+public final class SemanticVersions {
+	private static final int insertionThreshold = 32;
+	private static final int parallelThreshold  = 1 << 13;
+	
+	private SemanticVersions() {
+	}
+	
+	/**
+	 * compares the precedence and then the build metadata of two versions
+	 * <p>
+	 * Versions without build metadata come first, the other ones are compared identifier by identifier like pre-release
+	 * identifiers and a shorter build metadata comes before a longer one.
+	 */
+	public static int compare(SemanticVersion version1, SemanticVersion version2) {
+		int result = version1.compareTo(version2);
+		if (result != 0) {
+			return result;
+		}
+		
+		return SemanticVersions.compareBuildMetadata(version1.getBuildMetadata(), version2.getBuildMetadata());
+	}
+	
+	private static int compareBuildMetadata(Identifiers identifiers1, Identifiers identifiers2) {
+		int size1 = identifiers1.size();
+		int size2 = identifiers2.size();
+		
+		if (size1 == 0 || size2 == 0) {
+			return Integer.compare(size1, size2);
+		}
+		
+		for (int i = 0; i < Math.min(size1, size2); i++) {
+			int result = identifiers1.compare(i, identifiers2, i);
+			if (result != 0) {
+				return result;
+			}
+		}
+		
+		return Integer.compare(size1, size2);
+	}
+	
+	/**
+	 * sorts the versions by {@link #compare(SemanticVersion, SemanticVersion)}
+	 */
+	public static void sort(SemanticVersion[] versions) {
+		int length = versions.length;
+		if (length < 2) {
+			return;
+		}
+		
+		Buffer main = new Buffer(versions);
+		Buffer aux  = main.copy();
+		
+		if (length <= SemanticVersions.parallelThreshold) {
+			SemanticVersions.sort(aux, main, 0, length);
+		} else {
+			ForkJoinPool.commonPool().invoke(new SortTask(aux, main, 0, length));
+		}
+	}
+	
+	/**
+	 * @return a new list of the sorted versions
+	 */
+	public static List<SemanticVersion> sort(Collection<? extends SemanticVersion> versions) {
+		SemanticVersion[] result = versions.toArray(new SemanticVersion[0]);
+		SemanticVersions.sort(result);
+		
+		return new ArrayList<>(Arrays.asList(result));
+	}
+	
+	/**
+	 * sorts the versions and removes all versions with equal precedence but the first one
+	 * <p>
+	 * Of several versions with the same precedence, the one without or with the lowest build metadata is kept.
+	 *
+	 * @return a new array of the distinct versions, while the given array is not modified
+	 */
+	public static SemanticVersion[] sortDistinct(SemanticVersion[] versions) {
+		SemanticVersion[] result = versions.clone();
+		SemanticVersions.sort(result);
+		
+		return Arrays.copyOf(result, SemanticVersions.distinct(result));
+	}
+	
+	/**
+	 * @return a new list of the distinct versions, see {@link #sortDistinct(SemanticVersion[])}
+	 */
+	public static List<SemanticVersion> sortDistinct(Collection<? extends SemanticVersion> versions) {
+		SemanticVersion[] result = versions.toArray(new SemanticVersion[0]);
+		SemanticVersions.sort(result);
+		
+		return new ArrayList<>(Arrays.asList(result).subList(0, SemanticVersions.distinct(result)));
+	}
+	
+	/**
+	 * moves the first version of each run of equal precedence to the front
+	 *
+	 * @return the count of distinct versions
+	 */
+	private static int distinct(SemanticVersion[] sorted) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		
+		int count = 1;
+		for (int i = 1; i < sorted.length; i++) {
+			SemanticVersion last    = sorted[count - 1];
+			SemanticVersion current = sorted[i];
+			
+			if (last.getSortKeyHigh() != current.getSortKeyHigh()
+			    || last.getSortKeyLow() != current.getSortKeyLow()
+			    || last.compareTo(current) != 0) {
+				sorted[count++] = current;
+			}
+		}
+		
+		return count;
+	}
+	
+	/**
+	 * sorts the range of source into target, while both hold the same elements in that range
+	 */
+	private static void sort(Buffer source, Buffer target, int from, int to) {
+		if (to - from <= SemanticVersions.insertionThreshold) {
+			target.insertionSort(from, to);
+			return;
+		}
+		
+		int middle = (from + to) >>> 1;
+		
+		SemanticVersions.sort(target, source, from, middle);
+		SemanticVersions.sort(target, source, middle, to);
+		source.mergeInto(target, from, middle, to);
+	}
+	
+	/**
+	 * sort keys and versions in parallel arrays
+	 */
+	private static final class Buffer {
+		private final long[]            highs;
+		private final long[]            lows;
+		private final SemanticVersion[] versions;
+		
+		Buffer(SemanticVersion[] versions) {
+			this.highs = new long[versions.length];
+			this.lows = new long[versions.length];
+			this.versions = versions;
+			
+			for (int i = 0; i < versions.length; i++) {
+				this.highs[i] = versions[i].getSortKeyHigh();
+				this.lows[i] = versions[i].getSortKeyLow();
+			}
+		}
+		
+		private Buffer(long[] highs, long[] lows, SemanticVersion[] versions) {
+			this.highs = highs;
+			this.lows = lows;
+			this.versions = versions;
+		}
+		
+		Buffer copy() {
+			return new Buffer(this.highs.clone(), this.lows.clone(), this.versions.clone());
+		}
+		
+		private static int compare(long high1, long low1, SemanticVersion version1, long high2, long low2, SemanticVersion version2) {
+			if (high1 != high2) {
+				return Long.compare(high1, high2);
+			}
+			if (low1 != low2) {
+				return Long.compare(low1, low2);
+			}
+			
+			return SemanticVersions.compare(version1, version2);
+		}
+		
+		void insertionSort(int from, int to) {
+			for (int i = from + 1; i < to; i++) {
+				long            high    = this.highs[i];
+				long            low     = this.lows[i];
+				SemanticVersion version = this.versions[i];
+				
+				int j = i - 1;
+				while (j >= from && Buffer.compare(this.highs[j], this.lows[j], this.versions[j], high, low, version) > 0) {
+					this.highs[j + 1] = this.highs[j];
+					this.lows[j + 1] = this.lows[j];
+					this.versions[j + 1] = this.versions[j];
+					j--;
+				}
+				
+				this.highs[j + 1] = high;
+				this.lows[j + 1] = low;
+				this.versions[j + 1] = version;
+			}
+		}
+		
+		/**
+		 * merges the sorted ranges [from, middle) and [middle, to) into the target, preferring the left range on ties
+		 */
+		void mergeInto(Buffer target, int from, int middle, int to) {
+			int left  = from;
+			int right = middle;
+			
+			if (Buffer.compare(
+					this.highs[middle - 1], this.lows[middle - 1], this.versions[middle - 1],
+					this.highs[middle], this.lows[middle], this.versions[middle]) <= 0) {
+				System.arraycopy(this.highs, from, target.highs, from, to - from);
+				System.arraycopy(this.lows, from, target.lows, from, to - from);
+				System.arraycopy(this.versions, from, target.versions, from, to - from);
+				return;
+			}
+			
+			for (int i = from; i < to; i++) {
+				int source;
+				
+				if (right >= to || (left < middle && Buffer.compare(
+						this.highs[left], this.lows[left], this.versions[left],
+						this.highs[right], this.lows[right], this.versions[right]) <= 0)) {
+					source = left++;
+				} else {
+					source = right++;
+				}
+				
+				target.highs[i] = this.highs[source];
+				target.lows[i] = this.lows[source];
+				target.versions[i] = this.versions[source];
+			}
+		}
+	}
+	
+	private static final class SortTask
+			extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		
+		private final Buffer source;
+		private final Buffer target;
+		private final int    from;
+		private final int    to;
+		
+		SortTask(Buffer source, Buffer target, int from, int to) {
+			this.source = source;
+			this.target = target;
+			this.from = from;
+			this.to = to;
+		}
+		
+		@Override
+		protected void compute() {
+			if (this.to - this.from <= SemanticVersions.parallelThreshold) {
+				SemanticVersions.sort(this.source, this.target, this.from, this.to);
+				return;
+			}
+			
+			int middle = (this.from + this.to) >>> 1;
+			
+			RecursiveAction.invokeAll(
+					new SortTask(this.target, this.source, this.from, middle),
+					new SortTask(this.target, this.source, middle, this.to));
+			this.source.mergeInto(this.target, this.from, middle, this.to);
+		}
+	}
+}
\ No newline at end of file
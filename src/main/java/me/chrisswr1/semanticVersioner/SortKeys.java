@@ -0,0 +1,113 @@
+package me.chrisswr1.semanticVersioner;
+
+/**
+ * calculates the packed sort keys of a {@link SemanticVersion}
+ * <p>
+ * If two keys differ, they order the same way as {@link SemanticVersion#compareTo(SemanticVersion)}. If they are equal,
+ * the versions have to be compared completely.
+ *
+ * @author chwe
+ */
+final class SortKeys {
+	private static final int  partBits        = 21;
+	private static final long partMax         = (1L << partBits) - 1;
+	private static final int  charBits        = 6;
+	private static final int  chars           = 10;
+	private static final long numericMax      = 1L << 60;
+	private static final long alphanumericTag = 1L << 62;
+	private static final long withMore        = 1;
+	private static final long truncated       = 2;
+	
+	private SortKeys() {
+	}
+	
+	/**
+	 * packs major, minor and patch with 21 bits each
+	 * <p>
+	 * If a part does not fit, it is saturated and all following parts are dropped.
+	 */
+	static long high(long major, long minor, long patch) {
+		if (major >= SortKeys.partMax) {
+			return SortKeys.partMax << (2 * SortKeys.partBits);
+		}
+		if (minor >= SortKeys.partMax) {
+			return (major << (2 * SortKeys.partBits)) | (SortKeys.partMax << SortKeys.partBits);
+		}
+		
+		return (major << (2 * SortKeys.partBits)) | (minor << SortKeys.partBits) | Math.min(patch, SortKeys.partMax);
+	}
+	
+	private static boolean isExact(long high) {
+		return (high >>> (2 * SortKeys.partBits)) != SortKeys.partMax
+		       && ((high >>> SortKeys.partBits) & SortKeys.partMax) != SortKeys.partMax
+		       && (high & SortKeys.partMax) != SortKeys.partMax;
+	}
+	
+	/**
+	 * packs the first pre-release identifier
+	 * <p>
+	 * Releases get the highest key, numeric identifiers are stored as value and alphanumeric identifiers with their
+	 * first ten case folded characters.
+	 */
+	static long low(long high, Identifiers preRelease) {
+		if (!(SortKeys.isExact(high))) {
+			return 0;
+		}
+		
+		int size = preRelease.size();
+		if (size == 0) {
+			return Long.MAX_VALUE;
+		}
+		
+		if (preRelease.isNumeric(0)) {
+			long value = preRelease.getNumber(0);
+			if (value >= SortKeys.numericMax) {
+				return SortKeys.numericMax << 1;
+			}
+			
+			return (value << 1) | (size > 1 ? SortKeys.withMore : 0);
+		}
+		
+		String  identifier = preRelease.getString(0);
+		int     length     = identifier.length();
+		long    packed     = 0;
+		boolean lowerCase  = true;
+		
+		for (int i = 0; i < SortKeys.chars; i++) {
+			packed <<= SortKeys.charBits;
+			
+			if (i < length) {
+				char c = identifier.charAt(i);
+				
+				if (c >= 'A' && c <= 'Z') {
+					lowerCase = false;
+					c += 'a' - 'A';
+				}
+				
+				packed |= SortKeys.code(c);
+			}
+		}
+		
+		long flags;
+		if (length > SortKeys.chars) {
+			flags = SortKeys.truncated;
+		} else if (lowerCase && size > 1) {
+			flags = SortKeys.withMore;
+		} else {
+			flags = 0;
+		}
+		
+		return SortKeys.alphanumericTag | (packed << 2) | flags;
+	}
+	
+	private static long code(char c) {
+		if (c == '-') {
+			return 1;
+		}
+		if (c <= '9') {
+			return 2 + (c - '0');
+		}
+		
+		return 12 + (c - 'a');
+	}
+}
\ No newline at end of file
@@ -0,0 +1,181 @@
+package me.chrisswr1.semanticVersioner;
+
+/**
+ * compares a {@link SemanticVersion} with characters, which are scanned by the grammar of
+ * {@link SemanticVersionParser} but not parsed into a version
+ * <p>
+ * Only local variables are used, so no objects are allocated unless a numeric identifier of the characters exceeds a
+ * long.
+ *
+ * @author chwe
+ */
+final class TextMatcher {
+	/**
+	 * the result for characters, which are not a valid semantic version
+	 */
+	static final int invalid = Integer.MIN_VALUE;
+	
+	private static final char partDelimiter       = SemanticVersion.partDelimiter.charAt(0);
+	private static final char preReleaseDelimiter = SemanticVersion.preReleaseDelimiter.charAt(0);
+	
+	private TextMatcher() {
+	}
+	
+	/**
+	 * compares the precedence of the version with the characters
+	 *
+	 * @param stopAtMismatch true, if the scan stops at the first difference instead of validating the rest
+	 * @return -1, 0 or 1 or {@link #invalid}, which may also be returned for different versions, if the scan stops early
+	 */
+	static int compare(SemanticVersion version, CharSequence text, boolean stopAtMismatch) {
+		int end      = text.length();
+		int position = 0;
+		
+		int  majorEnd = TextMatcher.skipDigits(text, position, end);
+		long major    = TextMatcher.number(text, position, majorEnd);
+		if (major < 0 || majorEnd >= end || text.charAt(majorEnd) != TextMatcher.partDelimiter) {
+			return TextMatcher.invalid;
+		}
+		
+		int result = Long.compare(version.getMajor(), major);
+		if (result != 0 && stopAtMismatch) {
+			return result;
+		}
+		
+		position = majorEnd + 1;
+		
+		int  minorEnd = TextMatcher.skipDigits(text, position, end);
+		long minor    = TextMatcher.number(text, position, minorEnd);
+		if (minorEnd == position || minor < 0 || (major == 0 && minor == 0)) {
+			return TextMatcher.invalid;
+		}
+		
+		if (result == 0) {
+			result = Long.compare(version.getMinor(), minor);
+		}
+		
+		position = minorEnd;
+		
+		long patch = 0;
+		if (position < end && text.charAt(position) == TextMatcher.partDelimiter) {
+			int patchEnd = TextMatcher.skipDigits(text, ++position, end);
+			
+			patch = TextMatcher.number(text, position, patchEnd);
+			if (patchEnd == position || patch < 0) {
+				return TextMatcher.invalid;
+			}
+			
+			position = patchEnd;
+		}
+		
+		if (result == 0) {
+			result = Long.compare(version.getPatch(), patch);
+		}
+		if (result != 0 && stopAtMismatch) {
+			return result;
+		}
+		
+		Identifiers preRelease = version.getPreRelease();
+		int         size       = preRelease.size();
+		int         count      = 0;
+		
+		if (position < end && text.charAt(position) == TextMatcher.preReleaseDelimiter) {
+			do {
+				int identifierEnd = TextMatcher.skipIdentifier(text, ++position, end);
+				if (identifierEnd == position) {
+					return TextMatcher.invalid;
+				}
+				
+				if (result == 0) {
+					result = count < size ? preRelease.compare(count, text, position, identifierEnd) : size == 0 ? 1 : -1;
+					if (result != 0 && stopAtMismatch) {
+						return result;
+					}
+				}
+				
+				count++;
+				position = identifierEnd;
+			} while (position < end && text.charAt(position) == TextMatcher.partDelimiter);
+		}
+		
+		if (result == 0 && count < size) {
+			result = count == 0 ? -1 : 1;
+			if (stopAtMismatch) {
+				return result;
+			}
+		}
+		
+		if (position < end && (text.charAt(position) == SemanticVersion.buildMetadataDelimiter.charAt(0) || text.charAt(position) == '_')) {
+			do {
+				int identifierEnd = TextMatcher.skipIdentifier(text, ++position, end);
+				if (identifierEnd == position) {
+					return TextMatcher.invalid;
+				}
+				
+				position = identifierEnd;
+			} while (position < end && text.charAt(position) == TextMatcher.partDelimiter);
+		}
+		
+		if (position != end) {
+			return TextMatcher.invalid;
+		}
+		
+		return Integer.signum(result);
+	}
+	
+	private static int skipDigits(CharSequence text, int position, int end) {
+		while (position < end && TextMatcher.isDigit(text.charAt(position))) {
+			position++;
+		}
+		
+		return position;
+	}
+	
+	private static int skipIdentifier(CharSequence text, int position, int end) {
+		while (position < end) {
+			char c = text.charAt(position);
+			
+			if (!(TextMatcher.isDigit(c) || (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || c == '-')) {
+				break;
+			}
+			
+			position++;
+		}
+		
+		return position;
+	}
+	
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+	
+	/**
+	 * @return the value of the digits, which is 0 for no digits, or -1, if it has a leading zero or exceeds a long
+	 */
+	private static long number(CharSequence text, int from, int to) {
+		if (to - from > 1 && text.charAt(from) == '0') {
+			return -1;
+		}
+		
+		return TextMatcher.value(text, from, to);
+	}
+	
+	/**
+	 * @return the value of the digits or -1, if it exceeds a long
+	 */
+	private static long value(CharSequence text, int from, int to) {
+		long value = 0;
+		
+		for (int i = from; i < to; i++) {
+			int digit = text.charAt(i) - '0';
+			
+			if (value > (Long.MAX_VALUE - digit) / 10) {
+				return -1;
+			}
+			
+			value = value * 10 + digit;
+		}
+		
+		return value;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,173 @@
+package me.chrisswr1.semanticVersioner;
+
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * bounded, thread-safe cache of immutable {@link SemanticVersion}s
+ * <p>
+ * The cache is split into segments, which are locked independently and evict their least recently used entries.
+ *
+ * @author chwe
+ */
+public class VersionCache {
+	private static final int maxSegmentCount = 16;
+	private static final int minSegmentSize  = 64;
+	
+	@Getter
+	private final int       maximumSize;
+	private final Segment[] segments;
+	private final LongAdder hits      = new LongAdder();
+	private final LongAdder misses    = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	
+	public VersionCache(int maximumSize) {
+		if (maximumSize < 0) {
+			throw new IllegalArgumentException("The maximum size must not be negative!");
+		}
+		
+		this.maximumSize = maximumSize;
+		
+		int segmentCount = 1;
+		while (segmentCount < VersionCache.maxSegmentCount
+		       && segmentCount * 2 * VersionCache.minSegmentSize <= maximumSize) {
+			segmentCount *= 2;
+		}
+		
+		this.segments = new Segment[segmentCount];
+		
+		int segmentSize = (maximumSize + segmentCount - 1) / segmentCount;
+		for (int i = 0; i < segmentCount; i++) {
+			this.segments[i] = new Segment(segmentSize);
+		}
+	}
+	
+	/**
+	 * returns the cached version or parses and caches it
+	 *
+	 * @param version the version to parse
+	 * @return the immutable version
+	 * @throws SemanticVersionFormatException if the given string is not a valid semantic version
+	 */
+	public SemanticVersion get(String version) {
+		Segment         segment = this.segmentFor(version);
+		SemanticVersion result;
+		
+		synchronized (segment) {
+			result = segment.get(version);
+		}
+		
+		VersionListener listener = Instrumentation.listener;
+		if (listener != null) {
+			listener.cacheAccessed(this, result != null);
+		}
+		
+		if (result != null) {
+			this.hits.increment();
+			return result;
+		}
+		
+		this.misses.increment();
+		
+		result = new SemanticVersion(version);
+		result.makeImmutable();
+		
+		if (this.maximumSize == 0) {
+			return result;
+		}
+		
+		synchronized (segment) {
+			SemanticVersion cached = segment.putIfAbsent(version, result);
+			if (cached != null) {
+				return cached;
+			}
+		}
+		
+		return result;
+	}
+	
+	private Segment segmentFor(String version) {
+		int hash = version.hashCode();
+		hash ^= hash >>> 16;
+		
+		return this.segments[hash & (this.segments.length - 1)];
+	}
+	
+	public int size() {
+		int size = 0;
+		
+		for (Segment segment : this.segments) {
+			synchronized (segment) {
+				size += segment.size();
+			}
+		}
+		
+		return size;
+	}
+	
+	public void clear() {
+		for (Segment segment : this.segments) {
+			synchronized (segment) {
+				segment.clear();
+			}
+		}
+	}
+	
+	public long getHitCount() {
+		return this.hits.sum();
+	}
+	
+	public long getMissCount() {
+		return this.misses.sum();
+	}
+	
+	public long getEvictionCount() {
+		return this.evictions.sum();
+	}
+	
+	public double getHitRate() {
+		long hits     = this.getHitCount();
+		long requests = hits + this.getMissCount();
+		
+		return requests == 0 ? 1 : (double) hits / requests;
+	}
+	
+	public void resetStatistics() {
+		this.hits.reset();
+		this.misses.reset();
+		this.evictions.reset();
+	}
+	
+	@Override
+	public String toString() {
+		return "VersionCache[size=" + this.size() + ", maximumSize=" + this.maximumSize
+		       + ", hits=" + this.getHitCount() + ", misses=" + this.getMissCount()
+		       + ", evictions=" + this.getEvictionCount() + "]";
+	}
+	
+	private class Segment
+			extends LinkedHashMap<String, SemanticVersion> {
+		private static final long serialVersionUID = 1L;
+		
+		private final int capacity;
+		
+		Segment(int capacity) {
+			super(16, 0.75f, true);
+			
+			this.capacity = capacity;
+		}
+		
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, SemanticVersion> eldest) {
+			if (this.size() > this.capacity) {
+				VersionCache.this.evictions.increment();
+				return true;
+			}
+			
+			return false;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,385 @@
+package me.chrisswr1.semanticVersioner;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * compact binary encoding of {@link SemanticVersion}s
+ * <p>
+ * A version is written as unsigned varints of major, minor, patch and the counts of its pre-release and build metadata
+ * identifiers, followed by the identifiers. Each identifier starts with a varint, whose two lowest bits tag it as
+ * number, as ASCII string of the given length or as reference to an earlier string of the same sequence. References
+ * are only written by the bulk methods, so every version of a sequence has to be decoded in order.
+ *
+ * @author chwe
+ */
+public final class VersionCodec {
+	private static final int  tagBits      = 2;
+	private static final int  tagMask      = (1 << VersionCodec.tagBits) - 1;
+	private static final int  numericTag   = 0;
+	private static final int  stringTag    = 1;
+	private static final int  referenceTag = 2;
+	private static final long numericMax   = 1L << (Long.SIZE - VersionCodec.tagBits - 1);
+	private static final int  format       = 1;
+	
+	private VersionCodec() {
+	}
+	
+	/**
+	 * writes the version at the position of the buffer
+	 *
+	 * @throws java.nio.BufferOverflowException if the buffer is too small
+	 */
+	public static void encode(SemanticVersion version, ByteBuffer buffer) {
+		new Encoder(false).encode(version, buffer);
+	}
+	
+	/**
+	 * reads a version from the position of the buffer
+	 *
+	 * @throws IllegalArgumentException if the bytes are not a valid encoding
+	 */
+	public static SemanticVersion decode(ByteBuffer buffer) {
+		return new Decoder(false).decode(buffer);
+	}
+	
+	public static void write(SemanticVersion version, DataOutput out)
+			throws IOException {
+		new Encoder(false).write(version, out::writeByte);
+	}
+	
+	/**
+	 * @throws StreamCorruptedException if the bytes are not a valid encoding
+	 */
+	public static SemanticVersion read(DataInput in)
+			throws IOException {
+		return new Decoder(false).read(in::readByte);
+	}
+	
+	/**
+	 * @return the count of bytes, which {@link #encode(SemanticVersion, ByteBuffer)} writes
+	 */
+	public static int encodedLength(SemanticVersion version) {
+		int[] length = {0};
+		
+		try {
+			new Encoder(false).write(version, b -> length[0]++);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		
+		return length[0];
+	}
+	
+	/**
+	 * writes the count and all versions, whose repeated alphanumeric identifiers are written as references
+	 */
+	public static void encodeAll(Collection<? extends SemanticVersion> versions, ByteBuffer buffer) {
+		Encoder encoder = new Encoder(true);
+		
+		buffer.put((byte) VersionCodec.format);
+		encoder.encodeVarint(versions.size(), buffer);
+		
+		for (SemanticVersion version : versions) {
+			encoder.encode(version, buffer);
+		}
+	}
+	
+	/**
+	 * reads the versions of {@link #encodeAll(Collection, ByteBuffer)}
+	 * <p>
+	 * Equal alphanumeric identifiers of the decoded versions share the same string.
+	 *
+	 * @throws IllegalArgumentException if the bytes are not a valid encoding
+	 */
+	public static SemanticVersion[] decodeAll(ByteBuffer buffer) {
+		Decoder decoder = new Decoder(true);
+		
+		try {
+			VersionCodec.checkFormat(buffer.get());
+			
+			return decoder.readAll(buffer::get);
+		} catch (IOException | BufferUnderflowException e) {
+			throw new IllegalArgumentException("Invalid version encoding: " + e.getMessage(), e);
+		}
+	}
+	
+	public static void writeAll(Collection<? extends SemanticVersion> versions, DataOutput out)
+			throws IOException {
+		Encoder encoder = new Encoder(true);
+		
+		out.writeByte(VersionCodec.format);
+		encoder.writeVarint(versions.size(), out::writeByte);
+		
+		for (SemanticVersion version : versions) {
+			encoder.write(version, out::writeByte);
+		}
+	}
+	
+	/**
+	 * reads the versions of {@link #writeAll(Collection, DataOutput)}
+	 *
+	 * @throws StreamCorruptedException if the bytes are not a valid encoding
+	 */
+	public static SemanticVersion[] readAll(DataInput in)
+			throws IOException {
+		Decoder decoder = new Decoder(true);
+		
+		VersionCodec.checkFormat(in.readByte());
+		
+		return decoder.readAll(in::readByte);
+	}
+	
+	private static void checkFormat(byte format)
+			throws StreamCorruptedException {
+		if (format != VersionCodec.format) {
+			throw new StreamCorruptedException("Unknown format " + format);
+		}
+	}
+	
+	@FunctionalInterface
+	private interface Sink {
+		void writeByte(int b)
+				throws IOException;
+	}
+	
+	@FunctionalInterface
+	private interface Source {
+		byte readByte()
+				throws IOException;
+	}
+	
+	private static final class Encoder {
+		private final Map<String, Integer> references;
+		
+		Encoder(boolean withReferences) {
+			this.references = withReferences ? new HashMap<>() : null;
+		}
+		
+		void encode(SemanticVersion version, ByteBuffer buffer) {
+			try {
+				this.write(version, b -> buffer.put((byte) b));
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+		
+		void encodeVarint(long value, ByteBuffer buffer) {
+			try {
+				this.writeVarint(value, b -> buffer.put((byte) b));
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+		
+		void write(SemanticVersion version, Sink sink)
+				throws IOException {
+			Identifiers preRelease    = version.getPreRelease();
+			Identifiers buildMetadata = version.getBuildMetadata();
+			
+			this.writeVarint(version.getMajor(), sink);
+			this.writeVarint(version.getMinor(), sink);
+			this.writeVarint(version.getPatch(), sink);
+			this.writeVarint(preRelease.size(), sink);
+			this.writeVarint(buildMetadata.size(), sink);
+			
+			for (int i = 0; i < preRelease.size(); i++) {
+				this.writeIdentifier(preRelease, i, sink);
+			}
+			for (int i = 0; i < buildMetadata.size(); i++) {
+				this.writeIdentifier(buildMetadata, i, sink);
+			}
+		}
+		
+		private void writeIdentifier(Identifiers identifiers, int index, Sink sink)
+				throws IOException {
+			String string;
+			
+			if (identifiers.isNumeric(index)) {
+				long value = identifiers.getNumber(index);
+				
+				if (!(identifiers.isBigNumber(index)) && value < VersionCodec.numericMax) {
+					this.writeVarint((value << VersionCodec.tagBits) | VersionCodec.numericTag, sink);
+					return;
+				}
+				
+				string = identifiers.getBigNumber(index).toString();
+			} else {
+				string = identifiers.getString(index);
+				
+				if (this.references != null) {
+					Integer reference = this.references.get(string);
+					
+					if (reference != null) {
+						this.writeVarint(((long) reference << VersionCodec.tagBits) | VersionCodec.referenceTag, sink);
+						return;
+					}
+					
+					this.references.put(string, this.references.size());
+				}
+			}
+			
+			this.writeVarint(((long) string.length() << VersionCodec.tagBits) | VersionCodec.stringTag, sink);
+			for (int i = 0; i < string.length(); i++) {
+				sink.writeByte(string.charAt(i));
+			}
+		}
+		
+		void writeVarint(long value, Sink sink)
+				throws IOException {
+			while ((value & ~0x7FL) != 0) {
+				sink.writeByte((int) (value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			
+			sink.writeByte((int) value);
+		}
+	}
+	
+	private static final class Decoder {
+		private static final int maxInitialCapacity = 16;
+		
+		private final List<String> references;
+		private       char[]       chars = new char[32];
+		
+		Decoder(boolean withReferences) {
+			this.references = withReferences ? new ArrayList<>() : null;
+		}
+		
+		SemanticVersion decode(ByteBuffer buffer) {
+			try {
+				return this.read(buffer::get);
+			} catch (IOException | BufferUnderflowException e) {
+				throw new IllegalArgumentException("Invalid version encoding: " + e.getMessage(), e);
+			}
+		}
+		
+		SemanticVersion read(Source source)
+				throws IOException {
+			long major         = this.readVarint(source);
+			long minor         = this.readVarint(source);
+			long patch         = this.readVarint(source);
+			int  preRelease    = this.readCount(source);
+			int  buildMetadata = this.readCount(source);
+			
+			List<Object> preReleaseIdentifiers    = Decoder.newList(preRelease);
+			List<Object> buildMetadataIdentifiers = Decoder.newList(buildMetadata);
+			
+			for (int i = 0; i < preRelease; i++) {
+				preReleaseIdentifiers.add(this.readIdentifier(source));
+			}
+			for (int i = 0; i < buildMetadata; i++) {
+				buildMetadataIdentifiers.add(this.readIdentifier(source));
+			}
+			
+			try {
+				return new SemanticVersion(major, minor, patch, preReleaseIdentifiers, buildMetadataIdentifiers);
+			} catch (IllegalArgumentException e) {
+				throw new StreamCorruptedException(e.getMessage());
+			}
+		}
+		
+		SemanticVersion[] readAll(Source source)
+				throws IOException {
+			int                   count  = this.readCount(source);
+			List<SemanticVersion> result = Decoder.newList(count);
+			
+			for (int i = 0; i < count; i++) {
+				result.add(this.read(source));
+			}
+			
+			return result.toArray(new SemanticVersion[0]);
+		}
+		
+		/**
+		 * @return a list with a bounded initial capacity, as the count is read from untrusted bytes
+		 */
+		private static <T> List<T> newList(int count) {
+			return new ArrayList<>(Math.min(count, Decoder.maxInitialCapacity));
+		}
+		
+		private Object readIdentifier(Source source)
+				throws IOException {
+			long value = this.readVarint(source);
+			long data  = value >>> VersionCodec.tagBits;
+			
+			switch ((int) (value & VersionCodec.tagMask)) {
+				case VersionCodec.numericTag:
+					return data;
+				case VersionCodec.referenceTag:
+					if (this.references == null || data >= this.references.size()) {
+						throw new StreamCorruptedException("Invalid reference " + data);
+					}
+					
+					return this.references.get((int) data);
+				case VersionCodec.stringTag:
+					break;
+				default:
+					throw new StreamCorruptedException("Invalid identifier tag");
+			}
+			
+			if (data > Integer.MAX_VALUE) {
+				throw new StreamCorruptedException("Invalid identifier length " + data);
+			}
+			
+			int     length  = (int) data;
+			boolean numeric = true;
+			
+			for (int i = 0; i < length; i++) {
+				char c = (char) (source.readByte() & 0xFF);
+				
+				if (i == this.chars.length) {
+					this.chars = Arrays.copyOf(this.chars, (int) Math.min((long) i * 2, length));
+				}
+				
+				numeric &= c >= '0' && c <= '9';
+				this.chars[i] = c;
+			}
+			
+			String result = new String(this.chars, 0, length);
+			if (this.references != null && !(numeric)) {
+				this.references.add(result);
+			}
+			
+			return result;
+		}
+		
+		int readCount(Source source)
+				throws IOException {
+			long value = this.readVarint(source);
+			
+			if (value < 0 || value > Integer.MAX_VALUE) {
+				throw new StreamCorruptedException("Invalid count " + value);
+			}
+			
+			return (int) value;
+		}
+		
+		private long readVarint(Source source)
+				throws IOException {
+			long result = 0;
+			
+			for (int shift = 0; shift < Long.SIZE; shift += 7) {
+				byte b = source.readByte();
+				
+				result |= (long) (b & 0x7F) << shift;
+				if (b >= 0) {
+					return result;
+				}
+			}
+			
+			throw new StreamCorruptedException("Varint is too long");
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,204 @@
+package me.chrisswr1.semanticVersioner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+
+/**
+ * {@link Collector}s, which keep only the latest versions while streaming
+ * <p>
+ * The memory of a collector is bounded by the count of requested versions or groups and not by the count of streamed
+ * versions. Of several versions with the same precedence, the one with the lowest build metadata by
+ * {@link SemanticVersions#compare(SemanticVersion, SemanticVersion)} is kept, so the results do not depend on the
+ * encounter order and the collectors are unordered. All results are sorted from the latest to the oldest version.
+ *
+ * @author chwe
+ */
+public final class VersionCollectors {
+	private VersionCollectors() {
+	}
+	
+	/**
+	 * collects the k latest versions with distinct precedence
+	 *
+	 * @param k the maximum count of versions
+	 */
+	public static Collector<SemanticVersion, ?, List<SemanticVersion>> latest(int k) {
+		if (k < 0) {
+			throw new IllegalArgumentException("The count must not be negative!");
+		}
+		
+		return Collector.of(
+				() -> new Top(k),
+				Top::add,
+				Top::merge,
+				Top::toList,
+				Collector.Characteristics.UNORDERED);
+	}
+	
+	/**
+	 * collects the latest version of each major version
+	 */
+	public static Collector<SemanticVersion, ?, List<SemanticVersion>> latestPerMajor() {
+		return VersionCollectors.latestPerGroup(SemanticVersion::getMajor, version -> true);
+	}
+	
+	/**
+	 * collects the latest version of each minor version
+	 */
+	public static Collector<SemanticVersion, ?, List<SemanticVersion>> latestPerMinor() {
+		return VersionCollectors.latestPerGroup(version -> new Line(version.getMajor(), version.getMinor()), version -> true);
+	}
+	
+	/**
+	 * collects the latest stable version of each major version
+	 *
+	 * @see SemanticVersion#isStable()
+	 */
+	public static Collector<SemanticVersion, ?, List<SemanticVersion>> latestStablePerMajor() {
+		return VersionCollectors.latestPerGroup(SemanticVersion::getMajor, SemanticVersion::isStable);
+	}
+	
+	private static Collector<SemanticVersion, ?, List<SemanticVersion>> latestPerGroup(
+			Function<SemanticVersion, Object> group, Predicate<SemanticVersion> filter) {
+		return Collector.of(
+				() -> new Groups(group, filter),
+				Groups::add,
+				Groups::merge,
+				Groups::toList,
+				Collector.Characteristics.UNORDERED);
+	}
+	
+	/**
+	 * @return true, if the candidate should replace the current latest version
+	 */
+	private static boolean isLater(SemanticVersion candidate, SemanticVersion current) {
+		int result = candidate.compareTo(current);
+		
+		return result > 0 || (result == 0 && SemanticVersions.compare(candidate, current) < 0);
+	}
+	
+	/**
+	 * bounded set of the latest versions, whose oldest version is replaced first
+	 */
+	private static final class Top {
+		private final int                      k;
+		private final TreeSet<SemanticVersion> versions = new TreeSet<>();
+		
+		Top(int k) {
+			this.k = k;
+		}
+		
+		void add(SemanticVersion version) {
+			if (this.versions.size() >= this.k) {
+				if (this.k == 0 || version.compareTo(this.versions.first()) < 0) {
+					return;
+				}
+			}
+			
+			SemanticVersion existing = this.versions.ceiling(version);
+			if (existing != null && existing.compareTo(version) == 0) {
+				if (VersionCollectors.isLater(version, existing)) {
+					this.versions.remove(existing);
+					this.versions.add(version);
+				}
+				
+				return;
+			}
+			
+			this.versions.add(version);
+			if (this.versions.size() > this.k) {
+				this.versions.pollFirst();
+			}
+		}
+		
+		Top merge(Top other) {
+			Top smaller = this.versions.size() < other.versions.size() ? this : other;
+			Top larger  = smaller == this ? other : this;
+			
+			for (SemanticVersion version : smaller.versions) {
+				larger.add(version);
+			}
+			
+			return larger;
+		}
+		
+		List<SemanticVersion> toList() {
+			return new ArrayList<>(this.versions.descendingSet());
+		}
+	}
+	
+	/**
+	 * latest version of each group
+	 */
+	private static final class Groups {
+		private final Function<SemanticVersion, Object> group;
+		private final Predicate<SemanticVersion>        filter;
+		private final Map<Object, SemanticVersion>      latest = new HashMap<>();
+		
+		Groups(Function<SemanticVersion, Object> group, Predicate<SemanticVersion> filter) {
+			this.group = group;
+			this.filter = filter;
+		}
+		
+		void add(SemanticVersion version) {
+			if (this.filter.test(version)) {
+				this.latest.merge(this.group.apply(version), version, (current, candidate) ->
+						VersionCollectors.isLater(candidate, current) ? candidate : current);
+			}
+		}
+		
+		Groups merge(Groups other) {
+			Groups smaller = this.latest.size() < other.latest.size() ? this : other;
+			Groups larger  = smaller == this ? other : this;
+			
+			for (SemanticVersion version : smaller.latest.values()) {
+				larger.add(version);
+			}
+			
+			return larger;
+		}
+		
+		List<SemanticVersion> toList() {
+			List<SemanticVersion> result = new ArrayList<>(this.latest.values());
+			result.sort(Collections.reverseOrder());
+			
+			return result;
+		}
+	}
+	
+	/**
+	 * major and minor version as key of a group
+	 */
+	private static final class Line {
+		private final long major;
+		private final long minor;
+		
+		Line(long major, long minor) {
+			this.major = major;
+			this.minor = minor;
+		}
+		
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Line)) {
+				return false;
+			}
+			
+			Line other = (Line) obj;
+			
+			return this.major == other.major && this.minor == other.minor;
+		}
+		
+		@Override
+		public int hashCode() {
+			return 31 * Long.hashCode(this.major) + Long.hashCode(this.minor);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,279 @@
+package me.chrisswr1.semanticVersioner;
+
+import lombok.Getter;
+import me.chrisswr1.semanticVersioner.util.AsciiCharSequence;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+
+/**
+ * extracts all {@link SemanticVersion}s from large text files
+ * <p>
+ * The file is memory-mapped in chunks, which are scanned in parallel. A token is a maximal run of the ASCII characters
+ * {@code [0-9A-Za-z.+_-]}. Versions start at the beginning of a token or after a hyphen or an underscore, so the version
+ * of {@code artifact-1.2.3.jar} is found, too. Trailing dots and hyphens as well as a leading {@code v} are ignored.
+ * Tokens, which are longer than {@link #maxTokenLength} bytes, are skipped.
+ *
+ * @author chwe
+ */
+public class VersionExtractor {
+	public static final int defaultChunkSize = 16 << 20;
+	public static final int maxTokenLength   = 256;
+	
+	private final ForkJoinPool pool;
+	@Getter
+	private final int          chunkSize;
+	
+	public VersionExtractor() {
+		this(ForkJoinPool.commonPool(), VersionExtractor.defaultChunkSize);
+	}
+	
+	/**
+	 * @param pool      the pool to scan the chunks in
+	 * @param chunkSize the maximum count of bytes, which are scanned by a single task
+	 */
+	public VersionExtractor(ForkJoinPool pool, int chunkSize) {
+		if (chunkSize < 1) {
+			throw new IllegalArgumentException("The chunk size must be positive!");
+		}
+		
+		this.pool = pool;
+		this.chunkSize = chunkSize;
+	}
+	
+	/**
+	 * @param file the file to scan
+	 * @return all versions of the file in the order of their offsets
+	 * @throws IOException if the file could not be read
+	 */
+	public List<VersionMatch> extract(Path file)
+			throws IOException {
+		return this.run(file, null);
+	}
+	
+	/**
+	 * passes all versions of the file to the given consumer
+	 * <p>
+	 * The consumer is called concurrently from the threads of the pool. Within a chunk, the versions are passed in the
+	 * order of their offsets.
+	 *
+	 * @param file     the file to scan
+	 * @param consumer the thread-safe consumer of the versions
+	 * @throws IOException if the file could not be read
+	 */
+	public void extract(Path file, Consumer<? super VersionMatch> consumer)
+			throws IOException {
+		this.run(file, consumer);
+	}
+	
+	private List<VersionMatch> run(Path file, Consumer<? super VersionMatch> consumer)
+			throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			long size = channel.size();
+			
+			return this.pool.invoke(new ScanTask(channel, size, 0, size, consumer));
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+	
+	/**
+	 * @param buffer the bytes to scan between its position and limit
+	 * @return all versions in the order of their offsets, which are relative to the position of the buffer
+	 */
+	public static List<VersionMatch> extract(ByteBuffer buffer) {
+		List<VersionMatch> result = new ArrayList<>();
+		ByteBuffer         slice  = buffer.slice();
+		
+		VersionExtractor.scan(slice, 0, 0, slice.limit(), true, result::add);
+		
+		return result;
+	}
+	
+	/**
+	 * scans all tokens, which start between from and to
+	 *
+	 * @param buffer     the mapped bytes, which are accessed with absolute indices
+	 * @param baseOffset the offset of the first byte of the buffer in the file
+	 * @param endOfInput true, if the limit of the buffer is the end of the file
+	 */
+	private static void scan(ByteBuffer buffer, long baseOffset, int from, int to, boolean endOfInput,
+	                         Consumer<? super VersionMatch> consumer) {
+		int limit = buffer.limit();
+		int i     = from;
+		
+		if (i > 0 && VersionExtractor.isTokenByte(buffer.get(i - 1))) {
+			while (i < limit && VersionExtractor.isTokenByte(buffer.get(i))) {
+				i++;
+			}
+		}
+		
+		while (i < to) {
+			if (!(VersionExtractor.isTokenByte(buffer.get(i)))) {
+				i++;
+				continue;
+			}
+			
+			int start = i;
+			while (i < limit && VersionExtractor.isTokenByte(buffer.get(i))) {
+				i++;
+			}
+			
+			if ((i == limit && !(endOfInput)) || i - start > VersionExtractor.maxTokenLength) {
+				continue;
+			}
+			
+			VersionExtractor.emit(buffer, baseOffset, start, i, consumer);
+		}
+	}
+	
+	/**
+	 * emits the versions of a token, which start at its beginning or after a hyphen or an underscore
+	 * <p>
+	 * From each start, the longest valid version is emitted, if it reaches the end of the token or is followed by a
+	 * delimiter and a letter, e.g. {@code 2.6} in {@code commons-lang-2.6.jar}.
+	 */
+	private static void emit(ByteBuffer buffer, long baseOffset, int start, int end, Consumer<? super VersionMatch> consumer) {
+		while (end > start && (buffer.get(end - 1) == '.' || buffer.get(end - 1) == '-')) {
+			end--;
+		}
+		
+		int i = start;
+		while (i < end) {
+			int versionStart = i;
+			if (end - versionStart > 1 && (buffer.get(versionStart) == 'v' || buffer.get(versionStart) == 'V')) {
+				versionStart++;
+			}
+			
+			int versionEnd = VersionExtractor.isVersionStart(buffer.get(versionStart))
+			                 ? VersionExtractor.emitLongest(buffer, baseOffset, versionStart, end, consumer)
+			                 : -1;
+			
+			i = versionEnd < 0 ? i + 1 : versionEnd;
+			while (i < end && buffer.get(i - 1) != '-' && buffer.get(i - 1) != '_') {
+				i++;
+			}
+		}
+	}
+	
+	/**
+	 * @return the end of the emitted version or -1, if there is none
+	 */
+	private static int emitLongest(ByteBuffer buffer, long baseOffset, int start, int end,
+	                               Consumer<? super VersionMatch> consumer) {
+		for (int versionEnd = end; versionEnd > start; versionEnd--) {
+			if (versionEnd < end && !(VersionExtractor.isDelimiter(buffer.get(versionEnd)))) {
+				continue;
+			}
+			
+			SemanticVersion version = SemanticVersion.parseOrNull(new AsciiCharSequence(buffer, start, versionEnd - start));
+			if (version == null) {
+				continue;
+			}
+			if (versionEnd < end && (versionEnd + 1 == end || !(VersionExtractor.isLetter(buffer.get(versionEnd + 1))))) {
+				return -1;
+			}
+			
+			consumer.accept(new VersionMatch(baseOffset + start, versionEnd - start, version));
+			
+			return versionEnd;
+		}
+		
+		return -1;
+	}
+	
+	private static boolean isVersionStart(byte b) {
+		return (b >= '0' && b <= '9') || b == '.';
+	}
+	
+	private static boolean isDelimiter(byte b) {
+		return b == '.' || b == '-' || b == '+' || b == '_';
+	}
+	
+	private static boolean isLetter(byte b) {
+		return (b >= 'A' && b <= 'Z') || (b >= 'a' && b <= 'z');
+	}
+	
+	private static boolean isTokenByte(byte b) {
+		return (b >= '0' && b <= '9')
+		       || (b >= 'A' && b <= 'Z')
+		       || (b >= 'a' && b <= 'z')
+		       || b == '.' || b == '-' || b == '+' || b == '_';
+	}
+	
+	private class ScanTask
+			extends RecursiveTask<List<VersionMatch>> {
+		private static final long serialVersionUID = 1L;
+		
+		private final FileChannel                    channel;
+		private final long                           size;
+		private final long                           start;
+		private final long                           end;
+		private final Consumer<? super VersionMatch> consumer;
+		
+		ScanTask(FileChannel channel, long size, long start, long end, Consumer<? super VersionMatch> consumer) {
+			this.channel = channel;
+			this.size = size;
+			this.start = start;
+			this.end = end;
+			this.consumer = consumer;
+		}
+		
+		@Override
+		protected List<VersionMatch> compute() {
+			if (this.end - this.start <= VersionExtractor.this.chunkSize) {
+				return this.scanChunk();
+			}
+			
+			long     middle = this.start + (this.end - this.start) / 2;
+			ScanTask first  = new ScanTask(this.channel, this.size, this.start, middle, this.consumer);
+			ScanTask second = new ScanTask(this.channel, this.size, middle, this.end, this.consumer);
+			
+			first.fork();
+			List<VersionMatch> secondResult = second.compute();
+			List<VersionMatch> firstResult  = first.join();
+			
+			if (this.consumer != null) {
+				return Collections.emptyList();
+			}
+			
+			firstResult.addAll(secondResult);
+			
+			return firstResult;
+		}
+		
+		private List<VersionMatch> scanChunk() {
+			if (this.start == this.end) {
+				return new ArrayList<>();
+			}
+			
+			long mapStart = Math.max(0, this.start - 1);
+			long mapEnd   = Math.min(this.size, this.end + VersionExtractor.maxTokenLength + 1);
+			
+			ByteBuffer buffer;
+			try {
+				buffer = this.channel.map(FileChannel.MapMode.READ_ONLY, mapStart, mapEnd - mapStart);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			
+			List<VersionMatch>             result   = new ArrayList<>();
+			Consumer<? super VersionMatch> consumer = this.consumer == null ? result::add : this.consumer;
+			
+			VersionExtractor.scan(buffer, mapStart, (int) (this.start - mapStart), (int) (this.end - mapStart),
+			                      mapEnd == this.size, consumer);
+			
+			return result;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,350 @@
+package me.chrisswr1.semanticVersioner;
+
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * binary keys of {@link SemanticVersion}s, whose unsigned lexicographic byte order is the order of
+ * {@link SemanticVersions#compare(SemanticVersion, SemanticVersion)}
+ * <p>
+ * Numbers are written as their count of bytes followed by their big-endian bytes without leading zeros. A pre-release
+ * is introduced by a byte, which is lower than the one of a release, and ends with a byte, which is lower than every
+ * identifier. Alphanumeric identifiers are written in upper case followed by a bit mask of their lower case letters,
+ * so they are compared case-insensitively first. The build metadata is appended without introduction, so the
+ * {@link #encodePrecedence(SemanticVersion) precedence key} of a version is a prefix of its key and lower than the
+ * keys of all versions with a higher precedence, which allows range scans over the keys of a sorted store.
+ *
+ * @author chwe
+ */
+public final class VersionKeys {
+	private static final byte end           = 0x00;
+	private static final byte numericTag    = 0x01;
+	private static final byte stringTag     = 0x02;
+	private static final byte preReleaseTag = 0x01;
+	private static final byte releaseTag    = 0x02;
+	private static final int  longLength    = 0xFF;
+	
+	private VersionKeys() {
+	}
+	
+	/**
+	 * returns the key of the version including its build metadata
+	 */
+	public static byte[] encode(SemanticVersion version) {
+		return VersionKeys.encode(version, true);
+	}
+	
+	/**
+	 * returns the key of the version without its build metadata, which is equal for versions of equal precedence
+	 */
+	public static byte[] encodePrecedence(SemanticVersion version) {
+		return VersionKeys.encode(version, false);
+	}
+	
+	private static byte[] encode(SemanticVersion version, boolean buildMetadata) {
+		byte[] result = new byte[VersionKeys.length(version, buildMetadata)];
+		
+		VersionKeys.write(version, ByteBuffer.wrap(result), buildMetadata);
+		
+		return result;
+	}
+	
+	/**
+	 * writes the key of the version including its build metadata at the position of the buffer
+	 *
+	 * @throws BufferOverflowException if the buffer is too small, in which case its position is not changed
+	 */
+	public static void encode(SemanticVersion version, ByteBuffer buffer) {
+		if (buffer.remaining() < VersionKeys.length(version, true)) {
+			throw new BufferOverflowException();
+		}
+		
+		VersionKeys.write(version, buffer, true);
+	}
+	
+	/**
+	 * @return the count of bytes of the key of the version including its build metadata
+	 */
+	public static int length(SemanticVersion version) {
+		return VersionKeys.length(version, true);
+	}
+	
+	private static int length(SemanticVersion version, boolean buildMetadata) {
+		int result = VersionKeys.numberLength(version.getMajor())
+		             + VersionKeys.numberLength(version.getMinor())
+		             + VersionKeys.numberLength(version.getPatch())
+		             + 1;
+		
+		Identifiers preRelease = version.getPreRelease();
+		if (!(preRelease.isEmpty())) {
+			result += VersionKeys.identifiersLength(preRelease) + 1;
+		}
+		
+		if (buildMetadata) {
+			result += VersionKeys.identifiersLength(version.getBuildMetadata());
+		}
+		
+		return result;
+	}
+	
+	private static int identifiersLength(Identifiers identifiers) {
+		int result = 0;
+		
+		for (int i = 0; i < identifiers.size(); i++) {
+			if (identifiers.isBigNumber(i)) {
+				int length = (identifiers.getBigNumber(i).bitLength() + 7) / 8;
+				
+				result += 1 + (length < VersionKeys.longLength ? 1 : 1 + Integer.BYTES) + length;
+			} else if (identifiers.isNumeric(i)) {
+				result += 1 + VersionKeys.numberLength(identifiers.getNumber(i));
+			} else {
+				int length = identifiers.getString(i).length();
+				
+				result += 2 + length + VersionKeys.maskLength(length);
+			}
+		}
+		
+		return result;
+	}
+	
+	private static int numberLength(long number) {
+		return 1 + (Long.SIZE - Long.numberOfLeadingZeros(number) + 7) / 8;
+	}
+	
+	private static int maskLength(int length) {
+		return (length + 7) / 8;
+	}
+	
+	private static void write(SemanticVersion version, ByteBuffer buffer, boolean buildMetadata) {
+		VersionKeys.writeNumber(buffer, version.getMajor());
+		VersionKeys.writeNumber(buffer, version.getMinor());
+		VersionKeys.writeNumber(buffer, version.getPatch());
+		
+		Identifiers preRelease = version.getPreRelease();
+		if (preRelease.isEmpty()) {
+			buffer.put(VersionKeys.releaseTag);
+		} else {
+			buffer.put(VersionKeys.preReleaseTag);
+			VersionKeys.writeIdentifiers(buffer, preRelease);
+			buffer.put(VersionKeys.end);
+		}
+		
+		if (buildMetadata) {
+			VersionKeys.writeIdentifiers(buffer, version.getBuildMetadata());
+		}
+	}
+	
+	private static void writeIdentifiers(ByteBuffer buffer, Identifiers identifiers) {
+		for (int i = 0; i < identifiers.size(); i++) {
+			if (identifiers.isBigNumber(i)) {
+				byte[] magnitude = identifiers.getBigNumber(i).toByteArray();
+				int    offset    = magnitude[0] == 0 ? 1 : 0;
+				
+				buffer.put(VersionKeys.numericTag);
+				VersionKeys.writeLength(buffer, magnitude.length - offset);
+				buffer.put(magnitude, offset, magnitude.length - offset);
+			} else if (identifiers.isNumeric(i)) {
+				buffer.put(VersionKeys.numericTag);
+				VersionKeys.writeNumber(buffer, identifiers.getNumber(i));
+			} else {
+				VersionKeys.writeString(buffer, identifiers.getString(i));
+			}
+		}
+	}
+	
+	private static void writeNumber(ByteBuffer buffer, long number) {
+		int length = VersionKeys.numberLength(number) - 1;
+		
+		buffer.put((byte) length);
+		for (int shift = 8 * (length - 1); shift >= 0; shift -= 8) {
+			buffer.put((byte) (number >>> shift));
+		}
+	}
+	
+	private static void writeLength(ByteBuffer buffer, int length) {
+		if (length < VersionKeys.longLength) {
+			buffer.put((byte) length);
+		} else {
+			buffer.put((byte) VersionKeys.longLength);
+			buffer.putInt(length);
+		}
+	}
+	
+	/**
+	 * writes the identifier in upper case like {@link String#compareToIgnoreCase(String)} followed by the mask of its
+	 * lower case letters, which decides like {@link String#compareTo(String)}, because upper case letters are lower
+	 */
+	private static void writeString(ByteBuffer buffer, String identifier) {
+		int length = identifier.length();
+		
+		buffer.put(VersionKeys.stringTag);
+		for (int i = 0; i < length; i++) {
+			char c = identifier.charAt(i);
+			
+			buffer.put((byte) (c >= 'a' && c <= 'z' ? c - ('a' - 'A') : c));
+		}
+		buffer.put(VersionKeys.end);
+		
+		int mask = 0;
+		for (int i = 0; i < length; i++) {
+			char c = identifier.charAt(i);
+			
+			mask = mask << 1 | (c >= 'a' && c <= 'z' ? 1 : 0);
+			if (i % 8 == 7) {
+				buffer.put((byte) mask);
+				mask = 0;
+			}
+		}
+		if (length % 8 != 0) {
+			buffer.put((byte) (mask << (8 - length % 8)));
+		}
+	}
+	
+	/**
+	 * reads the key of a version
+	 *
+	 * @throws IllegalArgumentException if the bytes are not a valid key
+	 */
+	public static SemanticVersion decode(byte[] key) {
+		return VersionKeys.decode(ByteBuffer.wrap(key));
+	}
+	
+	/**
+	 * reads the key of a version from the position to the limit of the buffer, which are consumed
+	 *
+	 * @throws IllegalArgumentException if the bytes are not a valid key
+	 */
+	public static SemanticVersion decode(ByteBuffer buffer) {
+		try {
+			long major = VersionKeys.readNumber(buffer);
+			long minor = VersionKeys.readNumber(buffer);
+			long patch = VersionKeys.readNumber(buffer);
+			
+			List<Object> preRelease = new ArrayList<>();
+			byte         tag        = buffer.get();
+			if (tag == VersionKeys.preReleaseTag) {
+				VersionKeys.readIdentifiers(buffer, preRelease, true);
+				
+				if (preRelease.isEmpty()) {
+					throw new IllegalArgumentException("Invalid version key: empty pre-release");
+				}
+			} else if (tag != VersionKeys.releaseTag) {
+				throw new IllegalArgumentException("Invalid version key: unknown tag " + tag);
+			}
+			
+			List<Object> buildMetadata = new ArrayList<>();
+			VersionKeys.readIdentifiers(buffer, buildMetadata, false);
+			
+			return new SemanticVersion(major, minor, patch, preRelease, buildMetadata);
+		} catch (BufferUnderflowException e) {
+			throw new IllegalArgumentException("Invalid version key: unexpected end", e);
+		}
+	}
+	
+	private static void readIdentifiers(ByteBuffer buffer, List<Object> identifiers, boolean terminated) {
+		while (buffer.hasRemaining() || terminated) {
+			byte tag = buffer.get();
+			
+			if (tag == VersionKeys.end && terminated) {
+				return;
+			} else if (tag == VersionKeys.numericTag) {
+				identifiers.add(VersionKeys.readIdentifierNumber(buffer));
+			} else if (tag == VersionKeys.stringTag) {
+				identifiers.add(VersionKeys.readString(buffer));
+			} else {
+				throw new IllegalArgumentException("Invalid version key: unknown tag " + tag);
+			}
+		}
+	}
+	
+	private static long readNumber(ByteBuffer buffer) {
+		int length = buffer.get() & 0xFF;
+		if (length > Long.BYTES) {
+			throw new IllegalArgumentException("Invalid version key: number of " + length + " bytes");
+		}
+		
+		long result = 0;
+		for (int i = 0; i < length; i++) {
+			result = result << 8 | (buffer.get() & 0xFF);
+		}
+		
+		if (result < 0) {
+			throw new IllegalArgumentException("Invalid version key: negative number");
+		}
+		
+		return result;
+	}
+	
+	private static Number readIdentifierNumber(ByteBuffer buffer) {
+		int length = buffer.get() & 0xFF;
+		if (length == VersionKeys.longLength) {
+			length = buffer.getInt();
+		}
+		if (length < 0 || length > buffer.remaining()) {
+			throw new IllegalArgumentException("Invalid version key: number of " + length + " bytes");
+		}
+		
+		if (length < Long.BYTES || (length == Long.BYTES && buffer.get(buffer.position()) >= 0)) {
+			long result = 0;
+			for (int i = 0; i < length; i++) {
+				result = result << 8 | (buffer.get() & 0xFF);
+			}
+			
+			return result;
+		}
+		
+		byte[] magnitude = new byte[length];
+		buffer.get(magnitude);
+		
+		return new BigInteger(1, magnitude);
+	}
+	
+	private static String readString(ByteBuffer buffer) {
+		int start  = buffer.position();
+		int length = 0;
+		while (buffer.get() != VersionKeys.end) {
+			length++;
+		}
+		
+		char[] chars = new char[length];
+		for (int i = 0; i < length; i++) {
+			chars[i] = (char) (buffer.get(start + i) & 0xFF);
+		}
+		
+		for (int i = 0; i < length; i += 8) {
+			int mask = buffer.get() & 0xFF;
+			
+			for (int j = i; j < Math.min(i + 8, length); j++) {
+				if ((mask & 0x80 >>> (j - i)) != 0) {
+					if (chars[j] < 'A' || chars[j] > 'Z') {
+						throw new IllegalArgumentException("Invalid version key: lower case mask of '" + chars[j] + "'");
+					}
+					
+					chars[j] += 'a' - 'A';
+				}
+			}
+		}
+		
+		return new String(chars);
+	}
+	
+	/**
+	 * compares two keys by their unsigned lexicographic byte order, which is the order of the encoded versions
+	 */
+	public static int compare(byte[] key1, byte[] key2) {
+		int length = Math.min(key1.length, key2.length);
+		
+		for (int i = 0; i < length; i++) {
+			int result = Integer.compare(key1[i] & 0xFF, key2[i] & 0xFF);
+			if (result != 0) {
+				return result;
+			}
+		}
+		
+		return Integer.compare(key1.length, key2.length);
+	}
+}
\ No newline at end of file
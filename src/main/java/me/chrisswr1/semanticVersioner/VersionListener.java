@@ -0,0 +1,42 @@
+package me.chrisswr1.semanticVersioner;
+
+/**
+ * receives the events of parsing, validation, comparison and caching, see {@link Instrumentation}
+ * <p>
+ * The methods are called synchronously on the hot paths by many threads, so they have to be thread-safe and fast.
+ *
+ * @author chwe
+ */
+public interface VersionListener {
+	/**
+	 * called after a string was parsed to a version
+	 *
+	 * @param input the parsed characters
+	 * @param error the reason of the failure or null, if the version is valid
+	 * @param nanos the duration of the parse
+	 */
+	default void parsed(CharSequence input, ParseError error, long nanos) {
+	}
+	
+	/**
+	 * called after a string was validated without creating a version
+	 *
+	 * @see #parsed(CharSequence, ParseError, long)
+	 */
+	default void validated(CharSequence input, ParseError error, long nanos) {
+	}
+	
+	/**
+	 * called before two versions are compared by {@link SemanticVersion#compareTo(SemanticVersion)}
+	 */
+	default void compared(SemanticVersion version1, SemanticVersion version2) {
+	}
+	
+	/**
+	 * called after a {@link VersionCache} was accessed
+	 *
+	 * @param hit true, if the version was cached
+	 */
+	default void cacheAccessed(VersionCache cache, boolean hit) {
+	}
+}
\ No newline at end of file
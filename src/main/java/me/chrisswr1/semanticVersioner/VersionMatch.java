@@ -0,0 +1,34 @@
+package me.chrisswr1.semanticVersioner;
+
+import lombok.Getter;
+
+/**
+ * {@link SemanticVersion} found at a position of a file
+ *
+ * @author chwe
+ */
+public class VersionMatch {
+	/**
+	 * the offset of the first byte of the version in the file
+	 */
+	@Getter
+	private final long            offset;
+	/**
+	 * the count of bytes of the version
+	 */
+	@Getter
+	private final int             length;
+	@Getter
+	private final SemanticVersion version;
+	
+	public VersionMatch(long offset, int length, SemanticVersion version) {
+		this.offset = offset;
+		this.length = length;
+		this.version = version;
+	}
+	
+	@Override
+	public String toString() {
+		return this.version + "@" + this.offset;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,170 @@
+package me.chrisswr1.semanticVersioner;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link VersionListener}, which counts the events and records the parse latencies in a histogram
+ * <p>
+ * The histogram has a bucket for each power of two nanoseconds, so its percentiles are upper bounds, which are at most
+ * twice the real value.
+ *
+ * @author chwe
+ */
+public class VersionStatistics
+		implements VersionListener {
+	private static final int bucketCount = Long.SIZE + 1;
+	
+	private final LongAdder       parses      = new LongAdder();
+	private final LongAdder       validations = new LongAdder();
+	private final LongAdder[]     failures    = new LongAdder[ParseError.values().length];
+	private final LongAdder       comparisons = new LongAdder();
+	private final LongAdder       cacheHits   = new LongAdder();
+	private final LongAdder       cacheMisses = new LongAdder();
+	private final AtomicLongArray latencies   = new AtomicLongArray(VersionStatistics.bucketCount);
+	
+	public VersionStatistics() {
+		for (int i = 0; i < this.failures.length; i++) {
+			this.failures[i] = new LongAdder();
+		}
+	}
+	
+	@Override
+	public void parsed(CharSequence input, ParseError error, long nanos) {
+		this.parses.increment();
+		this.record(error, nanos);
+	}
+	
+	@Override
+	public void validated(CharSequence input, ParseError error, long nanos) {
+		this.validations.increment();
+		this.record(error, nanos);
+	}
+	
+	private void record(ParseError error, long nanos) {
+		if (error != null) {
+			this.failures[error.ordinal()].increment();
+		}
+		
+		this.latencies.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(Math.max(nanos, 0)));
+	}
+	
+	@Override
+	public void compared(SemanticVersion version1, SemanticVersion version2) {
+		this.comparisons.increment();
+	}
+	
+	@Override
+	public void cacheAccessed(VersionCache cache, boolean hit) {
+		(hit ? this.cacheHits : this.cacheMisses).increment();
+	}
+	
+	public long getParseCount() {
+		return this.parses.sum();
+	}
+	
+	public long getValidationCount() {
+		return this.validations.sum();
+	}
+	
+	/**
+	 * @return the count of failed parses and validations
+	 */
+	public long getFailureCount() {
+		long result = 0;
+		
+		for (LongAdder failure : this.failures) {
+			result += failure.sum();
+		}
+		
+		return result;
+	}
+	
+	public long getFailureCount(ParseError error) {
+		return this.failures[error.ordinal()].sum();
+	}
+	
+	public long getComparisonCount() {
+		return this.comparisons.sum();
+	}
+	
+	public long getCacheHitCount() {
+		return this.cacheHits.sum();
+	}
+	
+	public long getCacheMissCount() {
+		return this.cacheMisses.sum();
+	}
+	
+	public double getCacheHitRate() {
+		long hits     = this.getCacheHitCount();
+		long requests = hits + this.getCacheMissCount();
+		
+		return requests == 0 ? 1 : (double) hits / requests;
+	}
+	
+	/**
+	 * returns the latency histogram of parses and validations
+	 *
+	 * @return the counts, whose index i counts the latencies below 2^i and not below 2^(i-1) nanoseconds
+	 */
+	public long[] getLatencyHistogram() {
+		long[] result = new long[VersionStatistics.bucketCount];
+		
+		for (int i = 0; i < result.length; i++) {
+			result[i] = this.latencies.get(i);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * @param percentile the percentile between 0 and 100
+	 * @return the upper bound of the latency in nanoseconds or 0, if nothing was parsed
+	 */
+	public long getLatencyPercentile(double percentile) {
+		if (percentile < 0 || percentile > 100) {
+			throw new IllegalArgumentException("The percentile has to be between 0 and 100!");
+		}
+		
+		long[] histogram = this.getLatencyHistogram();
+		long   total     = 0;
+		for (long count : histogram) {
+			total += count;
+		}
+		
+		long rank  = (long) Math.ceil(total * percentile / 100);
+		long count = 0;
+		for (int i = 0; i < histogram.length; i++) {
+			count += histogram[i];
+			
+			if (count >= rank && count > 0) {
+				return i >= Long.SIZE - 1 ? Long.MAX_VALUE : (1L << i) - 1;
+			}
+		}
+		
+		return 0;
+	}
+	
+	public void reset() {
+		this.parses.reset();
+		this.validations.reset();
+		this.comparisons.reset();
+		this.cacheHits.reset();
+		this.cacheMisses.reset();
+		
+		for (LongAdder failure : this.failures) {
+			failure.reset();
+		}
+		for (int i = 0; i < VersionStatistics.bucketCount; i++) {
+			this.latencies.set(i, 0);
+		}
+	}
+	
+	@Override
+	public String toString() {
+		return "VersionStatistics[parses=" + this.getParseCount() + ", validations=" + this.getValidationCount()
+		       + ", failures=" + this.getFailureCount() + ", comparisons=" + this.getComparisonCount()
+		       + ", cacheHitRate=" + this.getCacheHitRate() + ", p99=" + this.getLatencyPercentile(99) + "ns]";
+	}
+}
\ No newline at end of file
@@ -0,0 +1,329 @@
+package me.chrisswr1.semanticVersioner.cli;
+
+import me.chrisswr1.semanticVersioner.SemanticVersion;
+import me.chrisswr1.semanticVersioner.SemanticVersions;
+import me.chrisswr1.semanticVersioner.VersionCodec;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * sorts more versions than fit into the heap by {@link SemanticVersions#compare(SemanticVersion, SemanticVersion)}
+ * <p>
+ * The versions are collected in chunks, which are sorted in memory and spilled to temporary files in the encoding of
+ * {@link VersionCodec}. The files are merged at most {@link #mergeFanIn} at a time and deleted by {@link #close()}.
+ * If all versions fit into one chunk, no file is written.
+ *
+ * @author chwe
+ */
+final class ExternalSorter
+		implements Closeable {
+	/**
+	 * the maximum count of files, which are merged at once
+	 */
+	static final int mergeFanIn = 64;
+	
+	/**
+	 * the initial capacity of a chunk and the minimum of the default chunk size
+	 */
+	static final int initialChunkSize = 1024;
+	
+	private static final int bufferSize = 1 << 16;
+	
+	private final int               chunkSize;
+	private final boolean           distinct;
+	private final boolean           reverse;
+	private final Path              directory;
+	private final List<Spill>       spills = new ArrayList<>();
+	private       SemanticVersion[] chunk;
+	private       int               size   = 0;
+	
+	/**
+	 * @param chunkSize the maximum count of versions, which are sorted in memory
+	 * @param distinct  true, if only the lowest version of each precedence is kept like by
+	 *                  {@link SemanticVersions#sortDistinct(SemanticVersion[])}
+	 * @param reverse   true, if the versions are sorted in descending order
+	 * @param directory the directory of the spill files
+	 */
+	ExternalSorter(int chunkSize, boolean distinct, boolean reverse, Path directory) {
+		if (chunkSize < 1) {
+			throw new IllegalArgumentException("The chunk size must be positive!");
+		}
+		
+		this.chunkSize = chunkSize;
+		this.distinct = distinct;
+		this.reverse = reverse;
+		this.directory = directory;
+		this.chunk = new SemanticVersion[Math.min(chunkSize, ExternalSorter.initialChunkSize)];
+	}
+	
+	void add(SemanticVersion version)
+			throws IOException {
+		if (this.size == this.chunk.length) {
+			if (this.size == this.chunkSize) {
+				this.spill();
+			} else {
+				this.chunk = Arrays.copyOf(this.chunk, (int) Math.min(this.chunkSize, 2L * this.size));
+			}
+		}
+		
+		this.chunk[this.size++] = version;
+	}
+	
+	/**
+	 * @return the count of files, which were spilled so far
+	 */
+	int getSpillCount() {
+		return this.spills.size();
+	}
+	
+	private SemanticVersion[] sortChunk() {
+		SemanticVersion[] versions = this.size == this.chunk.length ? this.chunk : Arrays.copyOf(this.chunk, this.size);
+		
+		if (this.distinct) {
+			return SemanticVersions.sortDistinct(versions);
+		}
+		
+		SemanticVersions.sort(versions);
+		return versions;
+	}
+	
+	private void spill()
+			throws IOException {
+		SemanticVersion[] versions = this.sortChunk();
+		Spill             spill    = this.createSpill();
+		
+		try (SpillSink sink = new SpillSink(spill)) {
+			for (int i = 0; i < versions.length; i++) {
+				sink.write(versions[this.reverse ? versions.length - 1 - i : i]);
+			}
+		}
+		
+		Arrays.fill(this.chunk, 0, this.size, null);
+		this.size = 0;
+	}
+	
+	private Spill createSpill()
+			throws IOException {
+		Spill spill = new Spill(Files.createTempFile(this.directory, "versions", ".spill"));
+		
+		this.spills.add(spill);
+		
+		return spill;
+	}
+	
+	/**
+	 * writes the sorted versions as lines
+	 */
+	void writeTo(Appendable out)
+			throws IOException {
+		Sink sink = new TextSink(out);
+		
+		if (this.spills.isEmpty()) {
+			SemanticVersion[] versions = this.sortChunk();
+			
+			for (int i = 0; i < versions.length; i++) {
+				sink.write(versions[this.reverse ? versions.length - 1 - i : i]);
+			}
+			
+			return;
+		}
+		
+		if (this.size > 0) {
+			this.spill();
+		}
+		
+		// the merged spills are appended, so each spill stays in the list, until it was merged and deleted
+		while (this.spills.size() > ExternalSorter.mergeFanIn) {
+			List<Spill> group = new ArrayList<>(this.spills.subList(0, ExternalSorter.mergeFanIn));
+			
+			try (SpillSink spillSink = new SpillSink(this.createSpill())) {
+				this.merge(group, spillSink);
+			}
+			
+			for (Spill spill : group) {
+				Files.delete(spill.file);
+				this.spills.remove(spill);
+			}
+		}
+		
+		this.merge(this.spills, sink);
+	}
+	
+	private void merge(List<Spill> spills, Sink sink)
+			throws IOException {
+		PriorityQueue<Cursor> queue   = new PriorityQueue<>(spills.size());
+		List<Cursor>          cursors = new ArrayList<>(spills.size());
+		
+		try {
+			for (Spill spill : spills) {
+				Cursor cursor = new Cursor(spill, this.reverse);
+				
+				cursors.add(cursor);
+				if (cursor.advance()) {
+					queue.add(cursor);
+				}
+			}
+			
+			// the versions of equal precedence are adjacent, so the lowest one of each group is kept, if distinct
+			SemanticVersion group = null;
+			while (!(queue.isEmpty())) {
+				Cursor          cursor  = queue.poll();
+				SemanticVersion version = cursor.current;
+				
+				if (!(this.distinct)) {
+					sink.write(version);
+				} else if (group == null || group.compareTo(version) != 0) {
+					if (group != null) {
+						sink.write(group);
+					}
+					
+					group = version;
+				} else if (SemanticVersions.compare(version, group) < 0) {
+					group = version;
+				}
+				
+				if (cursor.advance()) {
+					queue.add(cursor);
+				}
+			}
+			
+			if (group != null) {
+				sink.write(group);
+			}
+		} finally {
+			for (Cursor cursor : cursors) {
+				cursor.close();
+			}
+		}
+	}
+	
+	/**
+	 * deletes the spill files
+	 */
+	@Override
+	public void close()
+			throws IOException {
+		IOException exception = null;
+		
+		for (Spill spill : this.spills) {
+			try {
+				Files.deleteIfExists(spill.file);
+			} catch (IOException e) {
+				exception = e;
+			}
+		}
+		
+		this.spills.clear();
+		
+		if (exception != null) {
+			throw exception;
+		}
+	}
+	
+	private static final class Spill {
+		private final Path file;
+		private       long count = 0;
+		
+		Spill(Path file) {
+			this.file = file;
+		}
+	}
+	
+	private interface Sink {
+		void write(SemanticVersion version)
+				throws IOException;
+	}
+	
+	private static final class TextSink
+			implements Sink {
+		private final Appendable out;
+		private final String     lineSeparator = System.lineSeparator();
+		
+		TextSink(Appendable out) {
+			this.out = out;
+		}
+		
+		@Override
+		public void write(SemanticVersion version)
+				throws IOException {
+			version.appendTo(this.out).append(this.lineSeparator);
+		}
+	}
+	
+	private static final class SpillSink
+			implements Sink, Closeable {
+		private final Spill            spill;
+		private final DataOutputStream out;
+		
+		SpillSink(Spill spill)
+				throws IOException {
+			this.spill = spill;
+			this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(spill.file), ExternalSorter.bufferSize));
+		}
+		
+		@Override
+		public void write(SemanticVersion version)
+				throws IOException {
+			VersionCodec.write(version, this.out);
+			this.spill.count++;
+		}
+		
+		@Override
+		public void close()
+				throws IOException {
+			this.out.close();
+		}
+	}
+	
+	private static final class Cursor
+			implements Comparable<Cursor>, Closeable {
+		private final DataInputStream in;
+		private final boolean         reverse;
+		private       long            remaining;
+		private       SemanticVersion current;
+		
+		Cursor(Spill spill, boolean reverse)
+				throws IOException {
+			this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(spill.file), ExternalSorter.bufferSize));
+			this.reverse = reverse;
+			this.remaining = spill.count;
+		}
+		
+		boolean advance()
+				throws IOException {
+			if (this.remaining == 0) {
+				this.current = null;
+				return false;
+			}
+			
+			this.current = VersionCodec.read(this.in);
+			this.remaining--;
+			
+			return true;
+		}
+		
+		@Override
+		public int compareTo(Cursor other) {
+			int result = SemanticVersions.compare(this.current, other.current);
+			
+			return this.reverse ? -result : result;
+		}
+		
+		@Override
+		public void close()
+				throws IOException {
+			this.in.close();
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,393 @@
+package me.chrisswr1.semanticVersioner.cli;
+
+import me.chrisswr1.semanticVersioner.ParseOptions;
+import me.chrisswr1.semanticVersioner.ParseResult;
+import me.chrisswr1.semanticVersioner.SemanticVersion;
+import me.chrisswr1.semanticVersioner.SemanticVersions;
+import me.chrisswr1.semanticVersioner.range.VersionRange;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * command line tool, which streams versions line by line from the standard input or files
+ * <p>
+ * Sorting spills to temporary files by {@link ExternalSorter}, if the input does not fit into a chunk. The startup
+ * only loads the classes of the chosen command.
+ *
+ * @author chwe
+ */
+public final class Main {
+	/**
+	 * the exit status, if everything is valid
+	 */
+	static final int success = 0;
+	/**
+	 * the exit status, if invalid lines were found or {@code max} found no version
+	 */
+	static final int invalid = 1;
+	/**
+	 * the exit status of wrong arguments or failed I/O
+	 */
+	static final int error   = 2;
+	
+	/**
+	 * a conservative estimate of the heap, which a version needs while its chunk is sorted
+	 */
+	private static final int          bytesPerVersion = 512;
+	private static final String       name            = "semantic-versioner";
+	private static final List<String> commands        = Arrays.asList("validate", "sort", "dedup", "max", "filter");
+	private static final String       usage           = "usage: " + Main.name + " <command> [options] [file...]\n"
+	                                                    + "\n"
+	                                                    + "commands:\n"
+	                                                    + "  validate               prints the invalid lines with their reasons\n"
+	                                                    + "  sort                   prints the versions in ascending order\n"
+	                                                    + "  dedup                  prints the versions in ascending order, each precedence once\n"
+	                                                    + "  max                    prints the highest version\n"
+	                                                    + "  filter RANGE           prints the versions within the range in input order\n"
+	                                                    + "\n"
+	                                                    + "options:\n"
+	                                                    + "  -l, --lenient          coerces the lines by the lenient parse options\n"
+	                                                    + "  -r, --reverse          sorts in descending order\n"
+	                                                    + "  -x, --regex            validates by the regular expression instead of the parser\n"
+	                                                    + "  -c, --chunk-size COUNT sorts at most COUNT versions in memory\n"
+	                                                    + "  -t, --temp-dir DIR     writes the spill files of sorting to DIR\n"
+	                                                    + "  -h, --help             prints this help\n"
+	                                                    + "\n"
+	                                                    + "Reads the standard input, if no file or '-' is given, and skips empty lines.\n"
+	                                                    + "Versions are printed in their canonical form. The exit status is 1, if\n"
+	                                                    + "invalid lines were found, and 2 on wrong arguments or I/O errors.\n";
+	
+	private String       command   = null;
+	private VersionRange range     = null;
+	private boolean      lenient   = false;
+	private boolean      reverse   = false;
+	private boolean      regex     = false;
+	private int          chunkSize = (int) Math.max(ExternalSorter.initialChunkSize,
+	                                                Math.min(Runtime.getRuntime().maxMemory() / Main.bytesPerVersion, Integer.MAX_VALUE - 8));
+	private Path         tempDir   = null;
+	private List<String> files     = new ArrayList<>();
+	private int          status    = Main.success;
+	
+	private Main() {
+	}
+	
+	public static void main(String[] args) {
+		int status = Main.run(args, System.in, System.out, System.err);
+		
+		System.out.flush();
+		System.exit(status);
+	}
+	
+	/**
+	 * runs the tool with the given streams, which are not closed
+	 *
+	 * @return the exit status
+	 */
+	static int run(String[] args, InputStream in, PrintStream out, PrintStream err) {
+		Main main = new Main();
+		
+		try {
+			if (!(main.parseArguments(args))) {
+				out.print(Main.usage);
+				return Main.success;
+			}
+		} catch (IllegalArgumentException e) {
+			err.println(Main.name + ": " + e.getMessage());
+			err.print(Main.usage);
+			return Main.error;
+		}
+		
+		Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 1 << 16);
+		
+		try (Input input = new Input(main.files, in)) {
+			main.execute(input, writer, err);
+			writer.flush();
+		} catch (IOException e) {
+			err.println(Main.name + ": " + e.getClass().getSimpleName() + ": " + e.getMessage());
+			return Main.error;
+		}
+		
+		return main.status;
+	}
+	
+	/**
+	 * @return false, if the help was requested
+	 * @throws IllegalArgumentException if the arguments are wrong
+	 */
+	private boolean parseArguments(String[] args) {
+		for (int i = 0; i < args.length; i++) {
+			String arg = args[i];
+			
+			switch (arg) {
+				case "-h":
+				case "--help":
+					return false;
+				case "-l":
+				case "--lenient":
+					this.lenient = true;
+					break;
+				case "-r":
+				case "--reverse":
+					this.reverse = true;
+					break;
+				case "-x":
+				case "--regex":
+					this.regex = true;
+					break;
+				case "-c":
+				case "--chunk-size":
+					this.chunkSize = Main.parsePositive(Main.value(args, ++i, arg), arg);
+					break;
+				case "-t":
+				case "--temp-dir":
+					this.tempDir = Paths.get(Main.value(args, ++i, arg));
+					break;
+				default:
+					if (arg.startsWith("-") && arg.length() > 1) {
+						throw new IllegalArgumentException("Unknown option " + arg);
+					}
+					
+					if (this.command == null) {
+						this.command = arg;
+						
+						if (arg.equals("filter")) {
+							this.range = VersionRange.parse(Main.value(args, ++i, arg));
+						}
+					} else {
+						this.files.add(arg);
+					}
+			}
+		}
+		
+		if (this.command == null) {
+			throw new IllegalArgumentException("No command given");
+		}
+		if (!(Main.commands.contains(this.command))) {
+			throw new IllegalArgumentException("Unknown command " + this.command);
+		}
+		if (this.regex && !(this.command.equals("validate"))) {
+			throw new IllegalArgumentException("--regex is only supported by validate");
+		}
+		if (this.regex && this.lenient) {
+			throw new IllegalArgumentException("--regex cannot be combined with --lenient");
+		}
+		
+		return true;
+	}
+	
+	private static String value(String[] args, int index, String option) {
+		if (index >= args.length) {
+			throw new IllegalArgumentException("Missing value of " + option);
+		}
+		
+		return args[index];
+	}
+	
+	private static int parsePositive(String value, String option) {
+		try {
+			int result = Integer.parseInt(value);
+			
+			if (result > 0) {
+				return result;
+			}
+		} catch (NumberFormatException e) {
+			// reported below
+		}
+		
+		throw new IllegalArgumentException("The value of " + option + " has to be a positive number: " + value);
+	}
+	
+	private void execute(Input input, Writer out, PrintStream err)
+			throws IOException {
+		switch (this.command) {
+			case "validate":
+				this.validate(input, out);
+				break;
+			case "sort":
+				this.sort(input, out, err, false);
+				break;
+			case "dedup":
+				this.sort(input, out, err, true);
+				break;
+			case "max":
+				this.max(input, out, err);
+				break;
+			case "filter":
+				this.filter(input, out, err, this.range);
+				break;
+			default:
+				throw new IllegalStateException("Unknown command " + this.command);
+		}
+	}
+	
+	private void validate(Input input, Writer out)
+			throws IOException {
+		ParseOptions options = this.lenient ? ParseOptions.lenient() : ParseOptions.strict();
+		
+		for (String line = input.next(); line != null; line = input.next()) {
+			String message;
+			
+			if (this.regex) {
+				message = SemanticVersion.getVersionPattern().matcher(line).matches() ? null : "Does not match the version pattern";
+			} else {
+				ParseResult result = SemanticVersion.tryParse(line, options);
+				
+				message = result.isValid() ? null : result.getErrorMessage() + " at offset " + result.getErrorOffset();
+			}
+			
+			if (message != null) {
+				out.write(input.getLocation() + ": " + message + ": " + line + System.lineSeparator());
+				this.status = Main.invalid;
+			}
+		}
+	}
+	
+	private void sort(Input input, Writer out, PrintStream err, boolean distinct)
+			throws IOException {
+		Path directory = this.tempDir != null ? this.tempDir : Paths.get(System.getProperty("java.io.tmpdir"));
+		
+		try (ExternalSorter sorter = new ExternalSorter(this.chunkSize, distinct, this.reverse, directory)) {
+			for (SemanticVersion version = this.next(input, err); version != null; version = this.next(input, err)) {
+				sorter.add(version);
+			}
+			
+			sorter.writeTo(out);
+		}
+	}
+	
+	private void max(Input input, Writer out, PrintStream err)
+			throws IOException {
+		SemanticVersion result = null;
+		
+		for (SemanticVersion version = this.next(input, err); version != null; version = this.next(input, err)) {
+			if (result == null || SemanticVersions.compare(version, result) > 0) {
+				result = version;
+			}
+		}
+		
+		if (result == null) {
+			this.status = Main.invalid;
+			return;
+		}
+		
+		result.appendTo(out).append(System.lineSeparator());
+	}
+	
+	private void filter(Input input, Writer out, PrintStream err, VersionRange range)
+			throws IOException {
+		for (SemanticVersion version = this.next(input, err); version != null; version = this.next(input, err)) {
+			if (range.test(version)) {
+				version.appendTo(out).append(System.lineSeparator());
+			}
+		}
+	}
+	
+	/**
+	 * returns the next valid version and reports the invalid lines before it
+	 *
+	 * @return the version or null, if the input is exhausted
+	 */
+	private SemanticVersion next(Input input, PrintStream err)
+			throws IOException {
+		ParseOptions options = this.lenient ? ParseOptions.lenient() : ParseOptions.strict();
+		
+		for (String line = input.next(); line != null; line = input.next()) {
+			ParseResult result = SemanticVersion.tryParse(line, options);
+			
+			if (result.isValid()) {
+				return result.getVersion();
+			}
+			
+			err.println(input.getLocation() + ": " + result.getErrorMessage() + " at offset " + result.getErrorOffset() + ": " + line);
+			this.status = Main.invalid;
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * the non-empty, trimmed lines of the files in order
+	 */
+	private static final class Input
+			implements Closeable {
+		private static final String stdin = "-";
+		
+		private final List<String>   files;
+		private final InputStream    in;
+		private       int            index  = 0;
+		private       String         source = null;
+		private       BufferedReader reader = null;
+		private       long           line   = 0;
+		
+		Input(List<String> files, InputStream in) {
+			this.files = files.isEmpty() ? Collections.singletonList(Input.stdin) : files;
+			this.in = in;
+		}
+		
+		/**
+		 * @return the next line or null, if all files are read
+		 */
+		String next()
+				throws IOException {
+			while (true) {
+				if (this.reader == null) {
+					if (this.index == this.files.size()) {
+						return null;
+					}
+					
+					this.source = this.files.get(this.index++);
+					this.reader = new BufferedReader(new InputStreamReader(
+							this.source.equals(Input.stdin) ? this.in : Files.newInputStream(Paths.get(this.source)),
+							StandardCharsets.UTF_8), 1 << 16);
+					this.line = 0;
+				}
+				
+				String result = this.reader.readLine();
+				if (result == null) {
+					this.close();
+					continue;
+				}
+				
+				this.line++;
+				
+				result = result.trim();
+				if (!(result.isEmpty())) {
+					return result;
+				}
+			}
+		}
+		
+		/**
+		 * @return the file and the number of the current line
+		 */
+		String getLocation() {
+			return (this.source.equals(Input.stdin) ? "<stdin>" : this.source) + ":" + this.line;
+		}
+		
+		@Override
+		public void close()
+				throws IOException {
+			if (this.reader != null && !(this.source.equals(Input.stdin))) {
+				this.reader.close();
+			}
+			
+			this.reader = null;
+		}
+	}
+}
\ No newline at end of file
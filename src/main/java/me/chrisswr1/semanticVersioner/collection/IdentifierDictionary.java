@@ -0,0 +1,132 @@
+package me.chrisswr1.semanticVersioner.collection;
+
+import me.chrisswr1.semanticVersioner.Identifiers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * assigns dense int codes to distinct pre-release and build metadata identifiers
+ * <p>
+ * Numeric identifiers within a long are looked up in a primitive open addressing table, so encoding a known identifier
+ * does not allocate.
+ *
+ * @author chwe
+ */
+final class IdentifierDictionary {
+	private static final int minCapacity = 8;
+	
+	private final Map<Object, Integer> codes       = new HashMap<>();
+	private final List<Object>         identifiers = new ArrayList<>();
+	
+	private long[] numbers;
+	/**
+	 * the codes of {@link #numbers} plus one, zero marks an empty slot
+	 */
+	private int[]  numberCodes;
+	private int    numberCount;
+	private int    mask;
+	
+	IdentifierDictionary() {
+		this.allocate(IdentifierDictionary.minCapacity);
+	}
+	
+	private void allocate(int capacity) {
+		this.numbers = new long[capacity];
+		this.numberCodes = new int[capacity];
+		this.numberCount = 0;
+		this.mask = capacity - 1;
+	}
+	
+	private static int spread(long number) {
+		int hash = (int) (number ^ (number >>> 32)) * 0x9E3779B9;
+		
+		return hash ^ (hash >>> 16);
+	}
+	
+	/**
+	 * @return the code of the identifier at the given index, which is assigned, if the identifier is new
+	 */
+	int encode(Identifiers identifiers, int index) {
+		if (identifiers.isNumeric(index) && !identifiers.isBigNumber(index)) {
+			return this.encode(identifiers.getNumber(index));
+		}
+		
+		return this.encode(identifiers.get(index));
+	}
+	
+	private int encode(long number) {
+		int i = IdentifierDictionary.spread(number) & this.mask;
+		while (this.numberCodes[i] != 0) {
+			if (this.numbers[i] == number) {
+				return this.numberCodes[i] - 1;
+			}
+			
+			i = (i + 1) & this.mask;
+		}
+		
+		int code = this.identifiers.size();
+		this.identifiers.add(number);
+		
+		this.numbers[i] = number;
+		this.numberCodes[i] = code + 1;
+		
+		if (++this.numberCount > this.numbers.length / 2) {
+			this.resize();
+		}
+		
+		return code;
+	}
+	
+	private int encode(Object identifier) {
+		Integer code = this.codes.get(identifier);
+		
+		if (code == null) {
+			code = this.identifiers.size();
+			
+			this.codes.put(identifier, code);
+			this.identifiers.add(identifier);
+		}
+		
+		return code;
+	}
+	
+	private void resize() {
+		long[] oldNumbers     = this.numbers;
+		int[]  oldNumberCodes = this.numberCodes;
+		int    numberCount    = this.numberCount;
+		
+		this.allocate(oldNumbers.length * 2);
+		this.numberCount = numberCount;
+		
+		for (int j = 0; j < oldNumbers.length; j++) {
+			if (oldNumberCodes[j] == 0) {
+				continue;
+			}
+			
+			int i = IdentifierDictionary.spread(oldNumbers[j]) & this.mask;
+			while (this.numberCodes[i] != 0) {
+				i = (i + 1) & this.mask;
+			}
+			
+			this.numbers[i] = oldNumbers[j];
+			this.numberCodes[i] = oldNumberCodes[j];
+		}
+	}
+	
+	Object decode(int code) {
+		return this.identifiers.get(code);
+	}
+	
+	int size() {
+		return this.identifiers.size();
+	}
+	
+	void clear() {
+		this.codes.clear();
+		this.identifiers.clear();
+		this.allocate(IdentifierDictionary.minCapacity);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,786 @@
+package me.chrisswr1.semanticVersioner.collection;
+
+import me.chrisswr1.semanticVersioner.Identifiers;
+import me.chrisswr1.semanticVersioner.SemanticVersion;
+import me.chrisswr1.semanticVersioner.range.VersionRange;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.IntPredicate;
+
+/**
+ * columnar container of many {@link SemanticVersion}s
+ * <p>
+ * Major, minor, patch and the sort keys are stored in primitive columns and the identifiers are dictionary encoded into
+ * an int column, so a row needs 56 bytes plus 4 bytes per identifier. The columns are held in arrays or, for an off-heap
+ * column, in direct {@link ByteBuffer}s. Rows are compared, sorted and filtered in place and a {@link SemanticVersion}
+ * is only created by {@link #get(int)}.
+ * <p>
+ * A column is not thread-safe.
+ *
+ * @author chwe
+ */
+public final class VersionColumn
+		implements Iterable<SemanticVersion> {
+	private static final int majorField         = 0;
+	private static final int minorField         = 1;
+	private static final int patchField         = 2;
+	private static final int highField          = 3;
+	private static final int lowField           = 4;
+	private static final int longFields         = 5;
+	private static final int startField         = 0;
+	private static final int preReleaseField    = 1;
+	private static final int buildMetadataField = 2;
+	private static final int intFields          = 3;
+	private static final int minCapacity        = 16;
+	private static final int insertionSortSize  = 16;
+	
+	private final IdentifierDictionary dictionary      = new IdentifierDictionary();
+	private       Storage              storage;
+	private       int                  size            = 0;
+	private       int                  identifierCount = 0;
+	private       int                  modCount        = 0;
+	
+	private VersionColumn(Storage storage) {
+		this.storage = storage;
+	}
+	
+	/**
+	 * @param expectedSize the count of versions to reserve space for
+	 * @return an empty column, which is stored in arrays
+	 */
+	public static VersionColumn onHeap(int expectedSize) {
+		int capacity = VersionColumn.initialCapacity(expectedSize);
+		
+		return new VersionColumn(new HeapStorage(capacity, capacity));
+	}
+	
+	/**
+	 * @param expectedSize the count of versions to reserve space for
+	 * @return an empty column, which is stored in direct buffers
+	 */
+	public static VersionColumn offHeap(int expectedSize) {
+		int capacity = VersionColumn.initialCapacity(expectedSize);
+		
+		return new VersionColumn(new DirectStorage(capacity, capacity));
+	}
+	
+	private static int initialCapacity(int expectedSize) {
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("The expected size must not be negative!");
+		}
+		
+		return Math.max(expectedSize, VersionColumn.minCapacity);
+	}
+	
+	public boolean isOffHeap() {
+		return this.storage instanceof DirectStorage;
+	}
+	
+	public int size() {
+		return this.size;
+	}
+	
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+	
+	/**
+	 * @return the count of distinct identifiers, which were added since the last {@link #clear()}
+	 */
+	public int getDictionarySize() {
+		return this.dictionary.size();
+	}
+	
+	/**
+	 * appends the given version
+	 *
+	 * @return the row of the version
+	 */
+	public int add(SemanticVersion version) {
+		Identifiers preRelease    = version.getPreRelease();
+		Identifiers buildMetadata = version.getBuildMetadata();
+		
+		this.ensureCapacity(this.size + 1, this.identifierCount + preRelease.size() + buildMetadata.size());
+		
+		Storage storage = this.storage;
+		int     row     = this.size;
+		
+		storage.setLong(VersionColumn.majorField, row, version.getMajor());
+		storage.setLong(VersionColumn.minorField, row, version.getMinor());
+		storage.setLong(VersionColumn.patchField, row, version.getPatch());
+		storage.setLong(VersionColumn.highField, row, version.getSortKeyHigh());
+		storage.setLong(VersionColumn.lowField, row, version.getSortKeyLow());
+		storage.setInt(VersionColumn.startField, row, this.identifierCount);
+		storage.setInt(VersionColumn.preReleaseField, row, preRelease.size());
+		storage.setInt(VersionColumn.buildMetadataField, row, buildMetadata.size());
+		
+		for (int i = 0; i < preRelease.size(); i++) {
+			storage.setIdentifier(this.identifierCount++, this.dictionary.encode(preRelease, i));
+		}
+		for (int i = 0; i < buildMetadata.size(); i++) {
+			storage.setIdentifier(this.identifierCount++, this.dictionary.encode(buildMetadata, i));
+		}
+		
+		this.size++;
+		this.modCount++;
+		
+		return row;
+	}
+	
+	public void addAll(Iterable<? extends SemanticVersion> versions) {
+		for (SemanticVersion version : versions) {
+			this.add(version);
+		}
+	}
+	
+	/**
+	 * creates the version of the given row
+	 *
+	 * @return a new, mutable version
+	 */
+	public SemanticVersion get(int row) {
+		this.checkRow(row);
+		
+		Storage storage    = this.storage;
+		int     start      = storage.getInt(VersionColumn.startField, row);
+		int     preRelease = storage.getInt(VersionColumn.preReleaseField, row);
+		
+		return new SemanticVersion(
+				storage.getLong(VersionColumn.majorField, row),
+				storage.getLong(VersionColumn.minorField, row),
+				storage.getLong(VersionColumn.patchField, row),
+				this.decode(start, preRelease),
+				this.decode(start + preRelease, storage.getInt(VersionColumn.buildMetadataField, row)));
+	}
+	
+	private List<Object> decode(int start, int count) {
+		List<Object> result = new ArrayList<>(count);
+		
+		for (int i = 0; i < count; i++) {
+			result.add(this.dictionary.decode(this.storage.getIdentifier(start + i)));
+		}
+		
+		return result;
+	}
+	
+	public long getMajor(int row) {
+		this.checkRow(row);
+		
+		return this.storage.getLong(VersionColumn.majorField, row);
+	}
+	
+	public long getMinor(int row) {
+		this.checkRow(row);
+		
+		return this.storage.getLong(VersionColumn.minorField, row);
+	}
+	
+	public long getPatch(int row) {
+		this.checkRow(row);
+		
+		return this.storage.getLong(VersionColumn.patchField, row);
+	}
+	
+	public long getSortKeyHigh(int row) {
+		this.checkRow(row);
+		
+		return this.storage.getLong(VersionColumn.highField, row);
+	}
+	
+	public long getSortKeyLow(int row) {
+		this.checkRow(row);
+		
+		return this.storage.getLong(VersionColumn.lowField, row);
+	}
+	
+	public boolean isRelease(int row) {
+		return this.getPreReleaseCount(row) == 0;
+	}
+	
+	public int getPreReleaseCount(int row) {
+		this.checkRow(row);
+		
+		return this.storage.getInt(VersionColumn.preReleaseField, row);
+	}
+	
+	public int getBuildMetadataCount(int row) {
+		this.checkRow(row);
+		
+		return this.storage.getInt(VersionColumn.buildMetadataField, row);
+	}
+	
+	/**
+	 * @return the pre-release identifier, which is a {@link Number} or a string
+	 */
+	public Object getPreRelease(int row, int index) {
+		if (index < 0 || index >= this.getPreReleaseCount(row)) {
+			throw new IndexOutOfBoundsException("Index: " + index);
+		}
+		
+		int start = this.storage.getInt(VersionColumn.startField, row);
+		
+		return this.dictionary.decode(this.storage.getIdentifier(start + index));
+	}
+	
+	/**
+	 * @return the build metadata identifier, which is a {@link Number} or a string
+	 */
+	public Object getBuildMetadata(int row, int index) {
+		if (index < 0 || index >= this.getBuildMetadataCount(row)) {
+			throw new IndexOutOfBoundsException("Index: " + index);
+		}
+		
+		int start = this.storage.getInt(VersionColumn.startField, row)
+		            + this.storage.getInt(VersionColumn.preReleaseField, row);
+		
+		return this.dictionary.decode(this.storage.getIdentifier(start + index));
+	}
+	
+	/**
+	 * compares the versions of two rows like {@link SemanticVersion#compareTo(SemanticVersion)}
+	 */
+	public int compare(int first, int second) {
+		this.checkRow(first);
+		this.checkRow(second);
+		
+		return this.compareRows(first, second);
+	}
+	
+	private int compareRows(int first, int second) {
+		Storage storage = this.storage;
+		
+		int result = Long.compare(storage.getLong(VersionColumn.highField, first), storage.getLong(VersionColumn.highField, second));
+		if (result != 0) {
+			return result;
+		}
+		
+		result = Long.compare(storage.getLong(VersionColumn.lowField, first), storage.getLong(VersionColumn.lowField, second));
+		if (result != 0) {
+			return result;
+		}
+		
+		for (int field = VersionColumn.majorField; field <= VersionColumn.patchField; field++) {
+			result = Long.compare(storage.getLong(field, first), storage.getLong(field, second));
+			if (result != 0) {
+				return result;
+			}
+		}
+		
+		int firstCount  = storage.getInt(VersionColumn.preReleaseField, first);
+		int secondCount = storage.getInt(VersionColumn.preReleaseField, second);
+		
+		if (firstCount == 0 || secondCount == 0) {
+			return Integer.compare(secondCount, firstCount);
+		}
+		
+		int firstStart  = storage.getInt(VersionColumn.startField, first);
+		int secondStart = storage.getInt(VersionColumn.startField, second);
+		int count       = Math.min(firstCount, secondCount);
+		
+		for (int i = 0; i < count; i++) {
+			int firstCode  = storage.getIdentifier(firstStart + i);
+			int secondCode = storage.getIdentifier(secondStart + i);
+			
+			if (firstCode != secondCode) {
+				result = Identifiers.compare(this.dictionary.decode(firstCode), this.dictionary.decode(secondCode));
+				if (result != 0) {
+					return result;
+				}
+			}
+		}
+		
+		return Integer.compare(firstCount, secondCount);
+	}
+	
+	/**
+	 * compares the version of a row with the given version like {@link SemanticVersion#compareTo(SemanticVersion)}
+	 */
+	public int compareTo(int row, SemanticVersion version) {
+		this.checkRow(row);
+		
+		return this.compareRow(row, version);
+	}
+	
+	private int compareRow(int row, SemanticVersion version) {
+		Storage storage = this.storage;
+		
+		int result = Long.compare(storage.getLong(VersionColumn.highField, row), version.getSortKeyHigh());
+		if (result != 0) {
+			return result;
+		}
+		
+		result = Long.compare(storage.getLong(VersionColumn.lowField, row), version.getSortKeyLow());
+		if (result != 0) {
+			return result;
+		}
+		
+		result = Long.compare(storage.getLong(VersionColumn.majorField, row), version.getMajor());
+		if (result != 0) {
+			return result;
+		}
+		
+		result = Long.compare(storage.getLong(VersionColumn.minorField, row), version.getMinor());
+		if (result != 0) {
+			return result;
+		}
+		
+		result = Long.compare(storage.getLong(VersionColumn.patchField, row), version.getPatch());
+		if (result != 0) {
+			return result;
+		}
+		
+		Identifiers preRelease = version.getPreRelease();
+		int         rowCount   = storage.getInt(VersionColumn.preReleaseField, row);
+		int         count      = preRelease.size();
+		
+		if (rowCount == 0 || count == 0) {
+			return Integer.compare(count, rowCount);
+		}
+		
+		int start = storage.getInt(VersionColumn.startField, row);
+		for (int i = 0; i < Math.min(rowCount, count); i++) {
+			result = Identifiers.compare(this.dictionary.decode(storage.getIdentifier(start + i)), preRelease, i);
+			if (result != 0) {
+				return result;
+			}
+		}
+		
+		return Integer.compare(rowCount, count);
+	}
+	
+	/**
+	 * sorts the rows by precedence
+	 * <p>
+	 * The sort is stable, so versions, which differ only in their build metadata, keep their order.
+	 */
+	public void sort() {
+		int[] rows = new int[this.size];
+		for (int i = 0; i < rows.length; i++) {
+			rows[i] = i;
+		}
+		
+		this.mergeSort(rows, rows.clone(), 0, rows.length);
+		this.rearrange(rows, rows.length);
+	}
+	
+	private void mergeSort(int[] rows, int[] buffer, int from, int to) {
+		if (to - from <= VersionColumn.insertionSortSize) {
+			for (int i = from + 1; i < to; i++) {
+				int row = rows[i];
+				int j   = i - 1;
+				
+				while (j >= from && this.compareRows(rows[j], row) > 0) {
+					rows[j + 1] = rows[j];
+					j--;
+				}
+				
+				rows[j + 1] = row;
+			}
+			
+			return;
+		}
+		
+		int middle = (from + to) >>> 1;
+		
+		this.mergeSort(rows, buffer, from, middle);
+		this.mergeSort(rows, buffer, middle, to);
+		
+		if (this.compareRows(rows[middle - 1], rows[middle]) <= 0) {
+			return;
+		}
+		
+		System.arraycopy(rows, from, buffer, from, to - from);
+		
+		int i = from;
+		int j = middle;
+		for (int k = from; k < to; k++) {
+			if (j >= to || (i < middle && this.compareRows(buffer[i], buffer[j]) <= 0)) {
+				rows[k] = buffer[i++];
+			} else {
+				rows[k] = buffer[j++];
+			}
+		}
+	}
+	
+	/**
+	 * searches the given version in a sorted column
+	 *
+	 * @return the row of the version or (-insertion point - 1), if it is not contained
+	 */
+	public int binarySearch(SemanticVersion version) {
+		int low  = 0;
+		int high = this.size - 1;
+		
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			int result = this.compareRow(middle, version);
+			
+			if (result < 0) {
+				low = middle + 1;
+			} else if (result > 0) {
+				high = middle - 1;
+			} else {
+				return middle;
+			}
+		}
+		
+		return -(low + 1);
+	}
+	
+	/**
+	 * removes all rows, which do not match the given predicate, and keeps the order of the remaining ones
+	 *
+	 * @param predicate the test of a row
+	 * @return the count of removed rows
+	 */
+	public int retainIf(IntPredicate predicate) {
+		int[] rows  = new int[this.size];
+		int   count = 0;
+		
+		for (int row = 0; row < this.size; row++) {
+			if (predicate.test(row)) {
+				rows[count++] = row;
+			}
+		}
+		
+		int removed = this.size - count;
+		if (removed != 0) {
+			this.rearrange(rows, count);
+		}
+		
+		return removed;
+	}
+	
+	/**
+	 * removes all rows, which are not in the given range
+	 *
+	 * @return the count of removed rows
+	 */
+	public int retainAll(VersionRange range) {
+		return this.retainIf(row -> this.isInRange(row, range));
+	}
+	
+	private boolean isInRange(int row, VersionRange range) {
+		for (int i = 0; i < range.getIntervalCount(); i++) {
+			SemanticVersion lower = range.getLower(i);
+			if (lower != null) {
+				int result = this.compareRow(row, lower);
+				
+				if (result < 0 || (result == 0 && !(range.isLowerInclusive(i)))) {
+					return false;
+				}
+			}
+			
+			SemanticVersion upper = range.getUpper(i);
+			if (upper != null) {
+				int result = this.compareRow(row, upper);
+				
+				if (result > 0 || (result == 0 && !(range.isUpperInclusive(i)))) {
+					continue;
+				}
+			}
+			
+			return true;
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * copies the given rows in their order into new, compact storage
+	 */
+	private void rearrange(int[] rows, int count) {
+		Storage source      = this.storage;
+		int     identifiers = 0;
+		
+		for (int i = 0; i < count; i++) {
+			identifiers += source.getInt(VersionColumn.preReleaseField, rows[i])
+			               + source.getInt(VersionColumn.buildMetadataField, rows[i]);
+		}
+		
+		Storage target = source.allocate(Math.max(count, VersionColumn.minCapacity),
+		                                 Math.max(identifiers, VersionColumn.minCapacity));
+		int     next   = 0;
+		
+		for (int i = 0; i < count; i++) {
+			int row = rows[i];
+			
+			for (int field = 0; field < VersionColumn.longFields; field++) {
+				target.setLong(field, i, source.getLong(field, row));
+			}
+			
+			int start      = source.getInt(VersionColumn.startField, row);
+			int preRelease = source.getInt(VersionColumn.preReleaseField, row);
+			int total      = preRelease + source.getInt(VersionColumn.buildMetadataField, row);
+			
+			target.setInt(VersionColumn.startField, i, next);
+			target.setInt(VersionColumn.preReleaseField, i, preRelease);
+			target.setInt(VersionColumn.buildMetadataField, i, total - preRelease);
+			
+			for (int j = 0; j < total; j++) {
+				target.setIdentifier(next++, source.getIdentifier(start + j));
+			}
+		}
+		
+		this.storage = target;
+		this.size = count;
+		this.identifierCount = next;
+		this.modCount++;
+	}
+	
+	public void clear() {
+		this.size = 0;
+		this.identifierCount = 0;
+		this.dictionary.clear();
+		this.modCount++;
+	}
+	
+	private void ensureCapacity(int rows, int identifiers) {
+		Storage storage = this.storage;
+		
+		if (rows <= storage.getRowCapacity() && identifiers <= storage.getIdentifierCapacity()) {
+			return;
+		}
+		
+		this.storage = storage.resize(VersionColumn.grow(storage.getRowCapacity(), rows),
+		                              VersionColumn.grow(storage.getIdentifierCapacity(), identifiers),
+		                              this.size, this.identifierCount);
+	}
+	
+	private static int grow(int capacity, int required) {
+		if (required < 0) {
+			throw new IllegalStateException("The column is too large!");
+		}
+		
+		while (capacity < required) {
+			capacity = capacity > Integer.MAX_VALUE / 2 ? Integer.MAX_VALUE : capacity * 2;
+		}
+		
+		return capacity;
+	}
+	
+	private void checkRow(int row) {
+		if (row < 0 || row >= this.size) {
+			throw new IndexOutOfBoundsException("Row: " + row + ", Size: " + this.size);
+		}
+	}
+	
+	/**
+	 * creates the versions of all rows one after another
+	 */
+	@Override
+	public Iterator<SemanticVersion> iterator() {
+		return new Iterator<SemanticVersion>() {
+			private final int expectedModCount = VersionColumn.this.modCount;
+			private       int next             = 0;
+			
+			@Override
+			public boolean hasNext() {
+				return this.next < VersionColumn.this.size;
+			}
+			
+			@Override
+			public SemanticVersion next() {
+				if (VersionColumn.this.modCount != this.expectedModCount) {
+					throw new ConcurrentModificationException();
+				}
+				if (!(this.hasNext())) {
+					throw new NoSuchElementException();
+				}
+				
+				return VersionColumn.this.get(this.next++);
+			}
+		};
+	}
+	
+	/**
+	 * fixed size storage of the row fields and the identifier codes
+	 */
+	private abstract static class Storage {
+		abstract long getLong(int field, int row);
+		
+		abstract void setLong(int field, int row, long value);
+		
+		abstract int getInt(int field, int row);
+		
+		abstract void setInt(int field, int row, int value);
+		
+		abstract int getIdentifier(int index);
+		
+		abstract void setIdentifier(int index, int code);
+		
+		abstract int getRowCapacity();
+		
+		abstract int getIdentifierCapacity();
+		
+		/**
+		 * @return new, empty storage of the same kind
+		 */
+		abstract Storage allocate(int rows, int identifiers);
+		
+		/**
+		 * @return new storage of the same kind, which contains the used rows and identifiers of this one
+		 */
+		abstract Storage resize(int rows, int identifiers, int usedRows, int usedIdentifiers);
+	}
+	
+	private static final class HeapStorage
+			extends Storage {
+		private final long[][] longs;
+		private final int[][]  ints;
+		private final int[]    identifiers;
+		
+		HeapStorage(int rows, int identifiers) {
+			this.longs = new long[VersionColumn.longFields][rows];
+			this.ints = new int[VersionColumn.intFields][rows];
+			this.identifiers = new int[identifiers];
+		}
+		
+		@Override
+		long getLong(int field, int row) {
+			return this.longs[field][row];
+		}
+		
+		@Override
+		void setLong(int field, int row, long value) {
+			this.longs[field][row] = value;
+		}
+		
+		@Override
+		int getInt(int field, int row) {
+			return this.ints[field][row];
+		}
+		
+		@Override
+		void setInt(int field, int row, int value) {
+			this.ints[field][row] = value;
+		}
+		
+		@Override
+		int getIdentifier(int index) {
+			return this.identifiers[index];
+		}
+		
+		@Override
+		void setIdentifier(int index, int code) {
+			this.identifiers[index] = code;
+		}
+		
+		@Override
+		int getRowCapacity() {
+			return this.ints[0].length;
+		}
+		
+		@Override
+		int getIdentifierCapacity() {
+			return this.identifiers.length;
+		}
+		
+		@Override
+		Storage allocate(int rows, int identifiers) {
+			return new HeapStorage(rows, identifiers);
+		}
+		
+		@Override
+		Storage resize(int rows, int identifiers, int usedRows, int usedIdentifiers) {
+			HeapStorage result = new HeapStorage(rows, identifiers);
+			
+			for (int field = 0; field < VersionColumn.longFields; field++) {
+				System.arraycopy(this.longs[field], 0, result.longs[field], 0, usedRows);
+			}
+			for (int field = 0; field < VersionColumn.intFields; field++) {
+				System.arraycopy(this.ints[field], 0, result.ints[field], 0, usedRows);
+			}
+			System.arraycopy(this.identifiers, 0, result.identifiers, 0, usedIdentifiers);
+			
+			return result;
+		}
+	}
+	
+	private static final class DirectStorage
+			extends Storage {
+		private static final int intOffset = VersionColumn.longFields * Long.BYTES;
+		private static final int rowBytes  = 56;
+		
+		private final ByteBuffer rows;
+		private final ByteBuffer identifiers;
+		
+		DirectStorage(int rows, int identifiers) {
+			if ((long) rows * DirectStorage.rowBytes > Integer.MAX_VALUE
+			    || (long) identifiers * Integer.BYTES > Integer.MAX_VALUE) {
+				throw new IllegalStateException("The column is too large for a direct buffer!");
+			}
+			
+			this.rows = ByteBuffer.allocateDirect(rows * DirectStorage.rowBytes).order(ByteOrder.nativeOrder());
+			this.identifiers = ByteBuffer.allocateDirect(identifiers * Integer.BYTES).order(ByteOrder.nativeOrder());
+		}
+		
+		@Override
+		long getLong(int field, int row) {
+			return this.rows.getLong(row * DirectStorage.rowBytes + field * Long.BYTES);
+		}
+		
+		@Override
+		void setLong(int field, int row, long value) {
+			this.rows.putLong(row * DirectStorage.rowBytes + field * Long.BYTES, value);
+		}
+		
+		@Override
+		int getInt(int field, int row) {
+			return this.rows.getInt(row * DirectStorage.rowBytes + DirectStorage.intOffset + field * Integer.BYTES);
+		}
+		
+		@Override
+		void setInt(int field, int row, int value) {
+			this.rows.putInt(row * DirectStorage.rowBytes + DirectStorage.intOffset + field * Integer.BYTES, value);
+		}
+		
+		@Override
+		int getIdentifier(int index) {
+			return this.identifiers.getInt(index * Integer.BYTES);
+		}
+		
+		@Override
+		void setIdentifier(int index, int code) {
+			this.identifiers.putInt(index * Integer.BYTES, code);
+		}
+		
+		@Override
+		int getRowCapacity() {
+			return this.rows.capacity() / DirectStorage.rowBytes;
+		}
+		
+		@Override
+		int getIdentifierCapacity() {
+			return this.identifiers.capacity() / Integer.BYTES;
+		}
+		
+		@Override
+		Storage allocate(int rows, int identifiers) {
+			return new DirectStorage(rows, identifiers);
+		}
+		
+		@Override
+		Storage resize(int rows, int identifiers, int usedRows, int usedIdentifiers) {
+			DirectStorage result = new DirectStorage(rows, identifiers);
+			
+			DirectStorage.copy(this.rows, result.rows, usedRows * DirectStorage.rowBytes);
+			DirectStorage.copy(this.identifiers, result.identifiers, usedIdentifiers * Integer.BYTES);
+			
+			return result;
+		}
+		
+		private static void copy(ByteBuffer source, ByteBuffer target, int length) {
+			ByteBuffer from = source.duplicate();
+			from.limit(length);
+			
+			target.duplicate().put(from);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,398 @@
+package me.chrisswr1.semanticVersioner.collection;
+
+import me.chrisswr1.semanticVersioner.SemanticVersion;
+import me.chrisswr1.semanticVersioner.range.VersionRange;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * immutable, sorted index of distinct {@link SemanticVersion}s, which answers its queries by binary search
+ * <p>
+ * Sub-indices are views, which share the arrays of their index. The releases of an index are kept in a separate
+ * projection, so pre-releases can be skipped without a scan.
+ *
+ * @author chwe
+ */
+public final class VersionIndex
+		implements Iterable<SemanticVersion> {
+	private static final VersionIndex empty = new VersionIndex(new SemanticVersion[0]);
+	
+	private final SemanticVersion[] versions;
+	private final long[]            highs;
+	private final long[]            lows;
+	private final int               from;
+	private final int               to;
+	private final VersionIndex      releases;
+	
+	private VersionIndex(SemanticVersion[] versions) {
+		this.versions = versions;
+		this.highs = new long[versions.length];
+		this.lows = new long[versions.length];
+		this.from = 0;
+		this.to = versions.length;
+		
+		int releaseCount = 0;
+		for (int i = 0; i < versions.length; i++) {
+			this.highs[i] = versions[i].getSortKeyHigh();
+			this.lows[i] = versions[i].getSortKeyLow();
+			
+			if (versions[i].isRelease()) {
+				releaseCount++;
+			}
+		}
+		
+		if (releaseCount == versions.length) {
+			this.releases = this;
+		} else {
+			SemanticVersion[] releases = new SemanticVersion[releaseCount];
+			
+			int i = 0;
+			for (SemanticVersion version : versions) {
+				if (version.isRelease()) {
+					releases[i++] = version;
+				}
+			}
+			
+			this.releases = new VersionIndex(releases);
+		}
+	}
+	
+	private VersionIndex(SemanticVersion[] versions, long[] highs, long[] lows, VersionIndex releases) {
+		this.versions = versions;
+		this.highs = highs;
+		this.lows = lows;
+		this.from = 0;
+		this.to = versions.length;
+		this.releases = releases == null ? this : releases;
+	}
+	
+	private VersionIndex(VersionIndex index, int from, int to, VersionIndex releases) {
+		this.versions = index.versions;
+		this.highs = index.highs;
+		this.lows = index.lows;
+		this.from = from;
+		this.to = to;
+		this.releases = releases == null ? this : releases;
+	}
+	
+	/**
+	 * builds an index of the given versions
+	 * <p>
+	 * If versions with the same precedence are given, the first one is kept.
+	 *
+	 * @param versions the versions to index
+	 * @return the index
+	 */
+	public static VersionIndex of(Collection<? extends SemanticVersion> versions) {
+		if (versions.isEmpty()) {
+			return VersionIndex.empty;
+		}
+		
+		SemanticVersion[] sorted = new SemanticVersion[versions.size()];
+		
+		int i = 0;
+		for (SemanticVersion version : versions) {
+			sorted[i++] = version.toImmutable();
+		}
+		
+		Arrays.sort(sorted);
+		
+		return new VersionIndex(VersionIndex.distinct(sorted));
+	}
+	
+	public static VersionIndex of(SemanticVersion... versions) {
+		return VersionIndex.of(Arrays.asList(versions));
+	}
+	
+	public static VersionIndex empty() {
+		return VersionIndex.empty;
+	}
+	
+	/**
+	 * removes versions with the same precedence from a sorted array
+	 */
+	static SemanticVersion[] distinct(SemanticVersion[] sorted) {
+		int count = 0;
+		
+		for (int i = 0; i < sorted.length; i++) {
+			if (count == 0 || sorted[count - 1].compareTo(sorted[i]) != 0) {
+				sorted[count++] = sorted[i];
+			}
+		}
+		
+		return count == sorted.length ? sorted : Arrays.copyOf(sorted, count);
+	}
+	
+	/**
+	 * returns a copy of this index with the given version
+	 * <p>
+	 * The arrays are copied once, while the releases are shared with this index, if the version is a pre-release.
+	 *
+	 * @param version an immutable version
+	 * @return this index, if it contains a version with the same precedence, or the copy
+	 */
+	VersionIndex insert(SemanticVersion version) {
+		if (this.from != 0 || this.to != this.versions.length) {
+			List<SemanticVersion> versions = new ArrayList<>(this.asList());
+			versions.add(version);
+			
+			return this.contains(version) ? this : VersionIndex.of(versions);
+		}
+		
+		int index = this.search(version, false);
+		if (index < this.to && this.compareAt(index, version, version.getSortKeyHigh(), version.getSortKeyLow()) == 0) {
+			return this;
+		}
+		
+		int               length   = this.versions.length;
+		SemanticVersion[] versions = new SemanticVersion[length + 1];
+		long[]            highs    = new long[length + 1];
+		long[]            lows     = new long[length + 1];
+		
+		System.arraycopy(this.versions, 0, versions, 0, index);
+		System.arraycopy(this.highs, 0, highs, 0, index);
+		System.arraycopy(this.lows, 0, lows, 0, index);
+		
+		versions[index] = version;
+		highs[index] = version.getSortKeyHigh();
+		lows[index] = version.getSortKeyLow();
+		
+		System.arraycopy(this.versions, index, versions, index + 1, length - index);
+		System.arraycopy(this.highs, index, highs, index + 1, length - index);
+		System.arraycopy(this.lows, index, lows, index + 1, length - index);
+		
+		VersionIndex releases;
+		if (version.isRelease()) {
+			releases = this.releases == this ? null : this.releases.insert(version);
+		} else {
+			releases = this.releases;
+		}
+		
+		return new VersionIndex(versions, highs, lows, releases);
+	}
+	
+	public int size() {
+		return this.to - this.from;
+	}
+	
+	public boolean isEmpty() {
+		return this.to == this.from;
+	}
+	
+	public SemanticVersion get(int index) {
+		if (index < 0 || index >= this.size()) {
+			throw new IndexOutOfBoundsException("Index " + index + " is out of the bounds of this index!");
+		}
+		
+		return this.versions[this.from + index];
+	}
+	
+	/**
+	 * @return the lowest version or null, if this index is empty
+	 */
+	public SemanticVersion first() {
+		return this.isEmpty() ? null : this.versions[this.from];
+	}
+	
+	/**
+	 * @return the highest version or null, if this index is empty
+	 */
+	public SemanticVersion last() {
+		return this.isEmpty() ? null : this.versions[this.to - 1];
+	}
+	
+	/**
+	 * @return the projection of this index, which only contains the releases
+	 */
+	public VersionIndex releases() {
+		return this.releases;
+	}
+	
+	/**
+	 * @return the highest release or null, if there is none
+	 */
+	public SemanticVersion latestRelease() {
+		return this.releases.last();
+	}
+	
+	/**
+	 * @return the highest version, which is lower than or equal to the given one, or null
+	 */
+	public SemanticVersion floor(SemanticVersion version) {
+		return this.at(this.search(version, true) - 1);
+	}
+	
+	/**
+	 * @return the highest version, which is lower than the given one, or null
+	 */
+	public SemanticVersion lower(SemanticVersion version) {
+		return this.at(this.search(version, false) - 1);
+	}
+	
+	/**
+	 * @return the lowest version, which is higher than or equal to the given one, or null
+	 */
+	public SemanticVersion ceiling(SemanticVersion version) {
+		return this.at(this.search(version, false));
+	}
+	
+	/**
+	 * @return the lowest version, which is higher than the given one, or null
+	 */
+	public SemanticVersion higher(SemanticVersion version) {
+		return this.at(this.search(version, true));
+	}
+	
+	public boolean contains(SemanticVersion version) {
+		int index = this.search(version, false);
+		
+		return index < this.to && this.compareAt(index, version, version.getSortKeyHigh(), version.getSortKeyLow()) == 0;
+	}
+	
+	/**
+	 * returns a view of all versions between the given bounds
+	 *
+	 * @param lower          the lower bound or null, if it is unbounded
+	 * @param lowerInclusive true, if the lower bound is included
+	 * @param upper          the upper bound or null, if it is unbounded
+	 * @param upperInclusive true, if the upper bound is included
+	 * @return the view
+	 */
+	public VersionIndex subIndex(SemanticVersion lower, boolean lowerInclusive, SemanticVersion upper, boolean upperInclusive) {
+		int subFrom = lower == null ? this.from : this.search(lower, !(lowerInclusive));
+		int subTo   = upper == null ? this.to : this.search(upper, upperInclusive);
+		
+		if (subTo < subFrom) {
+			subTo = subFrom;
+		}
+		
+		VersionIndex subReleases = null;
+		if (this.releases != this) {
+			subReleases = this.releases.subIndex(lower, lowerInclusive, upper, upperInclusive);
+		}
+		
+		return new VersionIndex(this, subFrom, subTo, subReleases);
+	}
+	
+	/**
+	 * @return the highest version in the given range or null, if there is none
+	 */
+	public SemanticVersion max(VersionRange range) {
+		for (int i = range.getIntervalCount() - 1; i >= 0; i--) {
+			SemanticVersion upper = range.getUpper(i);
+			
+			int index = upper == null ? this.to - 1 : this.search(upper, range.isUpperInclusive(i)) - 1;
+			if (index >= this.from && range.test(this.versions[index])) {
+				return this.versions[index];
+			}
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * @return the lowest version in the given range or null, if there is none
+	 */
+	public SemanticVersion min(VersionRange range) {
+		for (int i = 0; i < range.getIntervalCount(); i++) {
+			SemanticVersion lower = range.getLower(i);
+			
+			int index = lower == null ? this.from : this.search(lower, !(range.isLowerInclusive(i)));
+			if (index < this.to && range.test(this.versions[index])) {
+				return this.versions[index];
+			}
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * @return all versions in the given range in ascending order
+	 */
+	public List<SemanticVersion> select(VersionRange range) {
+		List<SemanticVersion> result = new ArrayList<>();
+		
+		for (int i = 0; i < range.getIntervalCount(); i++) {
+			result.addAll(this.subIndex(range.getLower(i), range.isLowerInclusive(i),
+			                            range.getUpper(i), range.isUpperInclusive(i)).asList());
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * @return an unmodifiable list view of this index
+	 */
+	public List<SemanticVersion> asList() {
+		return new IndexList();
+	}
+	
+	@Override
+	public Iterator<SemanticVersion> iterator() {
+		return this.asList().iterator();
+	}
+	
+	/**
+	 * @return the index of the first version, which is higher than (strict) or equal to the given one
+	 */
+	private int search(SemanticVersion version, boolean strict) {
+		long high = version.getSortKeyHigh();
+		long low  = version.getSortKeyLow();
+		
+		int left  = this.from;
+		int right = this.to;
+		
+		while (left < right) {
+			int middle = (left + right) >>> 1;
+			int result = this.compareAt(middle, version, high, low);
+			
+			if (result < 0 || (strict && result == 0)) {
+				left = middle + 1;
+			} else {
+				right = middle;
+			}
+		}
+		
+		return left;
+	}
+	
+	private int compareAt(int index, SemanticVersion version, long high, long low) {
+		if (this.highs[index] != high) {
+			return Long.compare(this.highs[index], high);
+		}
+		if (this.lows[index] != low) {
+			return Long.compare(this.lows[index], low);
+		}
+		
+		return this.versions[index].compareTo(version);
+	}
+	
+	private SemanticVersion at(int index) {
+		return index >= this.from && index < this.to ? this.versions[index] : null;
+	}
+	
+	@Override
+	public String toString() {
+		return this.asList().toString();
+	}
+	
+	private class IndexList
+			extends AbstractList<SemanticVersion>
+			implements RandomAccess {
+		@Override
+		public SemanticVersion get(int index) {
+			return VersionIndex.this.get(index);
+		}
+		
+		@Override
+		public int size() {
+			return VersionIndex.this.size();
+		}
+	}
+}
\ No newline at end of file
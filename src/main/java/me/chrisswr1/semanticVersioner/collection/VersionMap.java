@@ -0,0 +1,151 @@
+package me.chrisswr1.semanticVersioner.collection;
+
+import me.chrisswr1.semanticVersioner.SemanticVersion;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link Map} with {@link SemanticVersion} keys and open addressing, which compares the cached hash codes and sort keys
+ * before it calls {@link SemanticVersion#equals(Object)}
+ * <p>
+ * The keys must not be changed, while they are contained.
+ *
+ * @param <V> the type of the values
+ * @author chwe
+ */
+public class VersionMap<V>
+		extends AbstractMap<SemanticVersion, V> {
+	private final VersionTable table;
+	
+	public VersionMap() {
+		this(0);
+	}
+	
+	public VersionMap(int expectedSize) {
+		this.table = new VersionTable(expectedSize, true);
+	}
+	
+	public VersionMap(Map<? extends SemanticVersion, ? extends V> map) {
+		this(map.size());
+		
+		this.putAll(map);
+	}
+	
+	@Override
+	public V get(Object key) {
+		return this.getOrDefault(key, null);
+	}
+	
+	@Override
+	@SuppressWarnings("unchecked")
+	public V getOrDefault(Object key, V defaultValue) {
+		if (!(key instanceof SemanticVersion)) {
+			return defaultValue;
+		}
+		
+		int index = this.table.indexOf((SemanticVersion) key);
+		
+		return index < 0 ? defaultValue : (V) this.table.values[index];
+	}
+	
+	@Override
+	public boolean containsKey(Object key) {
+		return key instanceof SemanticVersion && this.table.indexOf((SemanticVersion) key) >= 0;
+	}
+	
+	@Override
+	@SuppressWarnings("unchecked")
+	public V put(SemanticVersion key, V value) {
+		if (key == null) {
+			throw new NullPointerException("The key must not be null!");
+		}
+		
+		int index = this.table.insert(key);
+		if (index < 0) {
+			this.table.values[-index - 1] = value;
+			return null;
+		}
+		
+		V old = (V) this.table.values[index];
+		this.table.values[index] = value;
+		
+		return old;
+	}
+	
+	@Override
+	@SuppressWarnings("unchecked")
+	public V remove(Object key) {
+		if (!(key instanceof SemanticVersion)) {
+			return null;
+		}
+		
+		int index = this.table.indexOf((SemanticVersion) key);
+		if (index < 0) {
+			return null;
+		}
+		
+		V old = (V) this.table.values[index];
+		this.table.removeAt(index);
+		
+		return old;
+	}
+	
+	@Override
+	public int size() {
+		return this.table.size;
+	}
+	
+	@Override
+	public void clear() {
+		this.table.clear();
+	}
+	
+	@Override
+	public Set<Entry<SemanticVersion, V>> entrySet() {
+		return new AbstractSet<Entry<SemanticVersion, V>>() {
+			@Override
+			public Iterator<Entry<SemanticVersion, V>> iterator() {
+				return new VersionTable.SlotIterator<Entry<SemanticVersion, V>>(VersionMap.this.table) {
+					@Override
+					protected Entry<SemanticVersion, V> get(int index) {
+						return new TableEntry(index);
+					}
+				};
+			}
+			
+			@Override
+			public int size() {
+				return VersionMap.this.table.size;
+			}
+		};
+	}
+	
+	/**
+	 * entry, which writes its value through to the map, while its key is contained
+	 * <p>
+	 * The key is looked up again, because its slot changes by resizes and removals.
+	 */
+	private class TableEntry
+			extends SimpleEntry<SemanticVersion, V> {
+		private static final long serialVersionUID = 1L;
+		
+		@SuppressWarnings("unchecked")
+		TableEntry(int index) {
+			super(VersionMap.this.table.versions[index], (V) VersionMap.this.table.values[index]);
+		}
+		
+		@Override
+		public V setValue(V value) {
+			int index = VersionMap.this.table.indexOf(this.getKey());
+			if (index >= 0) {
+				VersionMap.this.table.values[index] = value;
+			}
+			
+			return super.setValue(value);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,214 @@
+package me.chrisswr1.semanticVersioner.collection;
+
+import lombok.Getter;
+import me.chrisswr1.semanticVersioner.SemanticVersion;
+import me.chrisswr1.semanticVersioner.range.VersionRange;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * concurrent registry of the published versions of artifacts
+ * <p>
+ * Each artifact maps to an immutable {@link Snapshot}, which is replaced copy-on-write by a compare-and-set, so reads
+ * never block and always see a consistent state. The latest and the latest stable version are updated on each insert
+ * instead of being searched on each query.
+ *
+ * @param <K> the type of the artifacts
+ * @author chwe
+ */
+public class VersionRegistry<K> {
+	private final ConcurrentMap<K, Snapshot> artifacts = new ConcurrentHashMap<>();
+	
+	/**
+	 * publishes a version of an artifact
+	 *
+	 * @return true, if the artifact had no version with the same precedence
+	 */
+	public boolean add(K artifact, SemanticVersion version) {
+		SemanticVersion immutable = version.toImmutable();
+		
+		return this.update(artifact, current -> current.with(immutable));
+	}
+	
+	/**
+	 * publishes several versions of an artifact at once, so the snapshot is copied only once
+	 */
+	public void addAll(K artifact, Collection<? extends SemanticVersion> versions) {
+		if (versions.isEmpty()) {
+			return;
+		}
+		
+		this.update(artifact, current -> current.withAll(versions));
+	}
+	
+	/**
+	 * replaces all versions of an artifact at once, e.g. after its versions were read again from their source
+	 * <p>
+	 * If no version is given, the artifact is removed.
+	 */
+	public void replaceAll(K artifact, Collection<? extends SemanticVersion> versions) {
+		if (versions.isEmpty()) {
+			this.remove(artifact);
+			return;
+		}
+		
+		this.artifacts.put(artifact, Snapshot.empty.withAll(versions));
+	}
+	
+	/**
+	 * @return true, if the artifact was known
+	 */
+	public boolean remove(K artifact) {
+		return this.artifacts.remove(artifact) != null;
+	}
+	
+	/**
+	 * replaces the snapshot of an artifact by a compare-and-set on the map, so concurrent removals and replacements
+	 * are never overwritten
+	 *
+	 * @return true, if the snapshot was changed
+	 */
+	private boolean update(K artifact, UnaryOperator<Snapshot> function) {
+		while (true) {
+			Snapshot current = this.artifacts.get(artifact);
+			Snapshot next    = function.apply(current == null ? Snapshot.empty : current);
+			
+			if (next == current || current == null && next == Snapshot.empty) {
+				return false;
+			}
+			if (current == null
+			    ? this.artifacts.putIfAbsent(artifact, next) == null
+			    : this.artifacts.replace(artifact, current, next)) {
+				return true;
+			}
+		}
+	}
+	
+	/**
+	 * @return the current snapshot of the artifact, which is empty, if it is unknown
+	 */
+	public Snapshot snapshot(K artifact) {
+		Snapshot snapshot = this.artifacts.get(artifact);
+		
+		return snapshot == null ? Snapshot.empty : snapshot;
+	}
+	
+	public VersionIndex getVersions(K artifact) {
+		return this.snapshot(artifact).getVersions();
+	}
+	
+	/**
+	 * @return the highest version of the artifact or null, if it has none
+	 */
+	public SemanticVersion latest(K artifact) {
+		return this.snapshot(artifact).getLatest();
+	}
+	
+	/**
+	 * @return the highest stable version of the artifact or null, if it has none
+	 * @see SemanticVersion#isStable()
+	 */
+	public SemanticVersion latestStable(K artifact) {
+		return this.snapshot(artifact).getLatestStable();
+	}
+	
+	/**
+	 * @return the highest version of the artifact in the given range or null, if there is none
+	 */
+	public SemanticVersion latest(K artifact, VersionRange range) {
+		return this.snapshot(artifact).getVersions().max(range);
+	}
+	
+	public boolean contains(K artifact, SemanticVersion version) {
+		return this.snapshot(artifact).getVersions().contains(version);
+	}
+	
+	/**
+	 * @return an unmodifiable view of the known artifacts
+	 */
+	public Set<K> artifacts() {
+		return Collections.unmodifiableSet(this.artifacts.keySet());
+	}
+	
+	public void clear() {
+		this.artifacts.clear();
+	}
+	
+	/**
+	 * immutable state of an artifact
+	 */
+	@Getter
+	public static final class Snapshot {
+		private static final Snapshot empty = new Snapshot(VersionIndex.empty(), null, null);
+		
+		private final VersionIndex    versions;
+		private final SemanticVersion latest;
+		private final SemanticVersion latestStable;
+		
+		private Snapshot(VersionIndex versions, SemanticVersion latest, SemanticVersion latestStable) {
+			this.versions = versions;
+			this.latest = latest;
+			this.latestStable = latestStable;
+		}
+		
+		private static SemanticVersion max(SemanticVersion current, SemanticVersion candidate) {
+			return current == null || candidate.compareTo(current) > 0 ? candidate : current;
+		}
+		
+		/**
+		 * @return this snapshot, if it contains a version with the same precedence, or a new one
+		 */
+		Snapshot with(SemanticVersion version) {
+			VersionIndex versions = this.versions.insert(version);
+			if (versions == this.versions) {
+				return this;
+			}
+			
+			return new Snapshot(
+					versions,
+					Snapshot.max(this.latest, version),
+					version.isStable() ? Snapshot.max(this.latestStable, version) : this.latestStable);
+		}
+		
+		Snapshot withAll(Collection<? extends SemanticVersion> versions) {
+			List<SemanticVersion> all          = new ArrayList<>(this.versions.asList());
+			SemanticVersion       latest       = this.latest;
+			SemanticVersion       latestStable = this.latestStable;
+			
+			for (SemanticVersion version : versions) {
+				SemanticVersion immutable = version.toImmutable();
+				
+				all.add(immutable);
+				latest = Snapshot.max(latest, immutable);
+				
+				if (immutable.isStable()) {
+					latestStable = Snapshot.max(latestStable, immutable);
+				}
+			}
+			
+			VersionIndex index = VersionIndex.of(all);
+			
+			return new Snapshot(index, index.floor(latest), latestStable == null ? null : index.floor(latestStable));
+		}
+		
+		public int size() {
+			return this.versions.size();
+		}
+		
+		public boolean isEmpty() {
+			return this.versions.isEmpty();
+		}
+		
+		@Override
+		public String toString() {
+			return this.versions.toString();
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,121 @@
+package me.chrisswr1.semanticVersioner.collection;
+
+import me.chrisswr1.semanticVersioner.SemanticVersion;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * {@link java.util.Set} of {@link SemanticVersion}s with open addressing, which compares the cached hash codes and sort
+ * keys before it calls {@link SemanticVersion#equals(Object)}
+ * <p>
+ * The versions must not be changed, while they are contained.
+ *
+ * @author chwe
+ */
+public class VersionSet
+		extends AbstractSet<SemanticVersion> {
+	private final VersionTable table;
+	
+	public VersionSet() {
+		this(0);
+	}
+	
+	public VersionSet(int expectedSize) {
+		this.table = new VersionTable(expectedSize, false);
+	}
+	
+	public VersionSet(Collection<? extends SemanticVersion> versions) {
+		this(versions.size());
+		
+		this.addAll(versions);
+	}
+	
+	@Override
+	public boolean add(SemanticVersion version) {
+		if (version == null) {
+			throw new NullPointerException("The version must not be null!");
+		}
+		
+		return this.table.insert(version) < 0;
+	}
+	
+	/**
+	 * returns the contained version, which is equal to the given one
+	 *
+	 * @param version the version to search for
+	 * @return the contained version or null, if there is none
+	 */
+	public SemanticVersion get(SemanticVersion version) {
+		int index = this.table.indexOf(version);
+		
+		return index < 0 ? null : this.table.versions[index];
+	}
+	
+	@Override
+	public boolean contains(Object obj) {
+		return obj instanceof SemanticVersion && this.table.indexOf((SemanticVersion) obj) >= 0;
+	}
+	
+	@Override
+	public boolean remove(Object obj) {
+		if (!(obj instanceof SemanticVersion)) {
+			return false;
+		}
+		
+		int index = this.table.indexOf((SemanticVersion) obj);
+		if (index < 0) {
+			return false;
+		}
+		
+		this.table.removeAt(index);
+		
+		return true;
+	}
+	
+	@Override
+	public boolean removeAll(Collection<?> collection) {
+		boolean modified = false;
+		
+		for (Object obj : collection) {
+			modified |= this.remove(obj);
+		}
+		
+		return modified;
+	}
+	
+	@Override
+	public boolean retainAll(Collection<?> collection) {
+		VersionSet removed = new VersionSet();
+		
+		for (SemanticVersion version : this) {
+			if (!(collection.contains(version))) {
+				removed.add(version);
+			}
+		}
+		
+		return this.removeAll(removed);
+	}
+	
+	@Override
+	public int size() {
+		return this.table.size;
+	}
+	
+	@Override
+	public void clear() {
+		this.table.clear();
+	}
+	
+	@Override
+	public Iterator<SemanticVersion> iterator() {
+		return new VersionTable.SlotIterator<SemanticVersion>(this.table) {
+			@Override
+			protected SemanticVersion get(int index) {
+				return VersionSet.this.table.versions[index];
+			}
+		};
+	}
+	
+}
\ No newline at end of file
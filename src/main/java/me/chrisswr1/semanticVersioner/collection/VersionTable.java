@@ -0,0 +1,278 @@
+package me.chrisswr1.semanticVersioner.collection;
+
+import me.chrisswr1.semanticVersioner.SemanticVersion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * open addressing hash table with linear probing, which holds the sort keys of its versions in primitive arrays
+ *
+ * @author chwe
+ */
+final class VersionTable {
+	private static final int minCapacity = 8;
+	
+	SemanticVersion[] versions;
+	Object[]          values;
+	int               size     = 0;
+	int               modCount = 0;
+	
+	private long[] highs;
+	private long[] lows;
+	private int[]  hashes;
+	private int    mask;
+	private int    threshold;
+	
+	VersionTable(int expectedSize, boolean withValues) {
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("The expected size must not be negative!");
+		}
+		
+		int capacity = VersionTable.minCapacity;
+		while (capacity / 2 < expectedSize) {
+			capacity *= 2;
+		}
+		
+		this.allocate(capacity, withValues);
+	}
+	
+	private void allocate(int capacity, boolean withValues) {
+		this.versions = new SemanticVersion[capacity];
+		this.values = withValues ? new Object[capacity] : null;
+		this.highs = new long[capacity];
+		this.lows = new long[capacity];
+		this.hashes = new int[capacity];
+		this.mask = capacity - 1;
+		this.threshold = capacity / 2;
+	}
+	
+	private static int spread(int hash) {
+		hash *= 0x9E3779B9;
+		
+		return hash ^ (hash >>> 16);
+	}
+	
+	/**
+	 * @return the index of the version or -1, if it is not contained
+	 */
+	int indexOf(SemanticVersion version) {
+		int  hash = version.hashCode();
+		long high = version.getSortKeyHigh();
+		long low  = version.getSortKeyLow();
+		
+		for (int i = VersionTable.spread(hash) & this.mask; this.versions[i] != null; i = (i + 1) & this.mask) {
+			if (this.hashes[i] == hash
+			    && this.highs[i] == high
+			    && this.lows[i] == low
+			    && this.versions[i].equals(version)) {
+				return i;
+			}
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * @return the index of the version, which is negative (-index - 1), if it was inserted
+	 */
+	int insert(SemanticVersion version) {
+		int index = this.indexOf(version);
+		if (index >= 0) {
+			return index;
+		}
+		
+		if (this.size >= this.threshold) {
+			this.resize();
+		}
+		
+		int hash = version.hashCode();
+		int i    = VersionTable.spread(hash) & this.mask;
+		while (this.versions[i] != null) {
+			i = (i + 1) & this.mask;
+		}
+		
+		this.versions[i] = version;
+		this.highs[i] = version.getSortKeyHigh();
+		this.lows[i] = version.getSortKeyLow();
+		this.hashes[i] = hash;
+		this.size++;
+		this.modCount++;
+		
+		return -i - 1;
+	}
+	
+	/**
+	 * removes the entry at the given index and shifts the following entries of its cluster backwards
+	 */
+	void removeAt(int index) {
+		this.removeAt(index, null);
+	}
+	
+	/**
+	 * @param wrapped the list, which the versions are added to, that are shifted from before the index to behind it, or
+	 *                null
+	 */
+	private void removeAt(int index, List<SemanticVersion> wrapped) {
+		int gap = index;
+		
+		for (int i = (index + 1) & this.mask; this.versions[i] != null; i = (i + 1) & this.mask) {
+			int home = VersionTable.spread(this.hashes[i]) & this.mask;
+			
+			if (((i - home) & this.mask) >= ((i - gap) & this.mask)) {
+				if (wrapped != null && i < index && gap >= index) {
+					wrapped.add(this.versions[i]);
+				}
+				
+				this.move(i, gap);
+				gap = i;
+			}
+		}
+		
+		this.versions[gap] = null;
+		if (this.values != null) {
+			this.values[gap] = null;
+		}
+		
+		this.size--;
+		this.modCount++;
+	}
+	
+	private void move(int from, int to) {
+		this.versions[to] = this.versions[from];
+		this.highs[to] = this.highs[from];
+		this.lows[to] = this.lows[from];
+		this.hashes[to] = this.hashes[from];
+		
+		if (this.values != null) {
+			this.values[to] = this.values[from];
+		}
+	}
+	
+	private void resize() {
+		SemanticVersion[] oldVersions = this.versions;
+		Object[]          oldValues   = this.values;
+		long[]            oldHighs    = this.highs;
+		long[]            oldLows     = this.lows;
+		int[]             oldHashes   = this.hashes;
+		
+		this.allocate(oldVersions.length * 2, oldValues != null);
+		
+		for (int j = 0; j < oldVersions.length; j++) {
+			if (oldVersions[j] == null) {
+				continue;
+			}
+			
+			int i = VersionTable.spread(oldHashes[j]) & this.mask;
+			while (this.versions[i] != null) {
+				i = (i + 1) & this.mask;
+			}
+			
+			this.versions[i] = oldVersions[j];
+			this.highs[i] = oldHighs[j];
+			this.lows[i] = oldLows[j];
+			this.hashes[i] = oldHashes[j];
+			
+			if (oldValues != null) {
+				this.values[i] = oldValues[j];
+			}
+		}
+	}
+	
+	void clear() {
+		Arrays.fill(this.versions, null);
+		if (this.values != null) {
+			Arrays.fill(this.values, null);
+		}
+		
+		this.size = 0;
+		this.modCount++;
+	}
+	
+	/**
+	 * iterator over the occupied slots of a {@link VersionTable}, which supports {@link #remove()}
+	 * <p>
+	 * The slots are visited from the end, so a removal only shifts visited entries into visited slots. The entries of a
+	 * cluster, which wraps around, are shifted from the start to the end by a removal and are visited at last instead.
+	 */
+	abstract static class SlotIterator<T>
+			implements Iterator<T> {
+		private final VersionTable          table;
+		private       int                   expectedModCount;
+		private       int                   next;
+		private       int                   last        = -1;
+		private       List<SemanticVersion> wrapped;
+		private       int                   nextWrapped = 0;
+		
+		SlotIterator(VersionTable table) {
+			this.table = table;
+			this.expectedModCount = table.modCount;
+			this.next = table.versions.length;
+			this.advance();
+		}
+		
+		private void advance() {
+			SemanticVersion[] versions = this.table.versions;
+			
+			do {
+				this.next--;
+			} while (this.next >= 0 && versions[this.next] == null);
+		}
+		
+		protected abstract T get(int index);
+		
+		@Override
+		public boolean hasNext() {
+			return this.next >= 0 || (this.wrapped != null && this.nextWrapped < this.wrapped.size());
+		}
+		
+		@Override
+		public T next() {
+			if (this.table.modCount != this.expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (!(this.hasNext())) {
+				throw new NoSuchElementException();
+			}
+			
+			if (this.next >= 0) {
+				this.last = this.next;
+				this.advance();
+			} else {
+				this.last = this.table.indexOf(this.wrapped.get(this.nextWrapped++));
+			}
+			
+			return this.get(this.last);
+		}
+		
+		@Override
+		public void remove() {
+			if (this.last < 0) {
+				throw new IllegalStateException();
+			}
+			if (this.table.modCount != this.expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			
+			if (this.nextWrapped > 0) {
+				this.table.removeAt(this.last);
+			} else {
+				if (this.wrapped == null) {
+					this.wrapped = new ArrayList<>();
+				}
+				
+				// the slots before the removed one are not visited, but their entries may have been shifted
+				this.table.removeAt(this.last, this.wrapped);
+				this.next = this.last;
+				this.advance();
+			}
+			
+			this.last = -1;
+			this.expectedModCount = this.table.modCount;
+		}
+	}
+}
\ No newline at end of file
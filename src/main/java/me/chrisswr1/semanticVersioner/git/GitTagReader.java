@@ -0,0 +1,327 @@
+package me.chrisswr1.semanticVersioner.git;
+
+import lombok.Getter;
+import me.chrisswr1.semanticVersioner.ParseOptions;
+import me.chrisswr1.semanticVersioner.ParseResult;
+import me.chrisswr1.semanticVersioner.SemanticVersion;
+import me.chrisswr1.semanticVersioner.VersionCollectors;
+import me.chrisswr1.semanticVersioner.util.AsciiCharSequence;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Collector;
+
+/**
+ * reads the {@link SemanticVersion}s of the tags of a local git repository without running git
+ * <p>
+ * The tag names are read from the loose refs below {@code refs/tags} and from the memory-mapped {@code packed-refs}
+ * file, whose names are parsed in place without creating strings. Tags, whose names are no versions by the parse
+ * options, are skipped. Only the names are read, so annotated and lightweight tags are treated alike.
+ *
+ * @author chwe
+ */
+public class GitTagReader {
+	public static final String tagPrefix = "refs/tags/";
+	
+	/**
+	 * the options of {@link #GitTagReader(Path)}, which only strip a prefix like {@code v} or {@code release/}
+	 * <p>
+	 * Other coercions would read tags like {@code build-4711} or {@code 2023-01-05} as versions.
+	 */
+	public static final ParseOptions defaultOptions = ParseOptions.strict().withStripPrefix(true);
+	
+	private static final byte[] tagPrefixBytes = GitTagReader.tagPrefix.getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] sortedTrait    = " sorted".getBytes(StandardCharsets.US_ASCII);
+	private static final String gitDirPrefix   = "gitdir:";
+	
+	/**
+	 * the git directory, which contains the refs
+	 */
+	@Getter
+	private final Path         directory;
+	@Getter
+	private final ParseOptions options;
+	
+	/**
+	 * creates a reader, which parses the tag names by {@link #defaultOptions}, e.g. {@code v1.2.3}
+	 *
+	 * @see #GitTagReader(Path, ParseOptions)
+	 */
+	public GitTagReader(Path repository)
+			throws IOException {
+		this(repository, GitTagReader.defaultOptions);
+	}
+	
+	/**
+	 * @param repository the working tree, whose {@code .git} is a directory or a file pointing to one, or a git directory
+	 * @param options    the coercions of the tag names
+	 * @throws IOException if the path is not a git repository
+	 */
+	public GitTagReader(Path repository, ParseOptions options)
+			throws IOException {
+		this.directory = GitTagReader.resolve(repository);
+		this.options = options;
+	}
+	
+	private static Path resolve(Path repository)
+			throws IOException {
+		Path directory = repository;
+		Path dotGit    = repository.resolve(".git");
+		
+		if (Files.isDirectory(dotGit)) {
+			directory = dotGit;
+		} else if (Files.isRegularFile(dotGit)) {
+			String content = GitTagReader.read(dotGit);
+			if (!(content.startsWith(GitTagReader.gitDirPrefix))) {
+				throw new IOException("Invalid git file " + dotGit);
+			}
+			
+			directory = repository.resolve(content.substring(GitTagReader.gitDirPrefix.length()).trim());
+		}
+		
+		// linked working trees share the refs of the main repository
+		Path commonDir = directory.resolve("commondir");
+		if (Files.isRegularFile(commonDir)) {
+			directory = directory.resolve(GitTagReader.read(commonDir));
+		}
+		
+		if (!(Files.isDirectory(directory.resolve("refs"))) && !(Files.isRegularFile(directory.resolve("packed-refs")))) {
+			throw new IOException("Not a git repository: " + repository);
+		}
+		
+		return directory.normalize();
+	}
+	
+	private static String read(Path file)
+			throws IOException {
+		return new String(Files.readAllBytes(file), StandardCharsets.UTF_8).trim();
+	}
+	
+	/**
+	 * @return the versions of all tags in no particular order
+	 * @throws IOException if the refs could not be read
+	 */
+	public List<SemanticVersion> getVersions()
+			throws IOException {
+		List<SemanticVersion> result = new ArrayList<>();
+		
+		this.forEach(result::add);
+		
+		return result;
+	}
+	
+	/**
+	 * @return the highest version of all tags or null, if no tag is a version
+	 * @throws IOException if the refs could not be read
+	 */
+	public SemanticVersion getLatest()
+			throws IOException {
+		return GitTagReader.first(this.collect(VersionCollectors.latest(1), false));
+	}
+	
+	/**
+	 * @return the highest stable version of all tags or null, if no tag is a stable version
+	 * @throws IOException if the refs could not be read
+	 * @see SemanticVersion#isStable()
+	 */
+	public SemanticVersion getLatestStable()
+			throws IOException {
+		return GitTagReader.first(this.collect(VersionCollectors.latest(1), true));
+	}
+	
+	/**
+	 * selects the k highest versions with distinct precedence like {@link VersionCollectors#latest(int)}
+	 *
+	 * @return the versions from the latest to the oldest
+	 * @throws IOException if the refs could not be read
+	 */
+	public List<SemanticVersion> getLatest(int k)
+			throws IOException {
+		return this.collect(VersionCollectors.latest(k), false);
+	}
+	
+	private static SemanticVersion first(List<SemanticVersion> versions) {
+		return versions.isEmpty() ? null : versions.get(0);
+	}
+	
+	private <A, R> R collect(Collector<SemanticVersion, A, R> collector, boolean stableOnly)
+			throws IOException {
+		A                              container   = collector.supplier().get();
+		BiConsumer<A, SemanticVersion> accumulator = collector.accumulator();
+		
+		this.forEach(version -> {
+			if (!(stableOnly) || version.isStable()) {
+				accumulator.accept(container, version);
+			}
+		});
+		
+		return collector.finisher().apply(container);
+	}
+	
+	/**
+	 * passes the version of each tag to the consumer
+	 * <p>
+	 * A tag, which is both loose and packed, is passed once.
+	 *
+	 * @throws IOException if the refs could not be read
+	 */
+	public void forEach(Consumer<? super SemanticVersion> consumer)
+			throws IOException {
+		Set<String> looseTags = this.readLooseTags(consumer);
+		
+		Path packedRefs = this.directory.resolve("packed-refs");
+		if (!(Files.isRegularFile(packedRefs))) {
+			return;
+		}
+		
+		try (FileChannel channel = FileChannel.open(packedRefs, StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size > Integer.MAX_VALUE) {
+				throw new IOException("The file " + packedRefs + " is too large!");
+			}
+			
+			if (size > 0) {
+				GitTagReader.scanPackedRefs(channel.map(FileChannel.MapMode.READ_ONLY, 0, size), this.options, looseTags, consumer);
+			}
+		}
+	}
+	
+	/**
+	 * passes the versions of the loose tags to the consumer
+	 *
+	 * @return the names of the loose tags
+	 */
+	private Set<String> readLooseTags(Consumer<? super SemanticVersion> consumer)
+			throws IOException {
+		Set<String> result = new HashSet<>();
+		Path        tags   = this.directory.resolve(GitTagReader.tagPrefix);
+		
+		if (!(Files.isDirectory(tags))) {
+			return result;
+		}
+		
+		Files.walkFileTree(tags, new SimpleFileVisitor<Path>() {
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+				String name = tags.relativize(file).toString().replace(File.separatorChar, '/');
+				
+				if (attributes.isRegularFile() && !(name.endsWith(".lock"))) {
+					ParseResult parsed = SemanticVersion.tryParse(name, GitTagReader.this.options);
+					
+					if (parsed.isValid()) {
+						result.add(name);
+						consumer.accept(parsed.getVersion());
+					}
+				}
+				
+				return FileVisitResult.CONTINUE;
+			}
+		});
+		
+		return result;
+	}
+	
+	/**
+	 * passes the versions of the tags of the packed-refs content between the position and the limit of the buffer
+	 * <p>
+	 * Each line is a hash followed by the name of the ref. Lines starting with {@code ^} contain the peeled hash of the
+	 * previous tag and the header starts with {@code #}. If the header has the trait {@code sorted}, the scan stops
+	 * behind the tags.
+	 *
+	 * @param excluded the tags, which are skipped
+	 */
+	static void scanPackedRefs(ByteBuffer buffer, ParseOptions options, Set<String> excluded,
+	                           Consumer<? super SemanticVersion> consumer) {
+		int     end      = buffer.limit();
+		int     position = buffer.position();
+		boolean sorted   = false;
+		boolean tags     = false;
+		
+		while (position < end) {
+			int  lineEnd = GitTagReader.indexOf(buffer, (byte) '\n', position, end);
+			byte first   = buffer.get(position);
+			
+			if (first == '#') {
+				sorted |= GitTagReader.hasTrait(buffer, GitTagReader.sortedTrait, position, lineEnd);
+			} else if (first != '^') {
+				int name = GitTagReader.indexOf(buffer, (byte) ' ', position, lineEnd) + 1;
+				
+				if (GitTagReader.startsWith(buffer, GitTagReader.tagPrefixBytes, name, lineEnd)) {
+					int start = name + GitTagReader.tagPrefixBytes.length;
+					int stop  = lineEnd > start && buffer.get(lineEnd - 1) == '\r' ? lineEnd - 1 : lineEnd;
+					
+					CharSequence tag    = new AsciiCharSequence(buffer, start, stop - start);
+					ParseResult  parsed = SemanticVersion.tryParse(tag, options);
+					
+					if (parsed.isValid() && (excluded.isEmpty() || !(excluded.contains(tag.toString())))) {
+						consumer.accept(parsed.getVersion());
+					}
+					
+					tags = true;
+				} else if (tags && sorted) {
+					return;
+				}
+			}
+			
+			position = lineEnd + 1;
+		}
+	}
+	
+	/**
+	 * @return the index of the byte or the end, if it is not found
+	 */
+	private static int indexOf(ByteBuffer buffer, byte b, int from, int end) {
+		for (int i = from; i < end; i++) {
+			if (buffer.get(i) == b) {
+				return i;
+			}
+		}
+		
+		return end;
+	}
+	
+	private static boolean startsWith(ByteBuffer buffer, byte[] bytes, int from, int end) {
+		if (end - from < bytes.length) {
+			return false;
+		}
+		
+		for (int i = 0; i < bytes.length; i++) {
+			if (buffer.get(from + i) != bytes[i]) {
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * @param trait the trait preceded by a space
+	 * @return true, if the header line contains the trait followed by a space or the end of the line
+	 */
+	private static boolean hasTrait(ByteBuffer buffer, byte[] trait, int from, int end) {
+		for (int i = from; i <= end - trait.length; i++) {
+			int next = i + trait.length;
+			
+			if (GitTagReader.startsWith(buffer, trait, i, end) && (next == end || buffer.get(next) == ' ' || buffer.get(next) == '\r')) {
+				return true;
+			}
+		}
+		
+		return false;
+	}
+}
\ No newline at end of file
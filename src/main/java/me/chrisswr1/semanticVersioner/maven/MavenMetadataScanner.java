@@ -0,0 +1,373 @@
+package me.chrisswr1.semanticVersioner.maven;
+
+import lombok.Getter;
+import me.chrisswr1.semanticVersioner.ParseOptions;
+import me.chrisswr1.semanticVersioner.ParseResult;
+import me.chrisswr1.semanticVersioner.SemanticVersion;
+import me.chrisswr1.semanticVersioner.collection.VersionIndex;
+import me.chrisswr1.semanticVersioner.collection.VersionRegistry;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * indexes the versions of all artifacts of a Maven repository on a local disk
+ * <p>
+ * The directory tree is walked in parallel and the {@code maven-metadata*.xml} files are read by a streaming parser.
+ * The {@code version} elements of the {@code versions} list and of the metadata itself are coerced by
+ * {@link ParseOptions#lenient()}, e.g. {@code 1.0-SNAPSHOT} or {@code 5.2.3.Final}, and published to a
+ * {@link VersionRegistry} per {@code groupId:artifactId}. A rescan only reads the files, whose modification time or size
+ * changed, and replaces the versions of the affected artifacts.
+ *
+ * @author chwe
+ */
+public class MavenMetadataScanner {
+	private static final String metadataPrefix = "maven-metadata";
+	private static final String metadataSuffix = ".xml";
+	
+	@Getter
+	private final Path                    root;
+	private final ForkJoinPool            pool;
+	@Getter
+	private final ParseOptions            options;
+	/**
+	 * the index of the versions per {@code groupId:artifactId}, which may be read while scanning
+	 */
+	@Getter
+	private final VersionRegistry<String> registry = new VersionRegistry<>();
+	
+	private final ThreadLocal<XMLInputFactory> factories = ThreadLocal.withInitial(MavenMetadataScanner::createFactory);
+	private       Map<Path, FileState>         files     = Collections.emptyMap();
+	
+	public MavenMetadataScanner(Path root) {
+		this(root, ForkJoinPool.commonPool(), ParseOptions.lenient());
+	}
+	
+	/**
+	 * @param root    the root directory of the repository
+	 * @param pool    the pool to walk the directories and to read the files in
+	 * @param options the coercions of the versions
+	 */
+	public MavenMetadataScanner(Path root, ForkJoinPool pool, ParseOptions options) {
+		this.root = root;
+		this.pool = pool;
+		this.options = options;
+	}
+	
+	private static XMLInputFactory createFactory() {
+		XMLInputFactory factory = XMLInputFactory.newInstance();
+		
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		
+		return factory;
+	}
+	
+	/**
+	 * @return the sorted versions of the artifact, which are empty, if it is unknown
+	 */
+	public VersionIndex getVersions(String groupId, String artifactId) {
+		return this.registry.getVersions(MavenMetadataScanner.key(groupId, artifactId));
+	}
+	
+	/**
+	 * @return the highest version without pre-release of the artifact or null, if it has none
+	 */
+	public SemanticVersion getLatestRelease(String groupId, String artifactId) {
+		return this.getVersions(groupId, artifactId).latestRelease();
+	}
+	
+	/**
+	 * @return the {@code groupId:artifactId} of all indexed artifacts
+	 */
+	public Set<String> getArtifacts() {
+		return this.registry.artifacts();
+	}
+	
+	private static String key(String groupId, String artifactId) {
+		return groupId + ":" + artifactId;
+	}
+	
+	/**
+	 * walks the repository and updates the index with the new, changed and deleted metadata files
+	 *
+	 * @return the statistics of this scan
+	 * @throws IOException if a directory could not be read
+	 */
+	public synchronized ScanResult scan()
+			throws IOException {
+		Scan scan = new Scan(this.files);
+		
+		try {
+			this.pool.invoke(new ScanTask(this.root, scan));
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+		
+		// the artifacts of new, changed and deleted files have to be rebuilt from all of their files
+		Set<String> changed = new HashSet<>(scan.changed);
+		int         removed = 0;
+		for (Map.Entry<Path, FileState> entry : this.files.entrySet()) {
+			FileState current = scan.states.get(entry.getKey());
+			
+			if (current == null) {
+				removed++;
+			}
+			if (current != entry.getValue() && entry.getValue().artifact != null) {
+				changed.add(entry.getValue().artifact);
+			}
+		}
+		
+		Map<String, List<SemanticVersion>> versions = new HashMap<>();
+		for (FileState state : scan.states.values()) {
+			if (state.artifact != null && changed.contains(state.artifact)) {
+				versions.computeIfAbsent(state.artifact, artifact -> new ArrayList<>()).addAll(state.versions);
+			}
+		}
+		
+		for (String artifact : changed) {
+			this.registry.replaceAll(artifact, versions.getOrDefault(artifact, Collections.emptyList()));
+		}
+		
+		this.files = new HashMap<>(scan.states);
+		
+		return new ScanResult(scan.states.size(), scan.parsed.intValue(), removed, scan.failed, scan.invalid.intValue(), changed);
+	}
+	
+	private FileState read(Path file, BasicFileAttributes attributes, Scan scan) {
+		String          groupId    = null;
+		String          artifactId = null;
+		List<String>    versions   = new ArrayList<>();
+		XMLStreamReader reader     = null;
+		
+		try (InputStream in = Files.newInputStream(file)) {
+			reader = this.factories.get().createXMLStreamReader(in);
+			
+			// the parents of the elements up to the depth of a version in the list of versions
+			String[] path  = new String[4];
+			int      depth = 0;
+			
+			while (reader.hasNext()) {
+				int event = reader.next();
+				
+				if (event == XMLStreamConstants.END_ELEMENT) {
+					depth--;
+				} else if (event == XMLStreamConstants.START_ELEMENT) {
+					String name   = reader.getLocalName();
+					String parent = depth > 0 && depth <= path.length ? path[depth - 1] : null;
+					
+					if (depth == 1 && name.equals("groupId")) {
+						groupId = reader.getElementText().trim();
+					} else if (depth == 1 && name.equals("artifactId")) {
+						artifactId = reader.getElementText().trim();
+					} else if (name.equals("version") && (depth == 1 || (depth == 3 && "versions".equals(parent)))) {
+						versions.add(reader.getElementText().trim());
+					} else {
+						if (depth < path.length) {
+							path[depth] = name;
+						}
+						
+						depth++;
+					}
+				}
+			}
+		} catch (IOException | XMLStreamException e) {
+			scan.failed.add(file);
+			
+			return new FileState(attributes, null, Collections.emptyList());
+		} finally {
+			if (reader != null) {
+				try {
+					reader.close();
+				} catch (XMLStreamException e) {
+					// the stream is closed anyway
+				}
+			}
+		}
+		
+		if (groupId == null || artifactId == null) {
+			return new FileState(attributes, null, Collections.emptyList());
+		}
+		
+		List<SemanticVersion> result = new ArrayList<>(versions.size());
+		for (String version : versions) {
+			ParseResult parsed = SemanticVersion.tryParse(version, this.options);
+			
+			if (parsed.isValid()) {
+				result.add(parsed.getVersion());
+			} else {
+				scan.invalid.increment();
+			}
+		}
+		
+		return new FileState(attributes, MavenMetadataScanner.key(groupId, artifactId), result);
+	}
+	
+	/**
+	 * a read metadata file
+	 */
+	private static final class FileState {
+		private final long                  modified;
+		private final long                  size;
+		/**
+		 * the {@code groupId:artifactId} or null, if the file belongs to no artifact
+		 */
+		private final String                artifact;
+		private final List<SemanticVersion> versions;
+		
+		FileState(BasicFileAttributes attributes, String artifact, List<SemanticVersion> versions) {
+			this.modified = attributes.lastModifiedTime().toMillis();
+			this.size = attributes.size();
+			this.artifact = artifact;
+			this.versions = versions;
+		}
+		
+		boolean isUnchanged(BasicFileAttributes attributes) {
+			return this.modified == attributes.lastModifiedTime().toMillis() && this.size == attributes.size();
+		}
+	}
+	
+	/**
+	 * the state of a running scan
+	 */
+	private static final class Scan {
+		private final Map<Path, FileState>           previous;
+		private final ConcurrentMap<Path, FileState> states  = new ConcurrentHashMap<>();
+		private final Set<String>                    changed = ConcurrentHashMap.newKeySet();
+		private final List<Path>                     failed  = Collections.synchronizedList(new ArrayList<>());
+		private final LongAdder                      parsed  = new LongAdder();
+		private final LongAdder                      invalid = new LongAdder();
+		
+		Scan(Map<Path, FileState> previous) {
+			this.previous = previous;
+		}
+	}
+	
+	private final class ScanTask
+			extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		
+		private final Path directory;
+		private final Scan scan;
+		
+		ScanTask(Path directory, Scan scan) {
+			this.directory = directory;
+			this.scan = scan;
+		}
+		
+		@Override
+		protected void compute() {
+			List<ScanTask> subtasks = new ArrayList<>();
+			
+			try (DirectoryStream<Path> entries = Files.newDirectoryStream(this.directory)) {
+				for (Path entry : entries) {
+					BasicFileAttributes attributes = Files.readAttributes(entry, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+					
+					if (attributes.isDirectory()) {
+						subtasks.add(new ScanTask(entry, this.scan));
+					} else if (attributes.isRegularFile() && MavenMetadataScanner.isMetadata(entry)) {
+						this.visit(entry, attributes);
+					}
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			
+			ForkJoinTask.invokeAll(subtasks);
+		}
+		
+		private void visit(Path file, BasicFileAttributes attributes) {
+			FileState previous = this.scan.previous.get(file);
+			
+			if (previous != null && previous.isUnchanged(attributes)) {
+				this.scan.states.put(file, previous);
+				return;
+			}
+			
+			FileState state = MavenMetadataScanner.this.read(file, attributes, this.scan);
+			
+			this.scan.states.put(file, state);
+			this.scan.parsed.increment();
+			if (state.artifact != null) {
+				this.scan.changed.add(state.artifact);
+			}
+		}
+	}
+	
+	private static boolean isMetadata(Path file) {
+		String name = file.getFileName().toString();
+		
+		return name.startsWith(MavenMetadataScanner.metadataPrefix) && name.endsWith(MavenMetadataScanner.metadataSuffix);
+	}
+	
+	/**
+	 * statistics of a scan
+	 */
+	@Getter
+	public static final class ScanResult {
+		/**
+		 * the count of metadata files in the repository
+		 */
+		private final int         fileCount;
+		/**
+		 * the count of new and changed files, which were read
+		 */
+		private final int         readCount;
+		/**
+		 * the count of deleted files since the last scan
+		 */
+		private final int         removedCount;
+		/**
+		 * the files, which could not be read or parsed
+		 */
+		private final List<Path>  failedFiles;
+		/**
+		 * the count of versions, which could not be coerced to semantic versions
+		 */
+		private final int         invalidVersionCount;
+		/**
+		 * the {@code groupId:artifactId} of the artifacts, whose versions were replaced
+		 */
+		private final Set<String> changedArtifacts;
+		
+		ScanResult(int fileCount, int readCount, int removedCount, List<Path> failedFiles, int invalidVersionCount,
+		           Set<String> changedArtifacts) {
+			this.fileCount = fileCount;
+			this.readCount = readCount;
+			this.removedCount = removedCount;
+			this.failedFiles = Collections.unmodifiableList(new ArrayList<>(failedFiles));
+			this.invalidVersionCount = invalidVersionCount;
+			this.changedArtifacts = Collections.unmodifiableSet(changedArtifacts);
+		}
+		
+		@Override
+		public String toString() {
+			return "ScanResult[files=" + this.fileCount + ", read=" + this.readCount + ", removed=" + this.removedCount
+			       + ", failed=" + this.failedFiles.size() + ", invalidVersions=" + this.invalidVersionCount
+			       + ", changedArtifacts=" + this.changedArtifacts.size() + "]";
+		}
+	}
+}
\ No newline at end of file
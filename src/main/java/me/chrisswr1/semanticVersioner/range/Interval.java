@@ -0,0 +1,191 @@
+package me.chrisswr1.semanticVersioner.range;
+
+import me.chrisswr1.semanticVersioner.SemanticVersion;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * interval of versions, where a missing bound is unbounded
+ *
+ * @author chwe
+ */
+final class Interval {
+	/**
+	 * the lowest possible version
+	 */
+	static final SemanticVersion minimum = new SemanticVersion(0, 0, 0, "0", null).toImmutable();
+	static final Interval        all     = new Interval(null, false, null, false);
+	static final Interval        none    = new Interval(null, false, Interval.minimum, false);
+	
+	private static final Comparator<Interval> lowerComparator = (i1, i2) -> Interval.compareLower(i1, i2);
+	
+	final SemanticVersion lower;
+	final boolean         lowerInclusive;
+	final SemanticVersion upper;
+	final boolean         upperInclusive;
+	
+	Interval(SemanticVersion lower, boolean lowerInclusive, SemanticVersion upper, boolean upperInclusive) {
+		this.lower = lower == null ? null : lower.toImmutable();
+		this.lowerInclusive = lower != null && lowerInclusive;
+		this.upper = upper == null ? null : upper.toImmutable();
+		this.upperInclusive = upper != null && upperInclusive;
+	}
+	
+	static Interval atLeast(SemanticVersion lower, boolean inclusive) {
+		return new Interval(lower, inclusive, null, false);
+	}
+	
+	static Interval below(SemanticVersion upper, boolean inclusive) {
+		return new Interval(null, false, upper, inclusive);
+	}
+	
+	static Interval exactly(SemanticVersion version) {
+		return new Interval(version, true, version, true);
+	}
+	
+	boolean isEmpty() {
+		if (this.upper != null && !(this.upperInclusive) && this.upper.equals(Interval.minimum)) {
+			return true;
+		}
+		if (this.lower == null || this.upper == null) {
+			return false;
+		}
+		
+		int result = this.lower.compareTo(this.upper);
+		
+		return result > 0 || (result == 0 && !(this.lowerInclusive && this.upperInclusive));
+	}
+	
+	private static int compareLower(Interval i1, Interval i2) {
+		if (i1.lower == null || i2.lower == null) {
+			return Boolean.compare(i2.lower == null, i1.lower == null);
+		}
+		
+		int result = i1.lower.compareTo(i2.lower);
+		if (result != 0) {
+			return result;
+		}
+		
+		return Boolean.compare(i2.lowerInclusive, i1.lowerInclusive);
+	}
+	
+	private static int compareUpper(Interval i1, Interval i2) {
+		if (i1.upper == null || i2.upper == null) {
+			return Boolean.compare(i1.upper == null, i2.upper == null);
+		}
+		
+		int result = i1.upper.compareTo(i2.upper);
+		if (result != 0) {
+			return result;
+		}
+		
+		return Boolean.compare(i1.upperInclusive, i2.upperInclusive);
+	}
+	
+	/**
+	 * checks, if the upper bound of the first interval reaches the lower bound of the second one
+	 */
+	private static boolean touches(Interval first, Interval second) {
+		if (first.upper == null || second.lower == null) {
+			return true;
+		}
+		
+		int result = first.upper.compareTo(second.lower);
+		
+		return result > 0 || (result == 0 && (first.upperInclusive || second.lowerInclusive));
+	}
+	
+	/**
+	 * @return the sorted, disjoint union of the given intervals
+	 */
+	static List<Interval> union(List<Interval> intervals) {
+		List<Interval> sorted = new ArrayList<>(intervals.size());
+		for (Interval interval : intervals) {
+			if (!(interval.isEmpty())) {
+				sorted.add(interval);
+			}
+		}
+		
+		Collections.sort(sorted, Interval.lowerComparator);
+		
+		List<Interval> result  = new ArrayList<>(sorted.size());
+		Interval       current = null;
+		
+		for (Interval interval : sorted) {
+			if (current == null) {
+				current = interval;
+			} else if (Interval.touches(current, interval)) {
+				if (Interval.compareUpper(interval, current) > 0) {
+					current = new Interval(current.lower, current.lowerInclusive, interval.upper, interval.upperInclusive);
+				}
+			} else {
+				result.add(current);
+				current = interval;
+			}
+		}
+		
+		if (current != null) {
+			result.add(current);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * @return the sorted, disjoint intersection of two sorted, disjoint interval lists
+	 */
+	static List<Interval> intersect(List<Interval> intervals1, List<Interval> intervals2) {
+		List<Interval> result = new ArrayList<>();
+		
+		int i = 0;
+		int j = 0;
+		while (i < intervals1.size() && j < intervals2.size()) {
+			Interval interval1 = intervals1.get(i);
+			Interval interval2 = intervals2.get(j);
+			
+			Interval lower = Interval.compareLower(interval1, interval2) >= 0 ? interval1 : interval2;
+			Interval upper = Interval.compareUpper(interval1, interval2) <= 0 ? interval1 : interval2;
+			
+			Interval intersection = new Interval(lower.lower, lower.lowerInclusive, upper.upper, upper.upperInclusive);
+			if (!(intersection.isEmpty())) {
+				result.add(intersection);
+			}
+			
+			if (upper == interval1) {
+				i++;
+			} else {
+				j++;
+			}
+		}
+		
+		return result;
+	}
+	
+	@Override
+	public String toString() {
+		if (this.lower == null && this.upper == null) {
+			return "*";
+		}
+		if (this.lower != null && this.lowerInclusive && this.upperInclusive && this.lower.equals(this.upper)) {
+			return "=" + this.lower;
+		}
+		
+		StringBuilder builder = new StringBuilder();
+		
+		if (this.lower != null) {
+			builder.append(this.lowerInclusive ? ">=" : ">").append(this.lower);
+		}
+		if (this.upper != null) {
+			if (builder.length() != 0) {
+				builder.append(' ');
+			}
+			
+			builder.append(this.upperInclusive ? "<=" : "<").append(this.upper);
+		}
+		
+		return builder.toString();
+	}
+}
\ No newline at end of file
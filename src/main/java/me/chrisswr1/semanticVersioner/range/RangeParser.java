@@ -0,0 +1,392 @@
+package me.chrisswr1.semanticVersioner.range;
+
+import me.chrisswr1.semanticVersioner.SemanticVersion;
+import me.chrisswr1.semanticVersioner.SemanticVersionFormatException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * parses npm/Cargo style and Maven style version ranges into intervals
+ *
+ * @author chwe
+ */
+final class RangeParser {
+	private static final long   wildcard         = -1;
+	private static final String lowestPreRelease = "0";
+	
+	private final String input;
+	private final int    end;
+	private       int    position = 0;
+	
+	RangeParser(String input) {
+		this.input = input;
+		this.end = input.length();
+	}
+	
+	List<Interval> parse() {
+		this.skipWhitespace();
+		
+		List<Interval> result;
+		if (this.peek() == '[' || this.peek() == '(') {
+			result = this.parseMaven();
+		} else {
+			result = this.parseNpm();
+		}
+		
+		this.skipWhitespace();
+		if (this.position != this.end) {
+			throw this.error("Unexpected character '" + this.input.charAt(this.position) + "'");
+		}
+		
+		return result;
+	}
+	
+	private List<Interval> parseNpm() {
+		List<Interval> result = new ArrayList<>();
+		
+		do {
+			List<Interval> conjunction = Collections.singletonList(Interval.all);
+			
+			this.skipSeparators();
+			while (this.position < this.end && !(this.lookingAt("||"))) {
+				conjunction = Interval.intersect(conjunction, Collections.singletonList(this.parseComparator()));
+				this.skipSeparators();
+			}
+			
+			result.addAll(conjunction);
+		} while (this.accept("||"));
+		
+		return Interval.union(result);
+	}
+	
+	private Interval parseComparator() {
+		String operator = this.parseOperator();
+		this.skipWhitespace();
+		
+		int     start   = this.position;
+		Partial partial = this.parsePartial();
+		
+		if (operator.isEmpty()) {
+			int afterPartial = this.position;
+			this.skipWhitespace();
+			
+			if (this.position > afterPartial && this.accept("-") && this.skipWhitespace()) {
+				Partial to = this.parsePartial();
+				
+				try {
+					return this.hyphen(partial, to);
+				} catch (SemanticVersionFormatException | ArithmeticException e) {
+					throw new VersionRangeFormatException(e.getMessage(), start);
+				}
+			}
+			
+			this.position = afterPartial;
+		}
+		
+		try {
+			return this.comparator(operator, partial);
+		} catch (SemanticVersionFormatException | ArithmeticException e) {
+			throw new VersionRangeFormatException(e.getMessage(), start);
+		}
+	}
+	
+	private String parseOperator() {
+		String[] operators = {">=", "<=", ">", "<", "=", "~", "^"};
+		
+		for (String operator : operators) {
+			if (this.accept(operator)) {
+				return operator;
+			}
+		}
+		
+		return "";
+	}
+	
+	private Interval comparator(String operator, Partial partial) {
+		if (partial.major == RangeParser.wildcard) {
+			return "<".equals(operator) || ">".equals(operator) ? Interval.none : Interval.all;
+		}
+		
+		switch (operator) {
+			case ">=":
+				return Interval.atLeast(partial.lowest(), true);
+			case ">":
+				return partial.isComplete() ? Interval.atLeast(partial.lowest(), false) : Interval.atLeast(partial.next(), true);
+			case "<":
+				return Interval.below(partial.isComplete() ? partial.lowest() : partial.lowestPreRelease(), false);
+			case "<=":
+				return partial.isComplete() ? Interval.below(partial.lowest(), true) : Interval.below(partial.next(), false);
+			case "~":
+				return new Interval(partial.lowest(), true, partial.minor == RangeParser.wildcard ? partial.bump(0) : partial.bump(1), false);
+			case "^":
+				return new Interval(partial.lowest(), true, this.caretUpper(partial), false);
+			default:
+				return partial.isComplete() ? Interval.exactly(partial.lowest()) : new Interval(partial.lowest(), true, partial.next(), false);
+		}
+	}
+	
+	private SemanticVersion caretUpper(Partial partial) {
+		if (partial.major != 0 || partial.minor == RangeParser.wildcard) {
+			return partial.bump(0);
+		}
+		if (partial.minor != 0 || partial.patch == RangeParser.wildcard) {
+			return partial.bump(1);
+		}
+		
+		return partial.bump(2);
+	}
+	
+	private Interval hyphen(Partial from, Partial to) {
+		SemanticVersion lower = from.major == RangeParser.wildcard ? null : from.lowest();
+		
+		if (to.major == RangeParser.wildcard) {
+			return new Interval(lower, true, null, false);
+		}
+		if (to.isComplete()) {
+			return new Interval(lower, true, to.lowest(), true);
+		}
+		
+		return new Interval(lower, true, to.next(), false);
+	}
+	
+	private List<Interval> parseMaven() {
+		List<Interval> result = new ArrayList<>();
+		
+		do {
+			this.skipWhitespace();
+			
+			boolean lowerInclusive;
+			if (this.accept("[")) {
+				lowerInclusive = true;
+			} else if (this.accept("(")) {
+				lowerInclusive = false;
+			} else {
+				throw this.error("Expected '[' or '('");
+			}
+			
+			this.skipWhitespace();
+			SemanticVersion lower = this.peek() == ',' ? null : this.parseMavenVersion();
+			SemanticVersion upper;
+			
+			this.skipWhitespace();
+			if (this.accept(",")) {
+				this.skipWhitespace();
+				upper = this.peek() == ']' || this.peek() == ')' ? null : this.parseMavenVersion();
+				this.skipWhitespace();
+			} else if (lower != null && lowerInclusive && this.peek() == ']') {
+				upper = lower;
+			} else {
+				throw this.error("Expected ','");
+			}
+			
+			boolean upperInclusive;
+			if (this.accept("]")) {
+				upperInclusive = true;
+			} else if (this.accept(")")) {
+				upperInclusive = false;
+			} else {
+				throw this.error("Expected ']' or ')'");
+			}
+			
+			result.add(new Interval(lower, lowerInclusive, upper, upperInclusive));
+			this.skipWhitespace();
+		} while (this.accept(","));
+		
+		return Interval.union(result);
+	}
+	
+	private SemanticVersion parseMavenVersion() {
+		int     start   = this.position;
+		Partial partial = this.parsePartial();
+		
+		if (partial.major == RangeParser.wildcard) {
+			throw new VersionRangeFormatException("Expected a version", start);
+		}
+		
+		try {
+			return partial.lowest();
+		} catch (SemanticVersionFormatException e) {
+			throw new VersionRangeFormatException(e.getMessage(), start);
+		}
+	}
+	
+	private Partial parsePartial() {
+		Partial partial = new Partial();
+		
+		if (this.peek() == 'v' || this.peek() == 'V') {
+			this.position++;
+		}
+		
+		partial.major = this.parsePart();
+		partial.minor = RangeParser.wildcard;
+		partial.patch = RangeParser.wildcard;
+		
+		if (this.accept(".")) {
+			partial.minor = this.parsePart();
+			
+			if (this.accept(".")) {
+				partial.patch = this.parsePart();
+			}
+		}
+		
+		if (partial.minor == RangeParser.wildcard) {
+			partial.patch = RangeParser.wildcard;
+		}
+		if (partial.major == RangeParser.wildcard) {
+			partial.minor = RangeParser.wildcard;
+			partial.patch = RangeParser.wildcard;
+		}
+		
+		if (partial.isComplete() && this.peek() == '-') {
+			this.position++;
+			partial.preRelease = this.scanIdentifiers();
+		}
+		if (this.peek() == '+') {
+			this.position++;
+			partial.buildMetadata = this.scanIdentifiers();
+		}
+		
+		return partial;
+	}
+	
+	private long parsePart() {
+		char c = this.peek();
+		if (c == 'x' || c == 'X' || c == '*') {
+			this.position++;
+			return RangeParser.wildcard;
+		}
+		
+		int  start = this.position;
+		long value = 0;
+		
+		while (this.position < this.end) {
+			int digit = this.input.charAt(this.position) - '0';
+			if (digit < 0 || digit > 9) {
+				break;
+			}
+			
+			if (value > (Long.MAX_VALUE - digit) / 10) {
+				throw new VersionRangeFormatException("Number is too large", start);
+			}
+			
+			value = value * 10 + digit;
+			this.position++;
+		}
+		
+		if (this.position == start) {
+			throw this.error("Expected a number or wildcard");
+		}
+		if (this.position - start > 1 && this.input.charAt(start) == '0') {
+			throw new VersionRangeFormatException("Leading zeros are not allowed", start);
+		}
+		
+		return value;
+	}
+	
+	private String scanIdentifiers() {
+		int start = this.position;
+		
+		while (this.position < this.end) {
+			char c = this.input.charAt(this.position);
+			
+			if (!((c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || c == '-' || c == '.')) {
+				break;
+			}
+			
+			this.position++;
+		}
+		
+		if (this.position == start) {
+			throw this.error("Expected an identifier");
+		}
+		
+		return this.input.substring(start, this.position);
+	}
+	
+	private char peek() {
+		return this.position < this.end ? this.input.charAt(this.position) : '\0';
+	}
+	
+	private boolean lookingAt(String token) {
+		return this.input.startsWith(token, this.position);
+	}
+	
+	private boolean accept(String token) {
+		if (this.lookingAt(token)) {
+			this.position += token.length();
+			return true;
+		}
+		
+		return false;
+	}
+	
+	private boolean skipWhitespace() {
+		int start = this.position;
+		
+		while (this.position < this.end && Character.isWhitespace(this.input.charAt(this.position))) {
+			this.position++;
+		}
+		
+		return this.position > start;
+	}
+	
+	private void skipSeparators() {
+		while (this.skipWhitespace() || this.accept(",")) {
+			// skip whitespace and commas between comparators
+		}
+	}
+	
+	private VersionRangeFormatException error(String message) {
+		return new VersionRangeFormatException(message + " at offset " + this.position + "!", this.position);
+	}
+	
+	/**
+	 * version, where missing or wildcard parts are {@link #wildcard}
+	 */
+	private static final class Partial {
+		private long   major;
+		private long   minor;
+		private long   patch;
+		private String preRelease;
+		private String buildMetadata;
+		
+		private boolean isComplete() {
+			return this.patch != RangeParser.wildcard;
+		}
+		
+		private static long zero(long part) {
+			return part == RangeParser.wildcard ? 0 : part;
+		}
+		
+		private SemanticVersion lowest() {
+			return new SemanticVersion(this.major, Partial.zero(this.minor), Partial.zero(this.patch), this.preRelease, this.buildMetadata);
+		}
+		
+		private SemanticVersion lowestPreRelease() {
+			return new SemanticVersion(this.major, Partial.zero(this.minor), Partial.zero(this.patch), RangeParser.lowestPreRelease, null);
+		}
+		
+		/**
+		 * @return the lowest version above all versions matching this partial
+		 */
+		private SemanticVersion next() {
+			return this.bump(this.minor == RangeParser.wildcard ? 0 : 1);
+		}
+		
+		/**
+		 * @return the lowest pre-release of the next version at the given part (0 = major, 1 = minor, 2 = patch)
+		 */
+		private SemanticVersion bump(int part) {
+			switch (part) {
+				case 0:
+					return new SemanticVersion(Math.addExact(this.major, 1), 0, 0, RangeParser.lowestPreRelease, null);
+				case 1:
+					return new SemanticVersion(this.major, Math.addExact(this.minor, 1), 0, RangeParser.lowestPreRelease, null);
+				default:
+					return new SemanticVersion(this.major, this.minor, Math.addExact(this.patch, 1), RangeParser.lowestPreRelease, null);
+			}
+		}
+	}
+}
\ No newline at end of file
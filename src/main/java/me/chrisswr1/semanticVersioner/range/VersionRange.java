@@ -0,0 +1,291 @@
+package me.chrisswr1.semanticVersioner.range;
+
+import me.chrisswr1.semanticVersioner.SemanticVersion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * immutable set of disjoint version intervals, which can be shared between threads
+ * <p>
+ * Ranges are parsed in npm/Cargo style (e.g. {@code >=1.2.0 <2.0.0-0 || ^3.1}, {@code ~1.2}, {@code 1.2.3 - 2.x},
+ * {@code >=1.2, <1.5}) or, if they start with a bracket, in Maven style (e.g. {@code [1.0,2.0),[3.0,)}). The
+ * comparators are evaluated as plain intervals of precedence, so pre-releases are not excluded.
+ *
+ * @author chwe
+ */
+public final class VersionRange
+		implements Predicate<SemanticVersion> {
+	private static final VersionRange all  = new VersionRange(Collections.singletonList(Interval.all));
+	private static final VersionRange none = new VersionRange(Collections.<Interval>emptyList());
+	
+	private final List<Interval>    intervals;
+	private final SemanticVersion[] lowers;
+	private final boolean[]         lowerInclusive;
+	private final long[]            lowerHighs;
+	private final long[]            lowerLows;
+	private final SemanticVersion[] uppers;
+	private final boolean[]         upperInclusive;
+	private final long[]            upperHighs;
+	private final long[]            upperLows;
+	
+	private VersionRange(List<Interval> intervals) {
+		int count = intervals.size();
+		
+		this.intervals = Collections.unmodifiableList(new ArrayList<>(intervals));
+		this.lowers = new SemanticVersion[count];
+		this.lowerInclusive = new boolean[count];
+		this.lowerHighs = new long[count];
+		this.lowerLows = new long[count];
+		this.uppers = new SemanticVersion[count];
+		this.upperInclusive = new boolean[count];
+		this.upperHighs = new long[count];
+		this.upperLows = new long[count];
+		
+		for (int i = 0; i < count; i++) {
+			Interval interval = intervals.get(i);
+			
+			this.lowers[i] = interval.lower;
+			this.lowerInclusive[i] = interval.lowerInclusive;
+			this.uppers[i] = interval.upper;
+			this.upperInclusive[i] = interval.upperInclusive;
+			
+			if (interval.lower != null) {
+				this.lowerHighs[i] = interval.lower.getSortKeyHigh();
+				this.lowerLows[i] = interval.lower.getSortKeyLow();
+			}
+			if (interval.upper != null) {
+				this.upperHighs[i] = interval.upper.getSortKeyHigh();
+				this.upperLows[i] = interval.upper.getSortKeyLow();
+			}
+		}
+	}
+	
+	/**
+	 * compiles the given range
+	 *
+	 * @param range the range to parse
+	 * @return the compiled range
+	 * @throws VersionRangeFormatException if the range is not valid
+	 */
+	public static VersionRange parse(String range) {
+		return VersionRange.of(new RangeParser(range).parse());
+	}
+	
+	private static VersionRange of(List<Interval> intervals) {
+		if (intervals.isEmpty()) {
+			return VersionRange.none;
+		}
+		
+		return new VersionRange(intervals);
+	}
+	
+	public static VersionRange all() {
+		return VersionRange.all;
+	}
+	
+	public static VersionRange none() {
+		return VersionRange.none;
+	}
+	
+	/**
+	 * creates a range of a single interval
+	 *
+	 * @param lower          the lower bound or null, if it is unbounded
+	 * @param lowerInclusive true, if the lower bound is included
+	 * @param upper          the upper bound or null, if it is unbounded
+	 * @param upperInclusive true, if the upper bound is included
+	 * @return the range
+	 */
+	public static VersionRange between(SemanticVersion lower, boolean lowerInclusive, SemanticVersion upper, boolean upperInclusive) {
+		return VersionRange.of(Interval.union(Collections.singletonList(new Interval(lower, lowerInclusive, upper, upperInclusive))));
+	}
+	
+	public static VersionRange exactly(SemanticVersion version) {
+		return VersionRange.between(version, true, version, true);
+	}
+	
+	public VersionRange union(VersionRange other) {
+		List<Interval> intervals = new ArrayList<>(this.intervals);
+		intervals.addAll(other.intervals);
+		
+		return VersionRange.of(Interval.union(intervals));
+	}
+	
+	public VersionRange intersect(VersionRange other) {
+		return VersionRange.of(Interval.intersect(this.intervals, other.intervals));
+	}
+	
+	/**
+	 * checks, if the given version is in one of the intervals
+	 */
+	@Override
+	public boolean test(SemanticVersion version) {
+		long high = version.getSortKeyHigh();
+		long low  = version.getSortKeyLow();
+		
+		int from      = 0;
+		int to        = this.lowers.length - 1;
+		int candidate = -1;
+		
+		while (from <= to) {
+			int middle = (from + to) >>> 1;
+			
+			if (this.isAboveLower(middle, version, high, low)) {
+				candidate = middle;
+				from = middle + 1;
+			} else {
+				to = middle - 1;
+			}
+		}
+		
+		return candidate >= 0 && this.isBelowUpper(candidate, version, high, low);
+	}
+	
+	private boolean isAboveLower(int index, SemanticVersion version, long high, long low) {
+		SemanticVersion lower = this.lowers[index];
+		if (lower == null) {
+			return true;
+		}
+		
+		int result = VersionRange.compare(version, high, low, lower, this.lowerHighs[index], this.lowerLows[index]);
+		
+		return result > 0 || (result == 0 && this.lowerInclusive[index]);
+	}
+	
+	private boolean isBelowUpper(int index, SemanticVersion version, long high, long low) {
+		SemanticVersion upper = this.uppers[index];
+		if (upper == null) {
+			return true;
+		}
+		
+		int result = VersionRange.compare(version, high, low, upper, this.upperHighs[index], this.upperLows[index]);
+		
+		return result < 0 || (result == 0 && this.upperInclusive[index]);
+	}
+	
+	private static int compare(SemanticVersion version, long high, long low, SemanticVersion bound, long boundHigh, long boundLow) {
+		if (high != boundHigh) {
+			return Long.compare(high, boundHigh);
+		}
+		if (low != boundLow) {
+			return Long.compare(low, boundLow);
+		}
+		
+		return version.compareTo(bound);
+	}
+	
+	/**
+	 * tests all given versions
+	 *
+	 * @param versions the versions to test
+	 * @return the results in the order of the given versions
+	 */
+	public boolean[] testAll(SemanticVersion... versions) {
+		boolean[] results = new boolean[versions.length];
+		
+		for (int i = 0; i < versions.length; i++) {
+			results[i] = this.test(versions[i]);
+		}
+		
+		return results;
+	}
+	
+	/**
+	 * @param versions the versions to filter
+	 * @return all given versions, which are in this range, in their original order
+	 */
+	public SemanticVersion[] filter(SemanticVersion... versions) {
+		SemanticVersion[] results = new SemanticVersion[versions.length];
+		int               count   = 0;
+		
+		for (SemanticVersion version : versions) {
+			if (this.test(version)) {
+				results[count++] = version;
+			}
+		}
+		
+		return Arrays.copyOf(results, count);
+	}
+	
+	public boolean isEmpty() {
+		return this.lowers.length == 0;
+	}
+	
+	public int getIntervalCount() {
+		return this.lowers.length;
+	}
+	
+	/**
+	 * @return the lower bound of the interval or null, if it is unbounded
+	 */
+	public SemanticVersion getLower(int interval) {
+		return this.lowers[interval];
+	}
+	
+	public boolean isLowerInclusive(int interval) {
+		return this.lowerInclusive[interval];
+	}
+	
+	/**
+	 * @return the upper bound of the interval or null, if it is unbounded
+	 */
+	public SemanticVersion getUpper(int interval) {
+		return this.uppers[interval];
+	}
+	
+	public boolean isUpperInclusive(int interval) {
+		return this.upperInclusive[interval];
+	}
+	
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		
+		if (!(obj instanceof VersionRange)) {
+			return false;
+		}
+		
+		VersionRange other = (VersionRange) obj;
+		
+		return
+				Arrays.equals(this.lowers, other.lowers)
+				&& Arrays.equals(this.lowerInclusive, other.lowerInclusive)
+				&& Arrays.equals(this.uppers, other.uppers)
+				&& Arrays.equals(this.upperInclusive, other.upperInclusive);
+	}
+	
+	@Override
+	public int hashCode() {
+		int result = Arrays.hashCode(this.lowers);
+		result = 31 * result + Arrays.hashCode(this.lowerInclusive);
+		result = 31 * result + Arrays.hashCode(this.uppers);
+		result = 31 * result + Arrays.hashCode(this.upperInclusive);
+		
+		return result;
+	}
+	
+	@Override
+	public String toString() {
+		if (this.isEmpty()) {
+			return "<0.0.0-0";
+		}
+		
+		StringBuilder builder = new StringBuilder();
+		
+		for (Interval interval : this.intervals) {
+			if (builder.length() != 0) {
+				builder.append(" || ");
+			}
+			
+			builder.append(interval);
+		}
+		
+		return builder.toString();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package me.chrisswr1.semanticVersioner.range;
+
+import lombok.Getter;
+
+/**
+ * thrown, if a {@link String} could not be parsed to a {@link VersionRange}
+ *
+ * @author chwe
+ */
+public class VersionRangeFormatException
+		extends IllegalArgumentException {
+	private static final long serialVersionUID = 1L;
+	
+	/**
+	 * the offset of the first character, which violates the format
+	 */
+	@Getter
+	private final int errorOffset;
+	
+	public VersionRangeFormatException(String message, int errorOffset) {
+		super(message);
+		
+		this.errorOffset = errorOffset;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,53 @@
+package me.chrisswr1.semanticVersioner.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link Appendable}, which writes characters as ASCII bytes to a {@link ByteBuffer}
+ * <p>
+ * Characters outside of the ASCII range are written as '?'. Without a buffer, the characters are only counted.
+ */
+public class AsciiAppendable
+		implements Appendable {
+	private final ByteBuffer buffer;
+	private       int        length = 0;
+	
+	/**
+	 * @param buffer the buffer to write at its position or null to count the characters only
+	 */
+	public AsciiAppendable(ByteBuffer buffer) {
+		this.buffer = buffer;
+	}
+	
+	@Override
+	public AsciiAppendable append(char c) {
+		if (this.buffer != null) {
+			this.buffer.put(c < 0x80 ? (byte) c : (byte) '?');
+		}
+		
+		this.length++;
+		
+		return this;
+	}
+	
+	@Override
+	public AsciiAppendable append(CharSequence csq) {
+		return this.append(csq, 0, csq.length());
+	}
+	
+	@Override
+	public AsciiAppendable append(CharSequence csq, int start, int end) {
+		for (int i = start; i < end; i++) {
+			this.append(csq.charAt(i));
+		}
+		
+		return this;
+	}
+	
+	/**
+	 * @return the count of appended characters
+	 */
+	public int length() {
+		return this.length;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,75 @@
+package me.chrisswr1.semanticVersioner.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link CharSequence} view of ASCII bytes in a {@link ByteBuffer}, which does not copy the bytes
+ * <p>
+ * Bytes outside of the ASCII range are mapped to U+FFFD.
+ */
+public class AsciiCharSequence
+		implements CharSequence {
+	private final ByteBuffer buffer;
+	private final int        offset;
+	private final int        length;
+	
+	/**
+	 * @param buffer the buffer to view, which is accessed with absolute indices only
+	 * @param offset the absolute index of the first byte
+	 * @param length the count of bytes
+	 */
+	public AsciiCharSequence(ByteBuffer buffer, int offset, int length) {
+		if (offset < 0 || length < 0 || offset + length > buffer.limit()) {
+			throw new IndexOutOfBoundsException("The given region is out of the bounds of the buffer!");
+		}
+		
+		this.buffer = buffer;
+		this.offset = offset;
+		this.length = length;
+	}
+	
+	/**
+	 * @param bytes  the bytes to view
+	 * @param offset the index of the first byte
+	 * @param length the count of bytes
+	 */
+	public AsciiCharSequence(byte[] bytes, int offset, int length) {
+		this(ByteBuffer.wrap(bytes), offset, length);
+	}
+	
+	@Override
+	public int length() {
+		return this.length;
+	}
+	
+	@Override
+	public char charAt(int index) {
+		if (index < 0 || index >= this.length) {
+			throw new IndexOutOfBoundsException("Index " + index + " is out of the bounds of this sequence!");
+		}
+		
+		byte b = this.buffer.get(this.offset + index);
+		
+		return b < 0 ? '\uFFFD' : (char) b;
+	}
+	
+	@Override
+	public CharSequence subSequence(int start, int end) {
+		if (start < 0 || end > this.length || start > end) {
+			throw new IndexOutOfBoundsException("The given region is out of the bounds of this sequence!");
+		}
+		
+		return new AsciiCharSequence(this.buffer, this.offset + start, end - start);
+	}
+	
+	@Override
+	public String toString() {
+		char[] chars = new char[this.length];
+		
+		for (int i = 0; i < this.length; i++) {
+			chars[i] = this.charAt(i);
+		}
+		
+		return new String(chars);
+	}
+}
\ No newline at end of file
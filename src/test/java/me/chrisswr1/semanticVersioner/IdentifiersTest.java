@@ -0,0 +1,114 @@
+package me.chrisswr1.semanticVersioner;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * @author chwe
+ */
+public class IdentifiersTest {
+	/**
+	 * Test method for {@link Identifiers#of(java.util.List)}.
+	 */
+	@Test
+	public void testOf() {
+		Identifiers identifiers = Identifiers.of(Arrays.asList("alpha", 1, "99999999999999999999", 7L));
+		
+		MatcherAssert.assertThat(identifiers.size(), Matchers.equalTo(4));
+		Assert.assertFalse(identifiers.isNumeric(0));
+		Assert.assertTrue(identifiers.isNumeric(1));
+		Assert.assertTrue(identifiers.isBigNumber(2));
+		Assert.assertFalse(identifiers.isBigNumber(3));
+		MatcherAssert.assertThat(identifiers.getString(0), Matchers.equalTo("alpha"));
+		MatcherAssert.assertThat(identifiers.getNumber(1), Matchers.equalTo(1L));
+		MatcherAssert.assertThat(identifiers.getNumber(2), Matchers.equalTo(Long.MAX_VALUE));
+		MatcherAssert.assertThat(identifiers.getBigNumber(2), Matchers.equalTo(new BigInteger("99999999999999999999")));
+		MatcherAssert.assertThat(identifiers.asList(), Matchers.<Object>contains("alpha", 1L, new BigInteger("99999999999999999999"), 7L));
+		MatcherAssert.assertThat(identifiers.toString(), Matchers.equalTo("alpha.1.99999999999999999999.7"));
+		Assert.assertSame(Identifiers.empty(), Identifiers.of(Collections.emptyList()));
+	}
+	
+	/**
+	 * tests, if invalid identifiers are rejected
+	 */
+	@Test
+	public void testOfInvalid() {
+		for (Object identifier : new Object[] {"", "a.b", "a+b", -1, 1.5}) {
+			try {
+				Identifiers.of(Collections.singletonList(identifier));
+				Assert.fail(String.valueOf(identifier));
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+		}
+	}
+	
+	/**
+	 * tests, if numeric identifiers beyond a double or a long keep their precision
+	 */
+	@Test
+	public void testPrecision() {
+		String[] versions = {"1.0.0-9007199254740993", "1.0.0-123456789012345678901234567890+42.18446744073709551616"};
+		
+		for (String version : versions) {
+			MatcherAssert.assertThat(new SemanticVersion(version).toString(), Matchers.equalTo(version));
+		}
+		
+		Assert.assertNotEquals(new SemanticVersion("1.0.0-9007199254740993"), new SemanticVersion("1.0.0-9007199254740992"));
+		MatcherAssert.assertThat(new SemanticVersion("1.0.0-9007199254740993"), Matchers.greaterThan(new SemanticVersion("1.0.0-9007199254740992")));
+		MatcherAssert.assertThat(
+				new SemanticVersion("1.0.0-123456789012345678901234567891"),
+				Matchers.greaterThan(new SemanticVersion("1.0.0-123456789012345678901234567890")));
+		MatcherAssert.assertThat(
+				new SemanticVersion("1.0.0-123456789012345678901234567890"),
+				Matchers.greaterThan(new SemanticVersion("1.0.0-9223372036854775807")));
+		MatcherAssert.assertThat(
+				new SemanticVersion("1.0.0-a"),
+				Matchers.greaterThan(new SemanticVersion("1.0.0-123456789012345678901234567890")));
+	}
+	
+	/**
+	 * Test method for {@link Identifiers#compare(int, Identifiers, int)} and {@link Identifiers#compare(Object, Object)}.
+	 */
+	@Test
+	public void testCompare() {
+		Identifiers identifiers = Identifiers.of(Arrays.asList(2, 10, "Beta", "alpha", "99999999999999999999"));
+		
+		MatcherAssert.assertThat(identifiers.compare(0, identifiers, 1), Matchers.lessThan(0));
+		MatcherAssert.assertThat(identifiers.compare(1, identifiers, 4), Matchers.lessThan(0));
+		MatcherAssert.assertThat(identifiers.compare(4, identifiers, 3), Matchers.lessThan(0));
+		MatcherAssert.assertThat(identifiers.compare(3, identifiers, 2), Matchers.lessThan(0));
+		MatcherAssert.assertThat(identifiers.compare(2, identifiers, 2), Matchers.equalTo(0));
+		MatcherAssert.assertThat(
+				identifiers.compare(4, Identifiers.of(Collections.singletonList(new BigInteger("99999999999999999999"))), 0),
+				Matchers.equalTo(0));
+		
+		for (int i = 0; i < identifiers.size(); i++) {
+			for (int j = 0; j < identifiers.size(); j++) {
+				int expected = Integer.signum(identifiers.compare(i, identifiers, j));
+				
+				MatcherAssert.assertThat(Integer.signum(Identifiers.compare(identifiers.get(i), identifiers, j)), Matchers.equalTo(expected));
+				MatcherAssert.assertThat(Integer.signum(Identifiers.compare(identifiers.get(i), identifiers.get(j))), Matchers.equalTo(expected));
+			}
+		}
+	}
+	
+	/**
+	 * tests, if equal identifiers share their strings
+	 */
+	@Test
+	public void testInterned() {
+		SemanticVersion first  = new SemanticVersion("1.0.0-" + new String("rc") + ".1");
+		SemanticVersion second = new SemanticVersion("2.0.0-" + new String("rc") + ".2");
+		
+		Assert.assertSame(first.getPreRelease().getString(0), second.getPreRelease().getString(0));
+		Assert.assertEquals(Identifiers.of(Arrays.asList("rc", 1)), first.getPreRelease());
+		MatcherAssert.assertThat(first.getPreRelease().hashCode(), Matchers.equalTo(Identifiers.of(Arrays.asList("rc", 1)).hashCode()));
+	}
+}
\ No newline at end of file
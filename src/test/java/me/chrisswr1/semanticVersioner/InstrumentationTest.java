@@ -0,0 +1,116 @@
+package me.chrisswr1.semanticVersioner;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * @author chwe
+ */
+public class InstrumentationTest {
+	@After
+	public void tearDown() {
+		Instrumentation.removeAllListeners();
+	}
+	
+	/**
+	 * tests the counters of {@link VersionStatistics}
+	 */
+	@Test
+	public void testStatistics() {
+		VersionStatistics statistics = new VersionStatistics();
+		
+		Assert.assertFalse(Instrumentation.isEnabled());
+		Instrumentation.addListener(statistics);
+		Assert.assertTrue(Instrumentation.isEnabled());
+		
+		new SemanticVersion("1.0.0").compareTo(new SemanticVersion("2.0.0-rc.1"));
+		SemanticVersion.tryParse("1.02.0");
+		SemanticVersion.isValid("1.0.0");
+		SemanticVersion.isValid("x");
+		
+		VersionCache cache = new VersionCache(8);
+		cache.get("3.0.0");
+		cache.get("3.0.0");
+		
+		MatcherAssert.assertThat(statistics.getParseCount(), Matchers.equalTo(4L));
+		MatcherAssert.assertThat(statistics.getValidationCount(), Matchers.equalTo(2L));
+		MatcherAssert.assertThat(statistics.getFailureCount(), Matchers.equalTo(2L));
+		MatcherAssert.assertThat(statistics.getFailureCount(ParseError.LEADING_ZERO), Matchers.equalTo(1L));
+		MatcherAssert.assertThat(statistics.getFailureCount(ParseError.EXPECTED_DIGIT), Matchers.equalTo(1L));
+		MatcherAssert.assertThat(statistics.getComparisonCount(), Matchers.equalTo(1L));
+		MatcherAssert.assertThat(statistics.getCacheHitRate(), Matchers.equalTo(0.5));
+		MatcherAssert.assertThat(statistics.getLatencyPercentile(100), Matchers.greaterThan(0L));
+		MatcherAssert.assertThat(statistics.getLatencyPercentile(50), Matchers.lessThanOrEqualTo(statistics.getLatencyPercentile(100)));
+		MatcherAssert.assertThat(Arrays.stream(statistics.getLatencyHistogram()).sum(), Matchers.equalTo(6L));
+		
+		Assert.assertTrue(Instrumentation.removeListener(statistics));
+		Assert.assertFalse(Instrumentation.isEnabled());
+		
+		new SemanticVersion("1.0.0");
+		MatcherAssert.assertThat(statistics.getParseCount(), Matchers.equalTo(4L));
+	}
+	
+	/**
+	 * tests, if several listeners are notified
+	 */
+	@Test
+	public void testMulticast() {
+		VersionStatistics first  = new VersionStatistics();
+		VersionStatistics second = new VersionStatistics();
+		
+		Instrumentation.addListener(first);
+		Instrumentation.addListener(second);
+		new SemanticVersion("1.0.0");
+		Instrumentation.removeListener(first);
+		new SemanticVersion("1.0.0");
+		
+		MatcherAssert.assertThat(first.getParseCount(), Matchers.equalTo(1L));
+		MatcherAssert.assertThat(second.getParseCount(), Matchers.equalTo(2L));
+	}
+	
+	/**
+	 * tests, if parses are recorded as Flight Recorder events
+	 */
+	@Test
+	public void testFlightRecorder()
+			throws Exception {
+		Path file = Files.createTempFile("versions", ".jfr");
+		
+		try (Recording recording = new Recording()) {
+			recording.enable("me.chrisswr1.semanticVersioner.Parse");
+			recording.start();
+			
+			Instrumentation.enableFlightRecorder();
+			Instrumentation.enableFlightRecorder();
+			new SemanticVersion("1.2.3");
+			SemanticVersion.tryParse("1.2.x");
+			
+			recording.stop();
+			recording.dump(file);
+			
+			List<RecordedEvent> events = RecordingFile.readAllEvents(file)
+			                                          .stream()
+			                                          .filter(event -> event.getEventType().getName().endsWith(".Parse"))
+			                                          .collect(Collectors.toList());
+			
+			MatcherAssert.assertThat(events.size(), Matchers.equalTo(2));
+			MatcherAssert.assertThat(events.get(0).getString("input"), Matchers.equalTo("1.2.3"));
+			Assert.assertTrue(events.get(0).getBoolean("valid"));
+			MatcherAssert.assertThat(events.get(1).getString("error"), Matchers.equalTo("EXPECTED_DIGIT"));
+		} finally {
+			Files.delete(file);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,240 @@
+package me.chrisswr1.semanticVersioner;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+
+/**
+ * tests the {@link SemanticVersionParser} against the reference {@link SemanticVersion#getVersionPattern()}
+ *
+ * @author chwe
+ */
+public class SemanticVersionParserTest {
+	private static final String alphabet = "0123456789..--+_aZx";
+	
+	private static boolean parses(String version) {
+		try {
+			new SemanticVersion(version);
+			return true;
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+	}
+	
+	private static void assertSameAsReference(String version) {
+		Matcher matcher = SemanticVersion.getVersionPattern().matcher(version);
+		
+		Assert.assertEquals(version, matcher.matches(), parses(version));
+		Assert.assertEquals(version, matcher.matches(), SemanticVersion.isValid(version));
+		Assert.assertEquals(version, matcher.matches(), SemanticVersion.tryParse(version).isValid());
+		
+		if (!(matcher.matches())) {
+			return;
+		}
+		
+		SemanticVersion semVer = new SemanticVersion(version);
+		
+		String major = matcher.group("majorzero") != null ? matcher.group("majorzero") : matcher.group("majornonzero");
+		String minor = matcher.group("minorzero") != null ? matcher.group("minorzero") : matcher.group("minornonzero");
+		String patch = matcher.group("patch");
+		
+		Assert.assertEquals(version, major.isEmpty() ? 0 : Long.parseLong(major), semVer.getMajor());
+		Assert.assertEquals(version, Long.parseLong(minor), semVer.getMinor());
+		Assert.assertEquals(version, patch == null ? 0 : Long.parseLong(patch), semVer.getPatch());
+	}
+	
+	/**
+	 * tests all lines of the test text
+	 */
+	@Test
+	public void testTestText()
+			throws IOException {
+		List<String> tokens = new ArrayList<>();
+		
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+				SemanticVersionParserTest.class.getResourceAsStream("/test-text.txt"), StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				tokens.add(line);
+				
+				for (String token : line.split("[\\s,<>]+")) {
+					tokens.add(token);
+				}
+			}
+		}
+		
+		for (String token : tokens) {
+			assertSameAsReference(token);
+		}
+	}
+	
+	/**
+	 * tests randomly generated strings
+	 */
+	@Test
+	public void testRandom() {
+		Random random = new Random(42);
+		
+		for (int i = 0; i < 200000; i++) {
+			int           length  = random.nextInt(12);
+			StringBuilder builder = new StringBuilder(length);
+			
+			for (int j = 0; j < length; j++) {
+				builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+			}
+			
+			assertSameAsReference(builder.toString());
+		}
+	}
+	
+	/**
+	 * tests special cases of the grammar
+	 */
+	@Test
+	public void testSpecialCases() {
+		String[] versions = {
+				"", ".1", "0.1", "0.0", "0.0.1", "1.0", "1.0.", "01.0.0", "1.00.0", "1.0.00", "1.0.0-", "1.0.0+",
+				"1.0.0-a..b", "1.0.0-a-.b--", "1.0.0-00.01", "1.0.0_build", "1.0.0+a+b", "1.0.0-alpha+001"
+		};
+		
+		for (String version : versions) {
+			assertSameAsReference(version);
+		}
+	}
+	
+	/**
+	 * tests the reported error offsets
+	 */
+	@Test
+	public void testErrorOffset() {
+		assertErrorOffset("", 0, ParseError.EXPECTED_DIGIT);
+		assertErrorOffset("x.1.0", 0, ParseError.EXPECTED_DIGIT);
+		assertErrorOffset("1.x.0", 2, ParseError.EXPECTED_DIGIT);
+		assertErrorOffset("1-0.0", 1, ParseError.EXPECTED_DELIMITER);
+		assertErrorOffset("1.08.3", 2, ParseError.LEADING_ZERO);
+		assertErrorOffset("0.0.1", 0, ParseError.ZERO_VERSION);
+		assertErrorOffset("1.0.0-alpha..1", 12, ParseError.EXPECTED_IDENTIFIER);
+		assertErrorOffset("1.0.0+build!", 11, ParseError.UNEXPECTED_CHARACTER);
+		assertErrorOffset("99999999999999999999.0.0", 0, ParseError.NUMBER_TOO_LARGE);
+	}
+	
+	private static void assertErrorOffset(String version, int offset, ParseError error) {
+		ParseResult result = SemanticVersion.tryParse(version);
+		
+		Assert.assertFalse(version, result.isValid());
+		Assert.assertNull(version, result.getVersion());
+		Assert.assertEquals(version, error, result.getError());
+		MatcherAssert.assertThat(version, result.getErrorOffset(), Matchers.equalTo(offset));
+		
+		try {
+			new SemanticVersion(version);
+			Assert.fail(version);
+		} catch (SemanticVersionFormatException e) {
+			MatcherAssert.assertThat(version, e.getErrorOffset(), Matchers.equalTo(offset));
+			Assert.assertEquals(version, error, e.getError());
+			MatcherAssert.assertThat(e.getMessage(), Matchers.containsString(result.getErrorMessage()));
+		}
+	}
+	
+	/**
+	 * Test method for {@link SemanticVersion#tryParse(CharSequence)}.
+	 */
+	@Test
+	public void testTryParse() {
+		ParseResult result = SemanticVersion.tryParse("1.2.3-rc.1+build");
+		
+		Assert.assertTrue(result.isValid());
+		Assert.assertNull(result.getError());
+		MatcherAssert.assertThat(result.getErrorOffset(), Matchers.equalTo(-1));
+		MatcherAssert.assertThat(result.orElseThrow().toString(), Matchers.equalTo("1.2.3-rc.1+build"));
+		Assert.assertTrue(result.toOptional().isPresent());
+		
+		result = SemanticVersion.tryParse("1.2.3!");
+		MatcherAssert.assertThat(result.getErrorMessage(), Matchers.equalTo("Unexpected character '!'"));
+		Assert.assertFalse(result.toOptional().isPresent());
+		
+		try {
+			result.orElseThrow();
+			Assert.fail();
+		} catch (SemanticVersionFormatException e) {
+			MatcherAssert.assertThat(e.getErrorOffset(), Matchers.equalTo(5));
+		}
+	}
+	
+	private static String lenient(String version) {
+		return SemanticVersion.parse(version, ParseOptions.lenient()).toString();
+	}
+	
+	/**
+	 * Test method for {@link SemanticVersion#parse(CharSequence, ParseOptions)}.
+	 */
+	@Test
+	public void testLenient() {
+		MatcherAssert.assertThat(lenient("v1.2"), Matchers.equalTo("1.2.0"));
+		MatcherAssert.assertThat(lenient("release-2.0"), Matchers.equalTo("2.0.0"));
+		MatcherAssert.assertThat(lenient("refs/tags/V3"), Matchers.equalTo("3.0.0"));
+		MatcherAssert.assertThat(lenient("1.2.3.4"), Matchers.equalTo("1.2.3+4"));
+		MatcherAssert.assertThat(lenient("1.2.3.4.5-beta+exp"), Matchers.equalTo("1.2.3-beta+4.5.exp"));
+		MatcherAssert.assertThat(lenient("1.2.3.Final"), Matchers.equalTo("1.2.3+Final"));
+		MatcherAssert.assertThat(lenient("1.2.GA"), Matchers.equalTo("1.2.0+GA"));
+		MatcherAssert.assertThat(lenient("5.RELEASE"), Matchers.equalTo("5.0.0+RELEASE"));
+		MatcherAssert.assertThat(lenient("1.2.3-Final"), Matchers.equalTo("1.2.3+Final"));
+		MatcherAssert.assertThat(lenient("1.2.3.RC1"), Matchers.equalTo("1.2.3-RC.1"));
+		MatcherAssert.assertThat(lenient("2.0.M10"), Matchers.equalTo("2.0.0-M.10"));
+		MatcherAssert.assertThat(lenient("1.0-SNAPSHOT"), Matchers.equalTo("1.0.0-SNAPSHOT"));
+		MatcherAssert.assertThat(lenient("1.02.3"), Matchers.equalTo("1.2.3"));
+		MatcherAssert.assertThat(lenient("1.2.3-alpha.1+build.5"), Matchers.equalTo("1.2.3-alpha.1+build.5"));
+		
+		Assert.assertTrue(SemanticVersion.parse("1.2.3.RC2", ParseOptions.lenient()).compareTo(
+				SemanticVersion.parse("1.2.3.RC10", ParseOptions.lenient())) < 0);
+		MatcherAssert.assertThat(SemanticVersion.parse("1.2.3.4", ParseOptions.lenient().withExtraParts(ParseOptions.Placement.PRE_RELEASE)).toString(),
+		                         Matchers.equalTo("1.2.3-4"));
+		
+		for (String invalid : new String[] {"", "v", "0", "1.2.3.", "1..2", "1.2.3-", "release"}) {
+			Assert.assertFalse(invalid, SemanticVersion.tryParse(invalid, ParseOptions.lenient()).isValid());
+		}
+		
+		Assert.assertFalse(SemanticVersion.tryParse("v1.2.3", ParseOptions.strict()).isValid());
+		Assert.assertFalse(SemanticVersion.tryParse("1.02.3", ParseOptions.lenient().withLeadingZeros(false)).isValid());
+		Assert.assertTrue(ParseOptions.strict().isStrict());
+		Assert.assertTrue(ParseOptions.lenient().withStripPrefix(false).withPadParts(false).withMavenQualifiers(false)
+		                              .withLeadingZeros(false).withExtraParts(ParseOptions.Placement.REJECT).isStrict());
+	}
+	
+	/**
+	 * tests, if the lenient parser accepts every strictly valid version unchanged
+	 */
+	@Test
+	public void testLenientAcceptsStrict() {
+		Random random = new Random(11);
+		
+		for (int i = 0; i < 20000; i++) {
+			StringBuilder builder = new StringBuilder();
+			int           length  = 1 + random.nextInt(12);
+			
+			for (int j = 0; j < length; j++) {
+				builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+			}
+			
+			String      version = builder.toString();
+			ParseResult strict  = SemanticVersion.tryParse(version);
+			
+			if (strict.isValid()) {
+				ParseResult lenient = SemanticVersion.tryParse(version, ParseOptions.lenient().withMavenQualifiers(false));
+				
+				Assert.assertTrue(version, lenient.isValid());
+				Assert.assertEquals(version, strict.getVersion().toString(), lenient.getVersion().toString());
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -3,10 +3,21 @@ package me.chrisswr1.semanticVersioner;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.Assert;
+import org.junit.Assume;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Random;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 /**
@@ -56,20 +67,40 @@ public class SemanticVersionTest {
 	 */
 	@Test
 	public void testEqualsObjectString() {
-		Assert.assertTrue(verFirstRelease.equals(verFirstRelease.toString()));
-		Assert.assertFalse(verFirstRelease.equals(verOneOneZero.toString()));
-		Assert.assertFalse(verFirstRelease.equals(verOneOneOne.toString()));
-		Assert.assertFalse(verFirstRelease.equals(verFirstSnap.toString()));
-		Assert.assertFalse(verFirstRelease.equals(verFirstAlpha.toString()));
-		Assert.assertTrue(verFirstRelease.equals(verFirstTimestampBuild.toString()));
+		Assert.assertFalse(verFirstRelease.equals(verFirstRelease.toString()));
+		Assert.assertTrue(verFirstRelease.equals(new SemanticVersion(verFirstTimestampBuild.toString())));
 	}
 	
 	/**
-	 * tests if {@link SemanticVersion#equals(Object)} fails on wrong argument type
+	 * tests if {@link SemanticVersion#equals(Object)} returns false on wrong argument type
 	 */
-	@Test(expected = IllegalArgumentException.class)
+	@Test
 	public void testEqualsObjectWrongArgumentType() {
-		verFirstRelease.equals(Pattern.compile("\\w"));
+		Assert.assertFalse(verFirstRelease.equals(Pattern.compile("\\w")));
+		Assert.assertFalse(verFirstRelease.equals(null));
+	}
+	
+	/**
+	 * Test method for {@link SemanticVersion#hashCode()}.
+	 */
+	@Test
+	public void testHashCode() {
+		MatcherAssert.assertThat(verFirstRelease.hashCode(), Matchers.equalTo(new SemanticVersion("1.0.0").hashCode()));
+		MatcherAssert.assertThat(verFirstRelease.hashCode(), Matchers.equalTo(verFirstTimestampBuild.hashCode()));
+		MatcherAssert.assertThat(verFirstAlpha.hashCode(), Matchers.equalTo(new SemanticVersion("1.0.0-alpha.1+build").hashCode()));
+		MatcherAssert.assertThat(verFirstRelease.hashCode(), Matchers.not(Matchers.equalTo(verOneOneZero.hashCode())));
+		
+		int hashCode = verFirstRelease.hashCode();
+		verFirstRelease.setMinor(1);
+		MatcherAssert.assertThat(verFirstRelease.hashCode(), Matchers.not(Matchers.equalTo(hashCode)));
+		MatcherAssert.assertThat(verFirstRelease.hashCode(), Matchers.equalTo(verOneOneZero.hashCode()));
+		
+		Set<SemanticVersion> versions = new HashSet<>();
+		versions.add(verFirstRelease);
+		versions.add(verOneOneZero);
+		versions.add(verFirstSnap);
+		versions.add(new SemanticVersion("1.0.0-SNAPSHOT+build"));
+		MatcherAssert.assertThat(versions.size(), Matchers.equalTo(2));
 	}
 	
 	/**
@@ -86,6 +117,36 @@ public class SemanticVersionTest {
 		MatcherAssert.assertThat(verFirstTimestampBuild.toString(), Matchers.equalTo("1.0.0+20130313144700"));
 	}
 	
+	/**
+	 * Test method for {@link SemanticVersion#appendTo(Appendable)}.
+	 */
+	@Test
+	public void testAppendTo()
+			throws IOException {
+		SemanticVersion version = new SemanticVersion("12.0.345-rc.10.x-y+build.007");
+		
+		MatcherAssert.assertThat(version.appendTo(new StringBuilder("v")).toString(), Matchers.equalTo("v12.0.345-rc.10.x-y+build.7"));
+		MatcherAssert.assertThat(version.appendTo((Appendable) new StringWriter()).toString(), Matchers.equalTo("12.0.345-rc.10.x-y+build.7"));
+		MatcherAssert.assertThat(version.appendUrlSaveTo(new StringBuilder()).toString(), Matchers.equalTo("12.0.345-rc.10.x-y_build.7"));
+		MatcherAssert.assertThat(version.appendUrlSaveTo((Appendable) new StringWriter()).toString(), Matchers.equalTo("12.0.345-rc.10.x-y_build.7"));
+		MatcherAssert.assertThat(new SemanticVersion(Long.MAX_VALUE, 0, 10).appendTo((Appendable) new StringWriter()).toString(),
+		                         Matchers.equalTo(Long.MAX_VALUE + ".0.10"));
+	}
+	
+	/**
+	 * tests, if immutable versions cache their string
+	 */
+	@Test
+	public void testToStringCached() {
+		SemanticVersion version = SemanticVersion.of("3.2.1-beta+exp");
+		
+		Assert.assertSame(version.toString(), version.toString());
+		Assert.assertNotSame(verFirstAlpha.toString(), verFirstAlpha.toString());
+		
+		verFirstAlpha.setMajor(2);
+		MatcherAssert.assertThat(verFirstAlpha.toString(), Matchers.equalTo("2.0.0-alpha.1"));
+	}
+	
 	/**
 	 * Test method for {@link SemanticVersion#compareTo(SemanticVersion)}.
 	 */
@@ -149,6 +210,127 @@ public class SemanticVersionTest {
 		MatcherAssert.assertThat(verFirstTimestampBuild.compareTo(verFirstAlpha), Matchers.greaterThan(0));
 	}
 	
+	/**
+	 * tests {@link SemanticVersion#compareTo(SemanticVersion)} with the precedence example of the specification
+	 */
+	@Test
+	public void testCompareToPrecedence() {
+		String[] versions = {
+				"1.0.0-alpha",
+				"1.0.0-alpha.1",
+				"1.0.0-alpha.beta",
+				"1.0.0-beta",
+				"1.0.0-beta.2",
+				"1.0.0-beta.11",
+				"1.0.0-rc.1",
+				"1.0.0",
+				"2.0.0",
+				"2.1.0",
+				"2.1.1"
+		};
+		
+		for (int i = 0; i < versions.length; i++) {
+			for (int j = 0; j < versions.length; j++) {
+				int result = new SemanticVersion(versions[i]).compareTo(new SemanticVersion(versions[j]));
+				
+				MatcherAssert.assertThat(versions[i] + " <> " + versions[j], Integer.signum(result), Matchers.equalTo(Integer.signum(i - j)));
+			}
+		}
+	}
+	
+	/**
+	 * tests {@link SemanticVersion#compareTo(SemanticVersion)} with numbers, which are not exactly representable as double
+	 */
+	@Test
+	public void testCompareToLargeNumbers() {
+		SemanticVersion max = new SemanticVersion(Long.MAX_VALUE, 0, 0);
+		SemanticVersion lower = new SemanticVersion(Long.MAX_VALUE - 1, 0, 0);
+		
+		MatcherAssert.assertThat(max.compareTo(lower), Matchers.greaterThan(0));
+		MatcherAssert.assertThat(lower.compareTo(max), Matchers.lessThan(0));
+		MatcherAssert.assertThat(new SemanticVersion(1, 2, Long.MAX_VALUE).compareTo(new SemanticVersion(1, 3, 0)), Matchers.lessThan(0));
+		MatcherAssert.assertThat(new SemanticVersion("1.0.0-999").compareTo(new SemanticVersion("1.0.0-a")), Matchers.lessThan(0));
+	}
+	
+	/**
+	 * tests, if the packed sort keys order the same way as the specification
+	 */
+	@Test
+	public void testSortKeys() {
+		long[]   numbers     = {1, 2, 2097150, 2097151, 2097152, Long.MAX_VALUE};
+		String[] preReleases = {
+				null, "0", "1", "1.a", "-", "0a", "alpha", "ALPHA", "alpha.1", "Alpha.1", "abcdefghij", "abcdefghij.1",
+				"abcdefghijk", "ABCDEFGHIJK", "1152921504606845952", "1152921504606846976", "2305843009213693952"
+		};
+		
+		List<String> versions = new ArrayList<>();
+		for (long major : numbers) {
+			for (long minor : numbers) {
+				for (long patch : numbers) {
+					for (String preRelease : preReleases) {
+						versions.add(major + "." + minor + "." + patch + (preRelease == null ? "" : "-" + preRelease));
+					}
+				}
+			}
+		}
+		
+		Random random = new Random(42);
+		for (int n = 0; n < 200000; n++) {
+			String version1 = versions.get(random.nextInt(versions.size()));
+			String version2 = versions.get(random.nextInt(versions.size()));
+			
+			int result = new SemanticVersion(version1).compareTo(new SemanticVersion(version2));
+			
+			MatcherAssert.assertThat(version1 + " <> " + version2,
+			                         Integer.signum(result),
+			                         Matchers.equalTo(Integer.signum(referenceCompare(version1, version2))));
+		}
+	}
+	
+	private static int referenceCompare(String version1, String version2) {
+		String[] parts1 = version1.split("-", 2);
+		String[] parts2 = version2.split("-", 2);
+		String[] main1  = parts1[0].split("\\.");
+		String[] main2  = parts2[0].split("\\.");
+		
+		for (int i = 0; i < 3; i++) {
+			int result = Long.compare(Long.parseLong(main1[i]), Long.parseLong(main2[i]));
+			if (result != 0) {
+				return result;
+			}
+		}
+		
+		if (parts1.length == 1 || parts2.length == 1) {
+			return Integer.compare(parts2.length, parts1.length);
+		}
+		
+		String[] identifiers1 = parts1[1].split("\\.");
+		String[] identifiers2 = parts2[1].split("\\.");
+		
+		for (int i = 0; i < Math.min(identifiers1.length, identifiers2.length); i++) {
+			boolean numeric1 = identifiers1[i].matches("\\d+");
+			boolean numeric2 = identifiers2[i].matches("\\d+");
+			
+			int result;
+			if (numeric1 && numeric2) {
+				result = new BigInteger(identifiers1[i]).compareTo(new BigInteger(identifiers2[i]));
+			} else if (numeric1 || numeric2) {
+				result = numeric1 ? -1 : 1;
+			} else {
+				result = identifiers1[i].toLowerCase().compareTo(identifiers2[i].toLowerCase());
+				if (result == 0) {
+					result = identifiers1[i].compareTo(identifiers2[i]);
+				}
+			}
+			
+			if (result != 0) {
+				return result;
+			}
+		}
+		
+		return Integer.compare(identifiers1.length, identifiers2.length);
+	}
+	
 	/**
 	 * Test method for {@link SemanticVersion#isValid(String)}.
 	 */
@@ -365,4 +547,167 @@ public class SemanticVersionTest {
 		MatcherAssert.assertThat(verFirstAlpha.toUrlSaveString(), Matchers.equalTo("1.0.0-alpha.1"));
 		MatcherAssert.assertThat(verFirstTimestampBuild.toUrlSaveString(), Matchers.equalTo("1.0.0_20130313144700"));
 	}
+	
+	/**
+	 * Test method for {@link SemanticVersion#matches(CharSequence)}.
+	 */
+	@Test
+	public void testMatches() {
+		Assert.assertTrue(verFirstRelease.matches("1.0.0"));
+		Assert.assertTrue(verFirstRelease.matches("1.0"));
+		Assert.assertTrue(verFirstRelease.matches("1.0.0+build.5"));
+		Assert.assertTrue(verFirstAlpha.matches(new StringBuilder("1.0.0-alpha.1")));
+		Assert.assertTrue(new SemanticVersion("1.0.0-123456789012345678901234567890").matches("1.0.0-123456789012345678901234567890"));
+		Assert.assertFalse(verFirstAlpha.matches("1.0.0-Alpha.1"));
+		Assert.assertFalse(verFirstAlpha.matches("1.0.0-alpha"));
+		Assert.assertFalse(verFirstAlpha.matches("1.0.0-alpha.1.1"));
+		Assert.assertFalse(verFirstRelease.matches("1.0.0-alpha"));
+		Assert.assertFalse(verFirstRelease.matches("1.0.1"));
+		Assert.assertFalse(verFirstRelease.matches("1.0.0."));
+		Assert.assertFalse(verFirstRelease.matches(SemanticVersionTest.leadingZero));
+		Assert.assertFalse(verFirstRelease.matches("01.0.0"));
+		Assert.assertFalse(verFirstRelease.matches(""));
+	}
+	
+	/**
+	 * tests, if {@link SemanticVersion#compareTo(CharSequence)} agrees with parsing
+	 */
+	@Test
+	public void testCompareToCharSequence() {
+		String[] parts = {"", "0", "1", "2", "01", ".", "-", "+", "_", "alpha", "Alpha", "rc", "x-y", "99999999999999999999", "a1"};
+		Random   random = new Random(7);
+		
+		List<SemanticVersion> versions = new ArrayList<>();
+		for (String version : new String[] {"1.0.0", "0.1.0", "1.0.0-alpha", "1.0.0-alpha.1", "1.0.0-1", "2.1.0-rc.1", "1.0.0-99999999999999999999"}) {
+			versions.add(new SemanticVersion(version));
+		}
+		
+		for (int i = 0; i < 20000; i++) {
+			StringBuilder builder = new StringBuilder();
+			builder.append(random.nextInt(3)).append('.').append(random.nextInt(2)).append(random.nextBoolean() ? ".0" : "");
+			
+			int count = random.nextInt(6);
+			for (int j = 0; j < count; j++) {
+				builder.append(parts[random.nextInt(parts.length)]);
+			}
+			
+			String          text   = builder.toString();
+			SemanticVersion parsed = SemanticVersion.parseOrNull(text);
+			
+			for (SemanticVersion version : versions) {
+				if (parsed == null) {
+					Assert.assertFalse(text, version.matches(text));
+					
+					try {
+						version.compareTo(text);
+						Assert.fail(text);
+					} catch (SemanticVersionFormatException e) {
+						// expected
+					}
+				} else {
+					MatcherAssert.assertThat(text, version.compareTo(text), Matchers.equalTo(Integer.signum(version.compareTo(parsed))));
+					MatcherAssert.assertThat(text, version.matches(text), Matchers.equalTo(version.equals(parsed)));
+				}
+			}
+		}
+	}
+	
+	/**
+	 * tests, if matching does not allocate
+	 */
+	@Test
+	public void testMatchesAllocationFree() {
+		java.lang.management.ThreadMXBean bean = java.lang.management.ManagementFactory.getThreadMXBean();
+		Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+		
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+		String                          header  = "2.1.0-rc.1+build.7";
+		SemanticVersion                 version = new SemanticVersion("2.1.0-rc.1");
+		long                            thread  = Thread.currentThread().getId();
+		int                             matches = 0;
+		
+		for (int i = 0; i < 100000; i++) {
+			matches += version.matches(header) ? 1 : 0;
+		}
+		
+		long before = threads.getThreadAllocatedBytes(thread);
+		for (int i = 0; i < 100000; i++) {
+			matches += version.matches(header) && version.compareTo(header) == 0 ? 1 : 0;
+		}
+		long allocated = threads.getThreadAllocatedBytes(thread) - before;
+		
+		MatcherAssert.assertThat(matches, Matchers.equalTo(200000));
+		MatcherAssert.assertThat(allocated, Matchers.lessThan(1024L));
+	}
+	
+	/**
+	 * Test method for {@link SemanticVersion#parse(byte[], int, int)} and {@link SemanticVersion#parse(ByteBuffer)}.
+	 */
+	@Test
+	public void testParseBytes() {
+		byte[] header = "Version: 2.1.0-rc.1+build.7\r\n".getBytes(StandardCharsets.US_ASCII);
+		
+		SemanticVersion version = SemanticVersion.parse(header, 9, 18);
+		MatcherAssert.assertThat(version.toString(), Matchers.equalTo("2.1.0-rc.1+build.7"));
+		Assert.assertTrue(SemanticVersion.isValid(header, 9, 18));
+		Assert.assertFalse(SemanticVersion.isValid(header, 0, 18));
+		
+		ByteBuffer buffer = ByteBuffer.wrap(header, 9, 18).slice();
+		MatcherAssert.assertThat(SemanticVersion.parse(buffer), Matchers.equalTo(version));
+		MatcherAssert.assertThat(buffer.position(), Matchers.equalTo(0));
+		Assert.assertTrue(SemanticVersion.isValid(buffer));
+		
+		ByteBuffer direct = ByteBuffer.allocateDirect(32);
+		direct.put(header, 9, 18).flip();
+		MatcherAssert.assertThat(SemanticVersion.tryParse(direct).getVersion(), Matchers.equalTo(version));
+		
+		ParseResult result = SemanticVersion.tryParse(new byte[] {'1', '.', (byte) 0xC3, (byte) 0xA9}, 0, 4);
+		Assert.assertFalse(result.isValid());
+		MatcherAssert.assertThat(result.getErrorOffset(), Matchers.equalTo(2));
+		
+		try {
+			SemanticVersion.parse("1.02.0".getBytes(StandardCharsets.US_ASCII), 0, 6);
+			Assert.fail();
+		} catch (SemanticVersionFormatException e) {
+			MatcherAssert.assertThat(e.getError(), Matchers.equalTo(ParseError.LEADING_ZERO));
+		}
+		
+		try {
+			SemanticVersion.parse(header, 20, 18);
+			Assert.fail();
+		} catch (IndexOutOfBoundsException e) {
+			// expected
+		}
+	}
+	
+	/**
+	 * Test method for {@link SemanticVersion#toBytes()} and {@link SemanticVersion#writeTo(ByteBuffer)}.
+	 */
+	@Test
+	public void testToBytes() {
+		for (String string : new String[] {"1.0.0", "0.1.0-alpha.1", "2.1.0-rc.1+build.7", "1.0.0-123456789012345678901234567890"}) {
+			SemanticVersion version = new SemanticVersion(string);
+			byte[]          bytes   = version.toBytes();
+			
+			MatcherAssert.assertThat(new String(bytes, StandardCharsets.US_ASCII), Matchers.equalTo(string));
+			MatcherAssert.assertThat(SemanticVersion.of(string).toBytes(), Matchers.equalTo(bytes));
+			MatcherAssert.assertThat(SemanticVersion.parse(bytes, 0, bytes.length), Matchers.equalTo(version));
+			
+			ByteBuffer buffer = ByteBuffer.allocate(64);
+			buffer.put((byte) '[');
+			version.writeTo(buffer).put((byte) ']').flip();
+			MatcherAssert.assertThat(buffer.remaining(), Matchers.equalTo(bytes.length + 2));
+			buffer.position(1).limit(bytes.length + 1);
+			MatcherAssert.assertThat(SemanticVersion.parse(buffer), Matchers.equalTo(version));
+		}
+		
+		ByteBuffer small = ByteBuffer.allocate(4);
+		small.put((byte) 'x');
+		try {
+			new SemanticVersion("1.0.0").writeTo(small);
+			Assert.fail();
+		} catch (BufferOverflowException e) {
+			MatcherAssert.assertThat(small.position(), Matchers.equalTo(1));
+		}
+	}
 }
\ No newline at end of file
@@ -0,0 +1,91 @@
+package me.chrisswr1.semanticVersioner;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * @author chwe
+ */
+public class SemanticVersionsTest {
+	private static List<SemanticVersion> randomVersions(int count, long seed) {
+		Random                random   = new Random(seed);
+		String[]              suffixes = {"", "-alpha", "-alpha.1", "-beta", "-rc.1", "-rc.2", "-SNAPSHOT", "-0.3.7", "-x.7.z.92"};
+		String[]              builds   = {"", "+b1", "+b2", "+exp.sha.5114f85", "+1"};
+		List<SemanticVersion> result   = new ArrayList<>(count);
+		
+		for (int i = 0; i < count; i++) {
+			result.add(new SemanticVersion(
+					(1 + random.nextInt(5)) + "." + random.nextInt(20) + "." + random.nextInt(20)
+					+ suffixes[random.nextInt(suffixes.length)] + builds[random.nextInt(builds.length)]));
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Test method for {@link SemanticVersions#compare(SemanticVersion, SemanticVersion)}.
+	 */
+	@Test
+	public void testCompare() {
+		MatcherAssert.assertThat(SemanticVersions.compare(new SemanticVersion("1.0.0"), new SemanticVersion("1.0.0+b")), Matchers.lessThan(0));
+		MatcherAssert.assertThat(SemanticVersions.compare(new SemanticVersion("1.0.0+b.1"), new SemanticVersion("1.0.0+b.2")), Matchers.lessThan(0));
+		MatcherAssert.assertThat(SemanticVersions.compare(new SemanticVersion("1.0.0+b"), new SemanticVersion("1.0.0+b.1")), Matchers.lessThan(0));
+		MatcherAssert.assertThat(SemanticVersions.compare(new SemanticVersion("1.0.0+z"), new SemanticVersion("1.0.1")), Matchers.lessThan(0));
+		MatcherAssert.assertThat(SemanticVersions.compare(new SemanticVersion("1.0.0+b"), new SemanticVersion("1.0.0+b")), Matchers.equalTo(0));
+	}
+	
+	/**
+	 * Test method for {@link SemanticVersions#sort(java.util.Collection)}.
+	 */
+	@Test
+	public void testSort() {
+		for (int count : new int[] {0, 1, 10, 1000, 50000}) {
+			List<SemanticVersion> versions = SemanticVersionsTest.randomVersions(count, count);
+			List<SemanticVersion> expected = new ArrayList<>(versions);
+			expected.sort(SemanticVersions::compare);
+			
+			List<SemanticVersion> sorted = SemanticVersions.sort(versions);
+			
+			Assert.assertEquals(expected.size(), sorted.size());
+			for (int i = 0; i < expected.size(); i++) {
+				Assert.assertSame(expected.get(i), sorted.get(i));
+			}
+			
+			Collections.shuffle(versions, new Random(count));
+			MatcherAssert.assertThat(SemanticVersions.sort(versions).toString(), Matchers.equalTo(sorted.toString()));
+		}
+	}
+	
+	/**
+	 * Test method for {@link SemanticVersions#sortDistinct(SemanticVersion[])}.
+	 */
+	@Test
+	public void testSortDistinct() {
+		SemanticVersion[] versions = {
+				new SemanticVersion("2.0.0+b2"), new SemanticVersion("1.0.0-rc.1"), new SemanticVersion("2.0.0"),
+				new SemanticVersion("1.0.0-RC.1"), new SemanticVersion("2.0.0+b1"), new SemanticVersion("1.0.0-rc.1+x")
+		};
+		
+		SemanticVersion[] distinct = SemanticVersions.sortDistinct(versions);
+		
+		MatcherAssert.assertThat(Arrays.toString(distinct), Matchers.equalTo("[1.0.0-RC.1, 1.0.0-rc.1, 2.0.0]"));
+		MatcherAssert.assertThat(versions[0].toString(), Matchers.equalTo("2.0.0+b2"));
+		
+		List<SemanticVersion> large  = SemanticVersionsTest.randomVersions(50000, 42);
+		List<SemanticVersion> result = SemanticVersions.sortDistinct(large);
+		
+		for (int i = 1; i < result.size(); i++) {
+			MatcherAssert.assertThat(result.get(i - 1), Matchers.lessThan(result.get(i)));
+		}
+		MatcherAssert.assertThat(result.size(), Matchers.equalTo(new TreeSet<>(large).size()));
+	}
+}
\ No newline at end of file
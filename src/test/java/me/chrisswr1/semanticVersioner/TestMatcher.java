@@ -15,7 +15,7 @@ public class TestMatcher {
 	 * @param args
 	 */
 	public static void main(String[] args) {
-		Matcher matcher = SemanticVersion.versionPattern.matcher("1.2.3-alpha.0.7.4+exp.sha.5114f85");
+		Matcher matcher = SemanticVersion.getVersionPattern().matcher("1.2.3-alpha.0.7.4+exp.sha.5114f85");
 		
 		System.out.println(matcher.matches());
 		System.out.println("Complete:\t" + matcher.group("complete"));
@@ -0,0 +1,128 @@
+package me.chrisswr1.semanticVersioner;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * @author chwe
+ */
+public class VersionCacheTest {
+	/**
+	 * Test method for {@link VersionCache#get(String)}.
+	 */
+	@Test
+	public void testGet() {
+		VersionCache cache = new VersionCache(16);
+		
+		SemanticVersion first  = cache.get("1.2.3-alpha.1");
+		SemanticVersion second = cache.get("1.2.3-alpha.1");
+		
+		Assert.assertSame(first, second);
+		MatcherAssert.assertThat(first.toString(), Matchers.equalTo("1.2.3-alpha.1"));
+		MatcherAssert.assertThat(cache.getHitCount(), Matchers.equalTo(1L));
+		MatcherAssert.assertThat(cache.getMissCount(), Matchers.equalTo(1L));
+		MatcherAssert.assertThat(cache.getHitRate(), Matchers.equalTo(0.5));
+		MatcherAssert.assertThat(cache.size(), Matchers.equalTo(1));
+	}
+	
+	/**
+	 * tests, if cached versions are immutable
+	 */
+	@Test(expected = UnsupportedOperationException.class)
+	public void testImmutable() {
+		SemanticVersion version = SemanticVersion.of("1.0.0");
+		
+		Assert.assertTrue(version.isImmutable());
+		Assert.assertFalse(new SemanticVersion("1.0.0").isImmutable());
+		
+		version.setMajor(2);
+	}
+	
+	/**
+	 * tests, if invalid versions are not cached
+	 */
+	@Test
+	public void testInvalid() {
+		VersionCache cache = new VersionCache(16);
+		
+		try {
+			cache.get("1.08.3");
+			Assert.fail();
+		} catch (SemanticVersionFormatException e) {
+			MatcherAssert.assertThat(cache.size(), Matchers.equalTo(0));
+		}
+	}
+	
+	/**
+	 * tests, if the least recently used versions are evicted
+	 */
+	@Test
+	public void testEviction() {
+		VersionCache cache = new VersionCache(2);
+		
+		SemanticVersion first = cache.get("1.0.0");
+		cache.get("2.0.0");
+		cache.get("1.0.0");
+		cache.get("3.0.0");
+		
+		MatcherAssert.assertThat(cache.size(), Matchers.equalTo(2));
+		MatcherAssert.assertThat(cache.getEvictionCount(), Matchers.equalTo(1L));
+		Assert.assertSame(first, cache.get("1.0.0"));
+	}
+	
+	/**
+	 * tests, if the size is bounded with many segments
+	 */
+	@Test
+	public void testMaximumSize() {
+		VersionCache cache = new VersionCache(1024);
+		
+		for (int i = 1; i <= 10000; i++) {
+			cache.get(i + ".0.0");
+		}
+		
+		MatcherAssert.assertThat(cache.size(), Matchers.lessThanOrEqualTo(1024));
+		MatcherAssert.assertThat(cache.getMissCount(), Matchers.equalTo(10000L));
+	}
+	
+	/**
+	 * tests concurrent access to the cache
+	 */
+	@Test
+	public void testConcurrent()
+			throws Exception {
+		final VersionCache    cache    = new VersionCache(128);
+		ExecutorService       executor = Executors.newFixedThreadPool(4);
+		List<Future<Boolean>> results  = new ArrayList<>();
+		
+		for (int t = 0; t < 4; t++) {
+			results.add(executor.submit(() -> {
+				for (int i = 0; i < 20000; i++) {
+					String version = "1." + (i % 256) + ".0";
+					if (!(cache.get(version).toString().equals(version))) {
+						return false;
+					}
+				}
+				
+				return true;
+			}));
+		}
+		
+		for (Future<Boolean> result : results) {
+			Assert.assertTrue(result.get());
+		}
+		
+		executor.shutdown();
+		
+		MatcherAssert.assertThat(cache.getHitCount() + cache.getMissCount(), Matchers.equalTo(80000L));
+		MatcherAssert.assertThat(cache.size(), Matchers.lessThanOrEqualTo(128));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,164 @@
+package me.chrisswr1.semanticVersioner;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * @author chwe
+ */
+public class VersionCodecTest {
+	private static final String[] versions = {
+			"1.0.0", "0.1.0", "1.2.3-alpha.1", "2.0.0-rc.1+build.5", "1.0.0-x.7.z.92", "1.0.0+20130313144700",
+			"12345678901.2.3-beta+exp.sha.5114f85", "1.0.0-0.3.7", "3.2.1-a-b-c.99999999999"
+	};
+	
+	private static List<SemanticVersion> parse(String... versions) {
+		List<SemanticVersion> result = new ArrayList<>();
+		
+		for (String version : versions) {
+			result.add(new SemanticVersion(version));
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Test method for {@link VersionCodec#encode(SemanticVersion, ByteBuffer)}.
+	 */
+	@Test
+	public void testEncode() {
+		ByteBuffer buffer = ByteBuffer.allocate(256);
+		
+		for (SemanticVersion version : VersionCodecTest.parse(VersionCodecTest.versions)) {
+			buffer.clear();
+			VersionCodec.encode(version, buffer);
+			
+			MatcherAssert.assertThat(buffer.position(), Matchers.equalTo(VersionCodec.encodedLength(version)));
+			MatcherAssert.assertThat(buffer.position(), Matchers.lessThanOrEqualTo(version.toString().length() + 2));
+			
+			buffer.flip();
+			SemanticVersion decoded = VersionCodec.decode(buffer);
+			
+			MatcherAssert.assertThat(decoded.toString(), Matchers.equalTo(version.toString()));
+			MatcherAssert.assertThat(decoded.getSortKeyLow(), Matchers.equalTo(version.getSortKeyLow()));
+			Assert.assertFalse(buffer.hasRemaining());
+		}
+		
+		MatcherAssert.assertThat(VersionCodec.encodedLength(new SemanticVersion("1.2.3")), Matchers.equalTo(5));
+	}
+	
+	/**
+	 * tests the bulk methods with references
+	 */
+	@Test
+	public void testEncodeAll()
+			throws IOException {
+		List<SemanticVersion> versions = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			versions.add(new SemanticVersion("1." + i + ".0-SNAPSHOT+jenkins"));
+		}
+		
+		ByteBuffer buffer = ByteBuffer.allocate(4096);
+		VersionCodec.encodeAll(versions, buffer);
+		MatcherAssert.assertThat(buffer.position(), Matchers.lessThan(100 * 8 + 32));
+		
+		buffer.flip();
+		SemanticVersion[] decoded = VersionCodec.decodeAll(buffer);
+		
+		Assert.assertEquals(versions, Arrays.asList(decoded));
+		Assert.assertSame(decoded[0].getPreRelease().get(0), decoded[99].getPreRelease().get(0));
+		
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		VersionCodec.writeAll(versions, new DataOutputStream(bytes));
+		
+		MatcherAssert.assertThat(bytes.toByteArray(), Matchers.equalTo(Arrays.copyOf(buffer.array(), buffer.limit())));
+		Assert.assertEquals(versions, Arrays.asList(VersionCodec.readAll(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())))));
+	}
+	
+	/**
+	 * tests, if invalid bytes are rejected
+	 */
+	@Test
+	public void testDecodeInvalid() {
+		for (byte[] bytes : new byte[][] {{}, {1, 2}, {1, 2, 3, 1, 0, 3}, {1, 2, 3, 1, 0, 6, '+'}, {-1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 1}}) {
+			try {
+				VersionCodec.decode(ByteBuffer.wrap(bytes));
+				Assert.fail(Arrays.toString(bytes));
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+		}
+	}
+	
+	/**
+	 * tests, if huge or negative counts of corrupt bytes are rejected without allocating them
+	 */
+	@Test
+	public void testDecodeInvalidCount()
+			throws IOException {
+		byte[][] versions = {
+				{1, 2, 3, -1, -1, -1, -1, 7, 0, 0}, {1, 2, 3, -1, -1, -1, -1, -1, -1, -1, -1, -1, 1, 0},
+				{1, 2, 3, 1, 0, -3, -1, -1, -1, 31, 'a'}
+		};
+		
+		for (byte[] bytes : versions) {
+			try {
+				VersionCodec.decode(ByteBuffer.wrap(bytes));
+				Assert.fail(Arrays.toString(bytes));
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+		}
+		
+		for (byte[] bytes : new byte[][] {{1, -1, -1, -1, -1, 7, 1, 2, 3, 0, 0}, {1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 1}}) {
+			try {
+				VersionCodec.decodeAll(ByteBuffer.wrap(bytes));
+				Assert.fail(Arrays.toString(bytes));
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+			
+			try {
+				VersionCodec.readAll(new DataInputStream(new ByteArrayInputStream(bytes)));
+				Assert.fail(Arrays.toString(bytes));
+			} catch (EOFException | StreamCorruptedException e) {
+				// expected
+			}
+		}
+	}
+	
+	/**
+	 * tests {@link java.io.Externalizable}
+	 */
+	@Test
+	public void testExternalizable()
+			throws Exception {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(VersionCodecTest.parse(VersionCodecTest.versions));
+			out.writeObject(SemanticVersion.of("4.5.6-rc.7"));
+		}
+		
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			Assert.assertEquals(VersionCodecTest.parse(VersionCodecTest.versions), in.readObject());
+			MatcherAssert.assertThat(in.readObject().toString(), Matchers.equalTo("4.5.6-rc.7"));
+		}
+	}
+}
\ No newline at end of file
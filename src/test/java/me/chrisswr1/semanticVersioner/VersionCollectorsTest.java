@@ -0,0 +1,75 @@
+package me.chrisswr1.semanticVersioner;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * @author chwe
+ */
+public class VersionCollectorsTest {
+	private static Stream<SemanticVersion> stream(String... versions) {
+		return Stream.of(versions).map(SemanticVersion::new);
+	}
+	
+	/**
+	 * Test method for {@link VersionCollectors#latest(int)}.
+	 */
+	@Test
+	public void testLatest() {
+		List<SemanticVersion> result = VersionCollectorsTest.stream(
+				"1.0.0", "2.0.0-rc.1", "2.0.0+b2", "1.5.0", "2.0.0", "0.9.0", "2.0.0+b1", "1.5.0"
+		).collect(VersionCollectors.latest(3));
+		
+		MatcherAssert.assertThat(result.toString(), Matchers.equalTo("[2.0.0, 2.0.0-rc.1, 1.5.0]"));
+		MatcherAssert.assertThat(
+				VersionCollectorsTest.stream("1.0.0+b2", "1.0.0+b1").collect(VersionCollectors.latest(1)).toString(),
+				Matchers.equalTo("[1.0.0+b1]"));
+		MatcherAssert.assertThat(VersionCollectorsTest.stream("1.0.0").collect(VersionCollectors.latest(0)), Matchers.empty());
+	}
+	
+	/**
+	 * tests, if parallel streams give the same result
+	 */
+	@Test
+	public void testLatestParallel() {
+		List<SemanticVersion> versions = new ArrayList<>();
+		for (int i = 0; i < 100000; i++) {
+			versions.add(new SemanticVersion((i % 7 + 1) + "." + (i % 13) + "." + (i % 101) + (i % 3 == 0 ? "-rc." + (i % 5) : "")));
+		}
+		Collections.shuffle(versions);
+		
+		List<SemanticVersion> expected = new ArrayList<>(SemanticVersions.sortDistinct(versions));
+		Collections.reverse(expected);
+		
+		MatcherAssert.assertThat(versions.parallelStream().collect(VersionCollectors.latest(50)), Matchers.equalTo(expected.subList(0, 50)));
+		MatcherAssert.assertThat(versions.stream().collect(VersionCollectors.latest(50)), Matchers.equalTo(expected.subList(0, 50)));
+		MatcherAssert.assertThat(
+				versions.parallelStream().collect(VersionCollectors.latestPerMinor()),
+				Matchers.equalTo(versions.stream().collect(VersionCollectors.latestPerMinor())));
+		MatcherAssert.assertThat(versions.parallelStream().collect(VersionCollectors.latestPerMinor()).size(), Matchers.equalTo(7 * 13));
+	}
+	
+	/**
+	 * Test method for {@link VersionCollectors#latestPerMajor()}.
+	 */
+	@Test
+	public void testLatestPerMajor() {
+		String[] versions = {"1.0.0", "1.2.0", "1.3.0-rc.1", "2.0.0-beta", "0.4.0", "0.3.0", "1.1.5", "1.2.1"};
+		
+		MatcherAssert.assertThat(
+				VersionCollectorsTest.stream(versions).collect(VersionCollectors.latestPerMajor()).toString(),
+				Matchers.equalTo("[2.0.0-beta, 1.3.0-rc.1, 0.4.0]"));
+		MatcherAssert.assertThat(
+				VersionCollectorsTest.stream(versions).collect(VersionCollectors.latestStablePerMajor()).toString(),
+				Matchers.equalTo("[1.2.1]"));
+		MatcherAssert.assertThat(
+				VersionCollectorsTest.stream(versions).collect(VersionCollectors.latestPerMinor()).toString(),
+				Matchers.equalTo("[2.0.0-beta, 1.3.0-rc.1, 1.2.1, 1.1.5, 1.0.0, 0.4.0, 0.3.0]"));
+	}
+}
\ No newline at end of file
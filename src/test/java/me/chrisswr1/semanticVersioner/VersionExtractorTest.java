@@ -0,0 +1,165 @@
+package me.chrisswr1.semanticVersioner;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.regex.Matcher;
+
+/**
+ * @author chwe
+ */
+public class VersionExtractorTest {
+	private static List<String> toStrings(List<VersionMatch> matches) {
+		List<String> result = new ArrayList<>();
+		
+		for (VersionMatch match : matches) {
+			result.add(match.getOffset() + ":" + match.getLength() + ":" + match.getVersion());
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Test method for {@link VersionExtractor#extract(ByteBuffer)}.
+	 */
+	@Test
+	public void testExtractBuffer() {
+		String             text    = "see v1.2.3, 1.08.3 and 2.0.0-rc.1+build.5. Also 1.0.0- x1.0.0 0.0.0 .5 1.2.3.4 "
+		                             + "commons-lang-2.6.jar artifact-v1.2.3.jar foo-1.2.3 bar_4.5.6-rc.1 baz1.0.0";
+		List<VersionMatch> matches = VersionExtractor.extract(ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII)));
+		
+		MatcherAssert.assertThat(VersionExtractorTest.toStrings(matches), Matchers.contains(
+				text.indexOf("1.2.3") + ":5:1.2.3",
+				text.indexOf("2.0.0") + ":18:2.0.0-rc.1+build.5",
+				text.indexOf("1.0.0-") + ":5:1.0.0",
+				text.indexOf(" .5") + 1 + ":2:0.5.0",
+				text.indexOf("2.6.jar") + ":3:2.6.0",
+				text.indexOf("1.2.3.jar") + ":5:1.2.3",
+				text.indexOf("1.2.3 bar") + ":5:1.2.3",
+				text.indexOf("4.5.6") + ":10:4.5.6-rc.1"
+		));
+	}
+	
+	/**
+	 * tests, if the extracted versions are the matches of {@link SemanticVersion#getVersionPattern()}, which start and
+	 * end at the boundaries of {@link VersionExtractor}
+	 */
+	@Test
+	public void testExtractText()
+			throws IOException, URISyntaxException {
+		byte[]       bytes    = Files.readAllBytes(Paths.get(VersionExtractorTest.class.getResource("/test-text.txt").toURI()));
+		String       text     = new String(bytes, StandardCharsets.ISO_8859_1);
+		List<String> expected = new ArrayList<>();
+		Matcher      matcher  = SemanticVersion.getVersionPattern().matcher(text);
+		
+		while (matcher.find()) {
+			if (VersionExtractorTest.isStart(text, matcher.start()) && VersionExtractorTest.isEnd(text, matcher.end())) {
+				expected.add(matcher.start() + ":" + matcher.group().length() + ":" + new SemanticVersion(matcher.group()));
+			}
+		}
+		
+		MatcherAssert.assertThat(expected.size(), Matchers.greaterThan(30));
+		Assert.assertEquals(expected, VersionExtractorTest.toStrings(VersionExtractor.extract(ByteBuffer.wrap(bytes))));
+	}
+	
+	private static boolean isStart(String text, int start) {
+		if (start > 0 && (text.charAt(start - 1) == 'v' || text.charAt(start - 1) == 'V')) {
+			start--;
+		}
+		
+		return start == 0 || text.charAt(start - 1) == '-' || text.charAt(start - 1) == '_'
+		       || !(VersionExtractorTest.isTokenCharacter(text.charAt(start - 1)));
+	}
+	
+	private static boolean isEnd(String text, int end) {
+		int tokenEnd = end;
+		while (tokenEnd < text.length() && (text.charAt(tokenEnd) == '.' || text.charAt(tokenEnd) == '-')) {
+			tokenEnd++;
+		}
+		
+		if (tokenEnd == text.length() || !(VersionExtractorTest.isTokenCharacter(text.charAt(tokenEnd)))) {
+			return true;
+		}
+		
+		return ".-+_".indexOf(text.charAt(end)) >= 0 && Character.isLetter(text.charAt(end + 1));
+	}
+	
+	private static boolean isTokenCharacter(char c) {
+		return (c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || ".-+_".indexOf(c) >= 0;
+	}
+	
+	/**
+	 * tests, if the chunk boundaries do not change the extracted versions
+	 */
+	@Test
+	public void testExtractFile()
+			throws IOException {
+		Random        random  = new Random(42);
+		StringBuilder builder = new StringBuilder();
+		
+		for (int i = 0; i < 2000; i++) {
+			builder.append(random.nextInt(20)).append('.').append(random.nextInt(20)).append('.').append(random.nextInt(20));
+			if (random.nextInt(4) == 0) {
+				builder.append("-beta.").append(random.nextInt(5));
+			}
+			builder.append(random.nextInt(3) == 0 ? "\n" : " text, ");
+		}
+		
+		byte[] bytes = builder.toString().getBytes(StandardCharsets.US_ASCII);
+		Path   file  = Files.createTempFile("versions", ".txt");
+		
+		try {
+			Files.write(file, bytes);
+			
+			List<String> expected = VersionExtractorTest.toStrings(VersionExtractor.extract(ByteBuffer.wrap(bytes)));
+			MatcherAssert.assertThat(expected.size(), Matchers.greaterThan(1900));
+			
+			for (int chunkSize : new int[] {1, 7, 64, 4096, VersionExtractor.defaultChunkSize}) {
+				VersionExtractor extractor = new VersionExtractor(ForkJoinPool.commonPool(), chunkSize);
+				
+				Assert.assertEquals(expected, VersionExtractorTest.toStrings(extractor.extract(file)));
+				
+				ConcurrentLinkedQueue<VersionMatch> queue = new ConcurrentLinkedQueue<>();
+				extractor.extract(file, queue::add);
+				
+				List<VersionMatch> streamed = new ArrayList<>(queue);
+				streamed.sort(Comparator.comparingLong(VersionMatch::getOffset));
+				
+				Assert.assertEquals(expected, VersionExtractorTest.toStrings(streamed));
+			}
+		} finally {
+			Files.delete(file);
+		}
+	}
+	
+	/**
+	 * tests an empty file
+	 */
+	@Test
+	public void testExtractEmpty()
+			throws IOException {
+		Path file = Files.createTempFile("versions", ".txt");
+		
+		try {
+			Assert.assertEquals(Collections.emptyList(), new VersionExtractor().extract(file));
+		} finally {
+			Files.delete(file);
+		}
+	}
+}
\ No newline at end of file
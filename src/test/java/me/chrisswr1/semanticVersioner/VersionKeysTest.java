@@ -0,0 +1,126 @@
+package me.chrisswr1.semanticVersioner;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.TreeMap;
+
+/**
+ * @author chwe
+ */
+public class VersionKeysTest {
+	private static List<SemanticVersion> randomVersions(int count, long seed) {
+		Random                random      = new Random(seed);
+		String[]              identifiers = {"0", "1", "2", "10", "255", "256", "9223372036854775807", "9223372036854775808",
+		                                     "18446744073709551616", "a", "A", "alpha", "Alpha", "ALPHA", "alpha1", "alphabet",
+		                                     "rc", "RC", "SNAPSHOT", "x-y", "-", "0a", "Zz"};
+		long[]                numbers     = {0, 1, 2, 9, 255, 256, 65535, 65536, Long.MAX_VALUE};
+		List<SemanticVersion> result      = new ArrayList<>(count);
+		
+		for (int i = 0; i < count; i++) {
+			String[] parts = new String[2];
+			for (int j = 0; j < parts.length; j++) {
+				int size = random.nextInt(4);
+				
+				parts[j] = "";
+				for (int k = 0; k < size; k++) {
+					parts[j] += (k == 0 ? "" : ".") + identifiers[random.nextInt(identifiers.length)];
+				}
+			}
+			
+			result.add(new SemanticVersion(numbers[random.nextInt(numbers.length)], numbers[1 + random.nextInt(numbers.length - 1)],
+			                               numbers[random.nextInt(numbers.length)], parts[0], parts[1]));
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * tests, if the byte order of the keys is the order of {@link SemanticVersions#compare(SemanticVersion, SemanticVersion)}
+	 */
+	@Test
+	public void testOrder() {
+		List<SemanticVersion> versions = VersionKeysTest.randomVersions(600, 1);
+		List<byte[]>          keys     = new ArrayList<>();
+		for (SemanticVersion version : versions) {
+			keys.add(VersionKeys.encode(version));
+		}
+		
+		for (int i = 0; i < versions.size(); i++) {
+			for (int j = 0; j < versions.size(); j++) {
+				int expected = Integer.signum(SemanticVersions.compare(versions.get(i), versions.get(j)));
+				int actual   = Integer.signum(VersionKeys.compare(keys.get(i), keys.get(j)));
+				
+				MatcherAssert.assertThat(versions.get(i) + " <> " + versions.get(j), actual, Matchers.equalTo(expected));
+			}
+		}
+	}
+	
+	/**
+	 * Test method for {@link VersionKeys#decode(byte[])}.
+	 */
+	@Test
+	public void testRoundTrip() {
+		for (SemanticVersion version : VersionKeysTest.randomVersions(2000, 2)) {
+			byte[] key = VersionKeys.encode(version);
+			
+			MatcherAssert.assertThat(key.length, Matchers.equalTo(VersionKeys.length(version)));
+			MatcherAssert.assertThat(VersionKeys.decode(key).toString(), Matchers.equalTo(version.toString()));
+			
+			byte[] precedence = VersionKeys.encodePrecedence(version);
+			Assert.assertArrayEquals(precedence, Arrays.copyOf(key, precedence.length));
+			MatcherAssert.assertThat(VersionKeys.decode(precedence), Matchers.equalTo(version));
+			
+			ByteBuffer buffer = ByteBuffer.allocate(key.length + 1);
+			buffer.put((byte) 7);
+			VersionKeys.encode(version, buffer);
+			buffer.flip().position(1);
+			MatcherAssert.assertThat(VersionKeys.decode(buffer).toString(), Matchers.equalTo(version.toString()));
+			Assert.assertFalse(buffer.hasRemaining());
+		}
+		
+		try {
+			VersionKeys.encode(new SemanticVersion("1.0.0-alpha"), ByteBuffer.allocate(4));
+			Assert.fail();
+		} catch (BufferOverflowException e) {
+			// expected
+		}
+		
+		for (byte[] invalid : new byte[][] {{}, {1, 1, 1, 1, 1}, {1, 1, 0, 0, 9}, {1, 1, 0, 0, 1, 0}, {1, 1, 0, 0, 2, 2, 'A', 0}}) {
+			try {
+				VersionKeys.decode(invalid);
+				Assert.fail(Arrays.toString(invalid));
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+		}
+	}
+	
+	/**
+	 * tests a range scan over the precedence keys of a sorted map
+	 */
+	@Test
+	public void testRangeScan() {
+		NavigableMap<byte[], SemanticVersion> store = new TreeMap<>(VersionKeys::compare);
+		for (String version : new String[] {"1.9.0", "1.10.0", "1.10.0+b1", "1.10.0-rc.1", "1.10.1", "2.0.0-alpha", "2.0.0"}) {
+			SemanticVersion semanticVersion = new SemanticVersion(version);
+			
+			store.put(VersionKeys.encode(semanticVersion), semanticVersion);
+		}
+		
+		byte[] from = VersionKeys.encodePrecedence(new SemanticVersion("1.10.0"));
+		byte[] to   = VersionKeys.encodePrecedence(new SemanticVersion("2.0.0-alpha"));
+		
+		MatcherAssert.assertThat(store.subMap(from, true, to, false).values().toString(), Matchers.equalTo("[1.10.0, 1.10.0+b1, 1.10.1]"));
+		MatcherAssert.assertThat(store.firstEntry().getValue().toString(), Matchers.equalTo("1.9.0"));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,60 @@
+package me.chrisswr1.semanticVersioner.cli;
+
+import me.chrisswr1.semanticVersioner.SemanticVersion;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * @author chwe
+ */
+public class ExternalSorterTest {
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+	
+	private static List<Path> list(Path directory)
+			throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.collect(Collectors.toList());
+		}
+	}
+	
+	/**
+	 * tests, if all spill files are deleted, when a merge fails
+	 */
+	@Test
+	public void testCloseAfterFailedMerge()
+			throws IOException {
+		Path directory = this.folder.newFolder().toPath();
+		
+		try (ExternalSorter sorter = new ExternalSorter(1, false, false, directory)) {
+			for (int i = 0; i < 200; i++) {
+				sorter.add(new SemanticVersion(1, i, 0));
+			}
+			
+			List<Path> files = ExternalSorterTest.list(directory);
+			MatcherAssert.assertThat(files.size(), Matchers.greaterThan(128));
+			
+			Files.delete(files.get(files.size() / 2));
+			
+			try {
+				sorter.writeTo(new StringBuilder());
+				Assert.fail();
+			} catch (IOException e) {
+				// expected
+			}
+		}
+		
+		MatcherAssert.assertThat(ExternalSorterTest.list(directory), Matchers.empty());
+	}
+}
\ No newline at end of file
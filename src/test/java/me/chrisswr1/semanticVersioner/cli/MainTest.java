@@ -0,0 +1,183 @@
+package me.chrisswr1.semanticVersioner.cli;
+
+import me.chrisswr1.semanticVersioner.SemanticVersion;
+import me.chrisswr1.semanticVersioner.SemanticVersions;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * @author chwe
+ */
+public class MainTest {
+	private static final String lineSeparator = System.lineSeparator();
+	
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+	
+	private String out;
+	private String err;
+	
+	private int run(String input, String... args)
+			throws UnsupportedEncodingException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ByteArrayOutputStream err = new ByteArrayOutputStream();
+		
+		int status = Main.run(args, new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)),
+		                      new PrintStream(out, true, "UTF-8"), new PrintStream(err, true, "UTF-8"));
+		
+		this.out = out.toString("UTF-8").replace(MainTest.lineSeparator, "\n");
+		this.err = err.toString("UTF-8").replace(MainTest.lineSeparator, "\n");
+		
+		return status;
+	}
+	
+	/**
+	 * tests the validate command with the parser and with the regular expression
+	 */
+	@Test
+	public void testValidate()
+			throws IOException {
+		String input = "1.0.0\n\n 2.0.0-rc.1 \n1.02.0\nv1.2\n";
+		
+		MatcherAssert.assertThat(this.run(input, "validate"), Matchers.equalTo(Main.invalid));
+		MatcherAssert.assertThat(this.out, Matchers.equalTo(
+				"<stdin>:4: Leading zeros are not allowed at offset 2: 1.02.0\n<stdin>:5: Expected a digit at offset 0: v1.2\n"));
+		
+		MatcherAssert.assertThat(this.run(input, "validate", "--regex"), Matchers.equalTo(Main.invalid));
+		MatcherAssert.assertThat(this.out.split("\n").length, Matchers.equalTo(2));
+		
+		MatcherAssert.assertThat(this.run("1.0.0\nv1.2\n", "validate", "-l"), Matchers.equalTo(Main.success));
+		MatcherAssert.assertThat(this.out, Matchers.isEmptyString());
+		
+		Path file = this.folder.newFile("versions.txt").toPath();
+		Files.write(file, Arrays.asList("1.0.0", "x"));
+		MatcherAssert.assertThat(this.run("", "validate", file.toString()), Matchers.equalTo(Main.invalid));
+		MatcherAssert.assertThat(this.out, Matchers.startsWith(file + ":2: "));
+	}
+	
+	/**
+	 * tests the sort and dedup commands in memory
+	 */
+	@Test
+	public void testSort()
+			throws IOException {
+		String input = "1.10.0\n1.9.0\n1.0.0-rc.1\n1.0.0\n1.9.0+b2\nx\n1.9.0+b1\n";
+		
+		MatcherAssert.assertThat(this.run(input, "sort"), Matchers.equalTo(Main.invalid));
+		MatcherAssert.assertThat(this.out, Matchers.equalTo("1.0.0-rc.1\n1.0.0\n1.9.0\n1.9.0+b1\n1.9.0+b2\n1.10.0\n"));
+		MatcherAssert.assertThat(this.err, Matchers.equalTo("<stdin>:6: Expected a digit at offset 0: x\n"));
+		
+		MatcherAssert.assertThat(this.run(input.replace("x\n", ""), "dedup", "--reverse"), Matchers.equalTo(Main.success));
+		MatcherAssert.assertThat(this.out, Matchers.equalTo("1.10.0\n1.9.0\n1.0.0\n1.0.0-rc.1\n"));
+	}
+	
+	/**
+	 * tests, if sorting spills to files and merges them in several passes
+	 */
+	@Test
+	public void testExternalSort()
+			throws IOException {
+		Random        random   = new Random(3);
+		String[]      suffixes = {"", "-alpha", "-rc.1", "-rc.2", "+b1", "+b2", "-RC.1"};
+		List<String>  versions = new ArrayList<>();
+		StringBuilder input    = new StringBuilder();
+		
+		for (int i = 0; i < 20000; i++) {
+			String version = (1 + random.nextInt(4)) + "." + random.nextInt(30) + "." + random.nextInt(30)
+			                 + suffixes[random.nextInt(suffixes.length)];
+			
+			versions.add(version);
+			input.append(version).append('\n');
+		}
+		
+		SemanticVersion[] expected = new SemanticVersion[versions.size()];
+		for (int i = 0; i < expected.length; i++) {
+			expected[i] = new SemanticVersion(versions.get(i));
+		}
+		
+		Path directory = this.folder.newFolder().toPath();
+		
+		for (boolean distinct : new boolean[] {false, true}) {
+			SemanticVersion[] sorted = distinct ? SemanticVersions.sortDistinct(expected) : expected.clone();
+			if (!(distinct)) {
+				SemanticVersions.sort(sorted);
+			}
+			
+			StringBuilder lines = new StringBuilder();
+			for (SemanticVersion version : sorted) {
+				lines.append(version).append('\n');
+			}
+			
+			MatcherAssert.assertThat(this.run(input.toString(), distinct ? "dedup" : "sort", "-c", "100", "-t", directory.toString()),
+			                         Matchers.equalTo(Main.success));
+			MatcherAssert.assertThat(this.out, Matchers.equalTo(lines.toString()));
+			
+			// 200 chunks need several merges of at most 64 spills
+			MatcherAssert.assertThat(this.run(input.toString(), distinct ? "dedup" : "sort", "-r", "-c", "100", "-t", directory.toString()),
+			                         Matchers.equalTo(Main.success));
+			
+			List<String> reversed = Arrays.asList(this.out.split("\n"));
+			Collections.reverse(reversed);
+			MatcherAssert.assertThat(String.join("\n", reversed) + "\n", Matchers.equalTo(lines.toString()));
+			
+			try (Stream<Path> files = Files.list(directory)) {
+				MatcherAssert.assertThat(files.count(), Matchers.equalTo(0L));
+			}
+		}
+	}
+	
+	/**
+	 * tests the max and filter commands
+	 */
+	@Test
+	public void testMaxAndFilter()
+			throws IOException {
+		String input = "1.2.0\n2.0.0-rc.1\n1.10.3\n2.0.0-rc.1+b\n0.9.0\n";
+		
+		MatcherAssert.assertThat(this.run(input, "max"), Matchers.equalTo(Main.success));
+		MatcherAssert.assertThat(this.out, Matchers.equalTo("2.0.0-rc.1+b\n"));
+		
+		MatcherAssert.assertThat(this.run("", "max"), Matchers.equalTo(Main.invalid));
+		MatcherAssert.assertThat(this.out, Matchers.isEmptyString());
+		
+		MatcherAssert.assertThat(this.run(input, "filter", "^1.2.0"), Matchers.equalTo(Main.success));
+		MatcherAssert.assertThat(this.out, Matchers.equalTo("1.2.0\n1.10.3\n"));
+	}
+	
+	/**
+	 * tests the reports of wrong arguments
+	 */
+	@Test
+	public void testArguments()
+			throws IOException {
+		MatcherAssert.assertThat(this.run("", "--help"), Matchers.equalTo(Main.success));
+		MatcherAssert.assertThat(this.out, Matchers.startsWith("usage: "));
+		
+		MatcherAssert.assertThat(this.run(""), Matchers.equalTo(Main.error));
+		MatcherAssert.assertThat(this.run("", "shuffle"), Matchers.equalTo(Main.error));
+		MatcherAssert.assertThat(this.err, Matchers.startsWith("semantic-versioner: Unknown command shuffle\n"));
+		MatcherAssert.assertThat(this.run("", "sort", "--regex"), Matchers.equalTo(Main.error));
+		MatcherAssert.assertThat(this.run("", "sort", "-c", "0"), Matchers.equalTo(Main.error));
+		MatcherAssert.assertThat(this.run("", "filter"), Matchers.equalTo(Main.error));
+		MatcherAssert.assertThat(this.run("", "filter", ">>1"), Matchers.equalTo(Main.error));
+		MatcherAssert.assertThat(this.run("", "sort", this.folder.getRoot().toPath().resolve("missing").toString()), Matchers.equalTo(Main.error));
+	}
+}
\ No newline at end of file
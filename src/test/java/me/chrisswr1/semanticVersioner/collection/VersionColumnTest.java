@@ -0,0 +1,159 @@
+package me.chrisswr1.semanticVersioner.collection;
+
+import me.chrisswr1.semanticVersioner.SemanticVersion;
+import me.chrisswr1.semanticVersioner.range.VersionRange;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * @author chwe
+ */
+public class VersionColumnTest {
+	private static final String[] identifiers = {"alpha", "beta", "RC", "rc", "1", "2", "11", "x-y"};
+	
+	private static List<SemanticVersion> randomVersions(int count) {
+		Random                random = new Random(7);
+		List<SemanticVersion> result = new ArrayList<>();
+		
+		for (int i = 0; i < count; i++) {
+			StringBuilder builder = new StringBuilder();
+			builder.append(1 + random.nextInt(3)).append('.').append(random.nextInt(3)).append('.').append(random.nextInt(3));
+			
+			int preRelease = random.nextInt(3);
+			for (int j = 0; j < preRelease; j++) {
+				builder.append(j == 0 ? '-' : '.').append(identifiers[random.nextInt(identifiers.length)]);
+			}
+			if (random.nextBoolean()) {
+				builder.append("+b").append(i);
+			}
+			
+			result.add(new SemanticVersion(builder.toString()));
+		}
+		
+		return result;
+	}
+	
+	private static List<String> strings(Iterable<SemanticVersion> versions) {
+		List<String> result = new ArrayList<>();
+		
+		for (SemanticVersion version : versions) {
+			result.add(version.toString());
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * tests, if the versions are stored without loss
+	 */
+	@Test
+	public void testAddAndGet() {
+		for (VersionColumn column : new VersionColumn[] {VersionColumn.onHeap(0), VersionColumn.offHeap(0)}) {
+			List<SemanticVersion> versions = VersionColumnTest.randomVersions(500);
+			column.addAll(versions);
+			
+			MatcherAssert.assertThat(column.size(), Matchers.equalTo(500));
+			Assert.assertEquals(VersionColumnTest.strings(versions), VersionColumnTest.strings(column));
+			MatcherAssert.assertThat(column.getDictionarySize(), Matchers.lessThan(600));
+			
+			SemanticVersion version = column.get(column.add(new SemanticVersion("3.2.1-rc.2+build.7")));
+			MatcherAssert.assertThat(version.toString(), Matchers.equalTo("3.2.1-rc.2+build.7"));
+			MatcherAssert.assertThat(column.getPreRelease(500, 0), Matchers.equalTo((Object) "rc"));
+			MatcherAssert.assertThat(column.getBuildMetadata(500, 0), Matchers.equalTo((Object) "build"));
+			MatcherAssert.assertThat(column.getBuildMetadataCount(500), Matchers.equalTo(2));
+			Assert.assertFalse(column.isRelease(500));
+		}
+	}
+	
+	/**
+	 * tests, if numeric identifiers are encoded once and decoded with their value
+	 */
+	@Test
+	public void testNumericIdentifiers() {
+		VersionColumn column = VersionColumn.onHeap(0);
+		
+		for (int i = 0; i < 1000; i++) {
+			column.add(new SemanticVersion("1.0.0-" + i + ".a" + i % 10 + "+" + i % 100));
+		}
+		column.add(new SemanticVersion("1.0.0-99999999999999999999"));
+		
+		MatcherAssert.assertThat(column.getDictionarySize(), Matchers.equalTo(1011));
+		MatcherAssert.assertThat(column.getPreRelease(123, 0), Matchers.equalTo((Object) 123L));
+		MatcherAssert.assertThat(column.getPreRelease(123, 1), Matchers.equalTo((Object) "a3"));
+		MatcherAssert.assertThat(column.getBuildMetadata(123, 0), Matchers.equalTo((Object) 23L));
+		MatcherAssert.assertThat(column.get(1000).toString(), Matchers.equalTo("1.0.0-99999999999999999999"));
+		MatcherAssert.assertThat(column.compareTo(123, new SemanticVersion("1.0.0-123.a3")), Matchers.equalTo(0));
+		
+		column.clear();
+		column.add(new SemanticVersion("1.0.0-7+7"));
+		MatcherAssert.assertThat(column.getDictionarySize(), Matchers.equalTo(1));
+	}
+	
+	/**
+	 * tests, if sorting is stable and matches {@link SemanticVersion#compareTo(SemanticVersion)}
+	 */
+	@Test
+	public void testSort() {
+		for (VersionColumn column : new VersionColumn[] {VersionColumn.onHeap(16), VersionColumn.offHeap(16)}) {
+			List<SemanticVersion> versions = VersionColumnTest.randomVersions(2000);
+			column.addAll(versions);
+			
+			for (int i = 0; i < 200; i++) {
+				MatcherAssert.assertThat(Integer.signum(column.compare(i, i + 1)),
+				                         Matchers.equalTo(Integer.signum(versions.get(i).compareTo(versions.get(i + 1)))));
+			}
+			
+			column.sort();
+			Collections.sort(versions);
+			
+			Assert.assertEquals(VersionColumnTest.strings(versions), VersionColumnTest.strings(column));
+			
+			SemanticVersion key = new SemanticVersion("2.1.1");
+			int             row = column.binarySearch(key);
+			if (row >= 0) {
+				MatcherAssert.assertThat(column.get(row), Matchers.equalTo(key));
+			} else {
+				MatcherAssert.assertThat(column.compareTo(-row - 1, key), Matchers.greaterThan(0));
+			}
+		}
+	}
+	
+	/**
+	 * tests filtering in place
+	 */
+	@Test
+	public void testRetain() {
+		for (VersionColumn column : new VersionColumn[] {VersionColumn.onHeap(16), VersionColumn.offHeap(16)}) {
+			List<SemanticVersion> versions = VersionColumnTest.randomVersions(1000);
+			VersionRange          range    = VersionRange.parse(">=1.1.0 <2.1.0 || >=3.2.2-rc");
+			List<String>          expected = new ArrayList<>();
+			
+			for (SemanticVersion version : versions) {
+				if (range.test(version)) {
+					expected.add(version.toString());
+				}
+			}
+			
+			column.addAll(versions);
+			
+			MatcherAssert.assertThat(column.retainAll(range), Matchers.equalTo(1000 - expected.size()));
+			Assert.assertEquals(expected, VersionColumnTest.strings(column));
+			
+			column.retainIf(column::isRelease);
+			for (SemanticVersion version : column) {
+				Assert.assertTrue(version.isRelease());
+			}
+			
+			column.clear();
+			Assert.assertTrue(column.isEmpty());
+			MatcherAssert.assertThat(column.getDictionarySize(), Matchers.equalTo(0));
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,119 @@
+package me.chrisswr1.semanticVersioner.collection;
+
+import me.chrisswr1.semanticVersioner.SemanticVersion;
+import me.chrisswr1.semanticVersioner.range.VersionRange;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * @author chwe
+ */
+public class VersionIndexTest {
+	private VersionIndex index;
+	
+	private static SemanticVersion version(String version) {
+		return version == null ? null : new SemanticVersion(version);
+	}
+	
+	private static String string(SemanticVersion version) {
+		return version == null ? null : version.toString();
+	}
+	
+	@Before
+	public void setUp() {
+		this.index = VersionIndex.of(
+				version("2.0.0"), version("1.0.0"), version("1.1.0-rc.1"), version("1.1.0"), version("1.0.0+build"),
+				version("2.1.0-alpha"), version("1.2.3"), version("0.9.0"));
+	}
+	
+	/**
+	 * tests the order and distinctness of an index
+	 */
+	@Test
+	public void testOf() {
+		MatcherAssert.assertThat(this.index.toString(),
+		                         Matchers.equalTo("[0.9.0, 1.0.0, 1.1.0-rc.1, 1.1.0, 1.2.3, 2.0.0, 2.1.0-alpha]"));
+		MatcherAssert.assertThat(this.index.releases().toString(),
+		                         Matchers.equalTo("[0.9.0, 1.0.0, 1.1.0, 1.2.3, 2.0.0]"));
+		MatcherAssert.assertThat(string(this.index.last()), Matchers.equalTo("2.1.0-alpha"));
+		MatcherAssert.assertThat(string(this.index.latestRelease()), Matchers.equalTo("2.0.0"));
+		Assert.assertTrue(this.index.get(0).isImmutable());
+		Assert.assertTrue(VersionIndex.empty().isEmpty());
+		Assert.assertNull(VersionIndex.empty().last());
+	}
+	
+	/**
+	 * tests floor, lower, ceiling and higher
+	 */
+	@Test
+	public void testNavigation() {
+		MatcherAssert.assertThat(string(this.index.floor(version("1.1.0"))), Matchers.equalTo("1.1.0"));
+		MatcherAssert.assertThat(string(this.index.lower(version("1.1.0"))), Matchers.equalTo("1.1.0-rc.1"));
+		MatcherAssert.assertThat(string(this.index.ceiling(version("1.1.1"))), Matchers.equalTo("1.2.3"));
+		MatcherAssert.assertThat(string(this.index.higher(version("1.2.3"))), Matchers.equalTo("2.0.0"));
+		Assert.assertNull(this.index.floor(version("0.1.0")));
+		Assert.assertNull(this.index.higher(version("3.0.0")));
+		Assert.assertTrue(this.index.contains(version("1.0.0")));
+		Assert.assertFalse(this.index.contains(version("1.0.1")));
+	}
+	
+	/**
+	 * Test method for {@link VersionIndex#subIndex(SemanticVersion, boolean, SemanticVersion, boolean)}.
+	 */
+	@Test
+	public void testSubIndex() {
+		VersionIndex sub = this.index.subIndex(version("1.0.0"), false, version("2.0.0"), true);
+		
+		MatcherAssert.assertThat(sub.toString(), Matchers.equalTo("[1.1.0-rc.1, 1.1.0, 1.2.3, 2.0.0]"));
+		MatcherAssert.assertThat(sub.releases().toString(), Matchers.equalTo("[1.1.0, 1.2.3, 2.0.0]"));
+		MatcherAssert.assertThat(string(sub.floor(version("3.0.0"))), Matchers.equalTo("2.0.0"));
+		Assert.assertNull(sub.floor(version("1.0.0")));
+		Assert.assertTrue(this.index.subIndex(version("3.0.0"), true, version("1.0.0"), true).isEmpty());
+	}
+	
+	/**
+	 * tests the range queries against a linear scan
+	 */
+	@Test
+	public void testRange() {
+		Random                random   = new Random(42);
+		List<SemanticVersion> versions = new ArrayList<>();
+		
+		for (int i = 0; i < 2000; i++) {
+			String version = random.nextInt(5) + "." + (random.nextInt(5) + 1) + "." + random.nextInt(5);
+			versions.add(version(random.nextInt(4) == 0 ? version + "-rc." + random.nextInt(3) : version));
+		}
+		
+		VersionIndex index = VersionIndex.of(versions);
+		Collections.sort(versions);
+		
+		String[] ranges = {"^1.2", "~2.3.1 || >=4.2.0-rc.1 <4.3", "[1.0,2.0),[3.0,)", "<0.1.0", "*", ">99"};
+		for (String range : ranges) {
+			VersionRange    versionRange = VersionRange.parse(range);
+			SemanticVersion max          = null;
+			SemanticVersion min          = null;
+			
+			for (SemanticVersion version : versions) {
+				if (versionRange.test(version)) {
+					min = min == null ? version : min;
+					max = version;
+				}
+			}
+			
+			MatcherAssert.assertThat(range, index.max(versionRange), Matchers.equalTo(max));
+			MatcherAssert.assertThat(range, index.min(versionRange), Matchers.equalTo(min));
+			
+			for (SemanticVersion version : index.select(versionRange)) {
+				Assert.assertTrue(range, versionRange.test(version));
+			}
+		}
+	}
+}
\ No newline at end of file
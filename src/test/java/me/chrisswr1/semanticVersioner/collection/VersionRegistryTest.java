@@ -0,0 +1,174 @@
+package me.chrisswr1.semanticVersioner.collection;
+
+import me.chrisswr1.semanticVersioner.SemanticVersion;
+import me.chrisswr1.semanticVersioner.range.VersionRange;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * @author chwe
+ */
+public class VersionRegistryTest {
+	private static SemanticVersion version(String version) {
+		return new SemanticVersion(version);
+	}
+	
+	/**
+	 * Test method for {@link VersionRegistry#add(Object, SemanticVersion)}.
+	 */
+	@Test
+	public void testAdd() {
+		VersionRegistry<String> registry = new VersionRegistry<>();
+		
+		Assert.assertTrue(registry.add("a", VersionRegistryTest.version("1.0.0")));
+		Assert.assertTrue(registry.add("a", VersionRegistryTest.version("0.9.0")));
+		Assert.assertTrue(registry.add("a", VersionRegistryTest.version("2.0.0-rc.1")));
+		Assert.assertFalse(registry.add("a", VersionRegistryTest.version("1.0.0+build")));
+		Assert.assertTrue(registry.add("b", VersionRegistryTest.version("0.1.0")));
+		
+		MatcherAssert.assertThat(registry.getVersions("a").toString(), Matchers.equalTo("[0.9.0, 1.0.0, 2.0.0-rc.1]"));
+		MatcherAssert.assertThat(registry.latest("a").toString(), Matchers.equalTo("2.0.0-rc.1"));
+		MatcherAssert.assertThat(registry.latestStable("a").toString(), Matchers.equalTo("1.0.0"));
+		MatcherAssert.assertThat(registry.latest("a", VersionRange.parse("[0.5.0,1.5.0)")).toString(), Matchers.equalTo("1.0.0"));
+		MatcherAssert.assertThat(registry.getVersions("a").latestRelease().toString(), Matchers.equalTo("1.0.0"));
+		Assert.assertNull(registry.latestStable("b"));
+		Assert.assertNull(registry.latest("c"));
+		Assert.assertTrue(registry.snapshot("c").isEmpty());
+		Assert.assertTrue(registry.latest("a").isImmutable());
+		MatcherAssert.assertThat(registry.artifacts(), Matchers.containsInAnyOrder("a", "b"));
+	}
+	
+	/**
+	 * Test method for {@link VersionRegistry#addAll(Object, java.util.Collection)}.
+	 */
+	@Test
+	public void testAddAll() {
+		VersionRegistry<String> registry = new VersionRegistry<>();
+		
+		registry.add("a", VersionRegistryTest.version("1.0.0"));
+		registry.addAll("a", Arrays.asList(
+				VersionRegistryTest.version("3.0.0-beta"), VersionRegistryTest.version("2.1.0"),
+				VersionRegistryTest.version("1.0.0+other")));
+		
+		VersionRegistry.Snapshot snapshot = registry.snapshot("a");
+		
+		MatcherAssert.assertThat(snapshot.toString(), Matchers.equalTo("[1.0.0, 2.1.0, 3.0.0-beta]"));
+		MatcherAssert.assertThat(snapshot.getLatest().toString(), Matchers.equalTo("3.0.0-beta"));
+		MatcherAssert.assertThat(snapshot.getLatestStable().toString(), Matchers.equalTo("2.1.0"));
+		Assert.assertSame(snapshot.getLatestStable(), snapshot.getVersions().get(1));
+	}
+	
+	/**
+	 * tests, if readers see consistent snapshots, while a writer publishes versions
+	 */
+	@Test
+	public void testConcurrent()
+			throws Exception {
+		VersionRegistry<String> registry = new VersionRegistry<>();
+		ExecutorService         executor = Executors.newFixedThreadPool(4);
+		List<Future<Boolean>>   readers  = new ArrayList<>();
+		
+		Future<?> writer = executor.submit(() -> {
+			for (int i = 1; i <= 2000; i++) {
+				registry.add("a", VersionRegistryTest.version("1." + i + ".0" + (i % 2 == 0 ? "" : "-rc.1")));
+			}
+		});
+		
+		for (int t = 0; t < 3; t++) {
+			readers.add(executor.submit(() -> {
+				while (!(writer.isDone())) {
+					VersionRegistry.Snapshot snapshot = registry.snapshot("a");
+					
+					if (snapshot.getLatest() != snapshot.getVersions().last()
+					    || snapshot.getLatestStable() != snapshot.getVersions().latestRelease()) {
+						return false;
+					}
+				}
+				
+				return true;
+			}));
+		}
+		
+		writer.get();
+		for (Future<Boolean> reader : readers) {
+			Assert.assertTrue(reader.get());
+		}
+		
+		executor.shutdown();
+		
+		MatcherAssert.assertThat(registry.snapshot("a").size(), Matchers.equalTo(2000));
+		MatcherAssert.assertThat(registry.latestStable("a").toString(), Matchers.equalTo("1.2000.0"));
+		MatcherAssert.assertThat(registry.latest("a").toString(), Matchers.equalTo("1.2000.0"));
+	}
+	
+	/**
+	 * Test method for {@link VersionRegistry#replaceAll(Object, java.util.Collection)}.
+	 */
+	@Test
+	public void testReplaceAll() {
+		VersionRegistry<String> registry = new VersionRegistry<>();
+		
+		registry.addAll("a", Arrays.asList(VersionRegistryTest.version("1.0.0"), VersionRegistryTest.version("2.0.0")));
+		registry.replaceAll("a", Arrays.asList(VersionRegistryTest.version("1.1.0"), VersionRegistryTest.version("1.2.0-rc.1")));
+		
+		MatcherAssert.assertThat(registry.getVersions("a").toString(), Matchers.equalTo("[1.1.0, 1.2.0-rc.1]"));
+		MatcherAssert.assertThat(registry.latest("a").toString(), Matchers.equalTo("1.2.0-rc.1"));
+		MatcherAssert.assertThat(registry.latestStable("a").toString(), Matchers.equalTo("1.1.0"));
+		
+		registry.replaceAll("a", new ArrayList<>());
+		Assert.assertFalse(registry.artifacts().contains("a"));
+		Assert.assertFalse(registry.remove("a"));
+	}
+	
+	/**
+	 * tests, if versions published concurrently to removals are kept, when they are added after the removal
+	 */
+	@Test
+	public void testRemoveConcurrent()
+			throws Exception {
+		VersionRegistry<String> registry = new VersionRegistry<>();
+		ExecutorService         executor = Executors.newFixedThreadPool(2);
+		
+		Future<?> remover = executor.submit(() -> {
+			for (int i = 0; i < 2000; i++) {
+				registry.remove("a");
+				registry.replaceAll("b", Arrays.asList(VersionRegistryTest.version("1." + i + ".0")));
+			}
+		});
+		Future<Boolean> writer = executor.submit(() -> {
+			for (int i = 1; i <= 2000; i++) {
+				SemanticVersion version = VersionRegistryTest.version("2." + i + ".0");
+				boolean         removed = remover.isDone();
+				
+				registry.add("a", version);
+				registry.add("b", version);
+				
+				if (removed && !(registry.contains("b", version))) {
+					return false;
+				}
+			}
+			
+			return true;
+		});
+		
+		remover.get();
+		Assert.assertTrue(writer.get());
+		executor.shutdown();
+		
+		SemanticVersion version = VersionRegistryTest.version("3.0.0");
+		
+		registry.remove("a");
+		Assert.assertTrue(registry.add("a", version));
+		Assert.assertTrue(registry.contains("a", version));
+		MatcherAssert.assertThat(registry.snapshot("a").size(), Matchers.equalTo(1));
+	}
+}
\ No newline at end of file
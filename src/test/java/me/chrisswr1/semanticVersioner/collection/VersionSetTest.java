@@ -0,0 +1,177 @@
+package me.chrisswr1.semanticVersioner.collection;
+
+import me.chrisswr1.semanticVersioner.SemanticVersion;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * tests {@link VersionSet} and {@link VersionMap} against {@link HashSet} and {@link HashMap}
+ *
+ * @author chwe
+ */
+public class VersionSetTest {
+	private static SemanticVersion randomVersion(Random random) {
+		String version = (random.nextInt(3) + 1) + "." + random.nextInt(4) + "." + random.nextInt(4);
+		
+		switch (random.nextInt(4)) {
+			case 0:
+				return new SemanticVersion(version + "-alpha." + random.nextInt(3));
+			case 1:
+				return new SemanticVersion(version + "+build." + random.nextInt(3));
+			default:
+				return new SemanticVersion(version);
+		}
+	}
+	
+	/**
+	 * tests random operations on a {@link VersionSet}
+	 */
+	@Test
+	public void testSet() {
+		Random               random   = new Random(42);
+		VersionSet           set      = new VersionSet();
+		Set<SemanticVersion> expected = new HashSet<>();
+		
+		for (int i = 0; i < 100000; i++) {
+			SemanticVersion version = randomVersion(random);
+			
+			switch (random.nextInt(3)) {
+				case 0:
+					Assert.assertEquals(expected.add(version), set.add(version));
+					break;
+				case 1:
+					Assert.assertEquals(expected.remove(version), set.remove(version));
+					break;
+				default:
+					Assert.assertEquals(expected.contains(version), set.contains(version));
+					break;
+			}
+			
+			Assert.assertEquals(expected.size(), set.size());
+		}
+		
+		Assert.assertEquals(expected, set);
+		Assert.assertEquals(set, expected);
+		
+		set.clear();
+		Assert.assertTrue(set.isEmpty());
+		Assert.assertFalse(set.contains(new SemanticVersion(1, 0, 0)));
+	}
+	
+	/**
+	 * Test method for {@link VersionSet#get(SemanticVersion)}.
+	 */
+	@Test
+	public void testGet() {
+		VersionSet      set     = new VersionSet();
+		SemanticVersion version = new SemanticVersion("1.0.0+first");
+		
+		set.add(version);
+		Assert.assertFalse(set.add(new SemanticVersion("1.0.0+second")));
+		
+		Assert.assertSame(version, set.get(new SemanticVersion("1.0.0")));
+		Assert.assertNull(set.get(new SemanticVersion("1.0.1")));
+		Assert.assertFalse(set.contains("1.0.0"));
+	}
+	
+	/**
+	 * tests random operations on a {@link VersionMap}
+	 */
+	@Test
+	public void testMap() {
+		Random                        random   = new Random(42);
+		VersionMap<Integer>           map      = new VersionMap<>();
+		Map<SemanticVersion, Integer> expected = new HashMap<>();
+		
+		for (int i = 0; i < 100000; i++) {
+			SemanticVersion version = randomVersion(random);
+			
+			switch (random.nextInt(3)) {
+				case 0:
+					Assert.assertEquals(expected.put(version, i), map.put(version, i));
+					break;
+				case 1:
+					Assert.assertEquals(expected.remove(version), map.remove(version));
+					break;
+				default:
+					Assert.assertEquals(expected.get(version), map.get(version));
+					break;
+			}
+			
+			Assert.assertEquals(expected.size(), map.size());
+		}
+		
+		Assert.assertEquals(expected, map);
+		Assert.assertEquals(map, expected);
+		
+		for (Map.Entry<SemanticVersion, Integer> entry : map.entrySet()) {
+			entry.setValue(-1);
+		}
+		
+		for (Integer value : map.values()) {
+			MatcherAssert.assertThat(value, Matchers.equalTo(-1));
+		}
+	}
+	
+	/**
+	 * tests removals through the iterators of a {@link VersionSet} and the views of a {@link VersionMap}
+	 */
+	@Test
+	public void testIteratorRemove() {
+		VersionSet           set      = new VersionSet();
+		Set<SemanticVersion> expected = new HashSet<>();
+		
+		for (int major = 0; major < 10; major++) {
+			for (int minor = 0; minor < 100; minor++) {
+				set.add(new SemanticVersion(major, minor, 0));
+				expected.add(new SemanticVersion(major, minor, 0));
+			}
+		}
+		
+		Assert.assertTrue(set.removeIf(version -> version.getMinor() % 3 == 0));
+		Assert.assertTrue(expected.removeIf(version -> version.getMinor() % 3 == 0));
+		Assert.assertEquals(expected, set);
+		
+		VersionMap<Integer> map = new VersionMap<>();
+		for (SemanticVersion version : expected) {
+			map.put(version, (int) version.getMinor());
+		}
+		
+		Assert.assertTrue(map.keySet().retainAll(Collections.singleton(new SemanticVersion(1, 1, 0))));
+		Assert.assertEquals(Collections.singletonMap(new SemanticVersion(1, 1, 0), 1), map);
+		
+		map.put(new SemanticVersion(2, 0, 0), 2);
+		Assert.assertTrue(map.values().remove(2));
+		Assert.assertEquals(Collections.singletonMap(new SemanticVersion(1, 1, 0), 1), map);
+	}
+	
+	/**
+	 * tests {@link Map.Entry#setValue(Object)} on an entry of a {@link VersionMap} after a resize
+	 */
+	@Test
+	public void testEntrySetValue() {
+		VersionMap<Integer> map = new VersionMap<>();
+		map.put(new SemanticVersion(1, 0, 0), 1);
+		
+		Map.Entry<SemanticVersion, Integer> entry = map.entrySet().iterator().next();
+		for (int minor = 1; minor < 100; minor++) {
+			map.put(new SemanticVersion(1, minor, 0), minor);
+		}
+		
+		Assert.assertEquals(Integer.valueOf(1), entry.setValue(0));
+		Assert.assertEquals(Integer.valueOf(0), map.get(new SemanticVersion(1, 0, 0)));
+		
+		for (int minor = 1; minor < 100; minor++) {
+			Assert.assertEquals(Integer.valueOf(minor), map.get(new SemanticVersion(1, minor, 0)));
+		}
+	}
+}
\ No newline at end of file
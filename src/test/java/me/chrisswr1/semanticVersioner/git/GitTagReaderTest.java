@@ -0,0 +1,157 @@
+package me.chrisswr1.semanticVersioner.git;
+
+import me.chrisswr1.semanticVersioner.ParseOptions;
+import me.chrisswr1.semanticVersioner.SemanticVersion;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * @author chwe
+ */
+public class GitTagReaderTest {
+	private static final String hash   = "4b825dc642cb6eb9a060e54bf8d69288fbee4904";
+	private static final String peeled = "^d670460b4b4aece5915caf5c68d12f560a9fe3e4";
+	
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+	
+	private Path repository;
+	private Path gitDirectory;
+	
+	@Before
+	public void setUp()
+			throws IOException {
+		this.repository = this.folder.newFolder("repository").toPath();
+		this.gitDirectory = Files.createDirectories(this.repository.resolve(".git"));
+		
+		Files.write(this.gitDirectory.resolve("packed-refs"), (
+				"# pack-refs with: peeled fully-peeled sorted \n"
+				+ GitTagReaderTest.hash + " refs/heads/main\n"
+				+ GitTagReaderTest.hash + " refs/remotes/origin/v9.0.0\n"
+				+ GitTagReaderTest.hash + " refs/tags/2023-01-05\n"
+				+ GitTagReaderTest.hash + " refs/tags/nightly\n"
+				+ GitTagReaderTest.hash + " refs/tags/v1.2.0\n"
+				+ GitTagReaderTest.peeled + "\n"
+				+ GitTagReaderTest.hash + " refs/tags/v1.10.0\r\n"
+				+ GitTagReaderTest.hash + " refs/tags/v2.0.0-rc.1\n"
+				+ GitTagReaderTest.hash + " refs/tags/vé\n"
+				+ GitTagReaderTest.hash + " refs/tags/0.9.0").getBytes(StandardCharsets.UTF_8));
+		
+		this.writeLooseTag("v1.10.0");
+		this.writeLooseTag("release/1.11.0");
+		this.writeLooseTag("v3.0.0.lock");
+		this.writeLooseTag("build-4711");
+	}
+	
+	private void writeLooseTag(String name)
+			throws IOException {
+		Path file = this.gitDirectory.resolve(GitTagReader.tagPrefix + name);
+		
+		Files.createDirectories(file.getParent());
+		Files.write(file, (GitTagReaderTest.hash + "\n").getBytes(StandardCharsets.US_ASCII));
+	}
+	
+	private static List<String> toStrings(List<SemanticVersion> versions) {
+		List<String> result = new ArrayList<>();
+		
+		for (SemanticVersion version : versions) {
+			result.add(version.toString());
+		}
+		
+		Collections.sort(result);
+		return result;
+	}
+	
+	/**
+	 * tests, if the packed and loose tags are read once
+	 */
+	@Test
+	public void testGetVersions()
+			throws IOException {
+		GitTagReader reader = new GitTagReader(this.repository);
+		
+		MatcherAssert.assertThat(reader.getDirectory(), Matchers.equalTo(this.gitDirectory.normalize()));
+		MatcherAssert.assertThat(GitTagReaderTest.toStrings(reader.getVersions()),
+		                         Matchers.contains("0.9.0", "1.10.0", "1.11.0", "1.2.0", "2.0.0-rc.1"));
+		
+		GitTagReader strict = new GitTagReader(this.gitDirectory, ParseOptions.strict());
+		MatcherAssert.assertThat(GitTagReaderTest.toStrings(strict.getVersions()), Matchers.contains("0.9.0"));
+		
+		// numbered tags like build-4711 are only read as versions, if single numbers are padded
+		GitTagReader lenient = new GitTagReader(this.gitDirectory, ParseOptions.lenient());
+		MatcherAssert.assertThat(GitTagReaderTest.toStrings(lenient.getVersions()), Matchers.hasItems("4711.0.0", "2023.0.0-01-05"));
+	}
+	
+	/**
+	 * Test method for {@link GitTagReader#getLatest()} and {@link GitTagReader#getLatestStable()}.
+	 */
+	@Test
+	public void testGetLatest()
+			throws IOException {
+		GitTagReader reader = new GitTagReader(this.repository);
+		
+		MatcherAssert.assertThat(reader.getLatest().toString(), Matchers.equalTo("2.0.0-rc.1"));
+		MatcherAssert.assertThat(reader.getLatestStable().toString(), Matchers.equalTo("1.11.0"));
+		MatcherAssert.assertThat(reader.getLatest(3).toString(), Matchers.equalTo("[2.0.0-rc.1, 1.11.0, 1.10.0]"));
+		
+		Path empty = Files.createDirectories(this.folder.getRoot().toPath().resolve("empty.git").resolve("refs"));
+		Assert.assertNull(new GitTagReader(empty.getParent()).getLatest());
+	}
+	
+	/**
+	 * tests, if a {@code .git} file and the common directory of a linked working tree are followed
+	 */
+	@Test
+	public void testLinkedWorkingTree()
+			throws IOException {
+		Path worktreeGit = Files.createDirectories(this.gitDirectory.resolve("worktrees").resolve("feature"));
+		Files.write(worktreeGit.resolve("commondir"), "../..\n".getBytes(StandardCharsets.US_ASCII));
+		
+		Path worktree = this.folder.newFolder("feature").toPath();
+		Files.write(worktree.resolve(".git"), ("gitdir: " + worktreeGit + "\n").getBytes(StandardCharsets.US_ASCII));
+		
+		GitTagReader reader = new GitTagReader(worktree);
+		MatcherAssert.assertThat(reader.getDirectory(), Matchers.equalTo(this.gitDirectory.normalize()));
+		MatcherAssert.assertThat(reader.getLatestStable().toString(), Matchers.equalTo("1.11.0"));
+		
+		try {
+			new GitTagReader(this.folder.newFolder("plain").toPath());
+			Assert.fail();
+		} catch (IOException e) {
+			// expected
+		}
+	}
+	
+	/**
+	 * tests, if the scan of sorted packed refs stops behind the tags
+	 */
+	@Test
+	public void testScanSortedPackedRefs() {
+		String refs = GitTagReaderTest.hash + " refs/tags/1.0.0\n" + GitTagReaderTest.hash + " refs/zzz/x\n"
+		              + GitTagReaderTest.hash + " refs/tags/2.0.0\n";
+		
+		List<SemanticVersion> unsorted = new ArrayList<>();
+		GitTagReader.scanPackedRefs(ByteBuffer.wrap(refs.getBytes(StandardCharsets.US_ASCII)), ParseOptions.strict(),
+		                            Collections.<String>emptySet(), unsorted::add);
+		MatcherAssert.assertThat(unsorted.size(), Matchers.equalTo(2));
+		
+		List<SemanticVersion> sorted = new ArrayList<>();
+		GitTagReader.scanPackedRefs(ByteBuffer.wrap(("# pack-refs with: peeled sorted\n" + refs).getBytes(StandardCharsets.US_ASCII)),
+		                            ParseOptions.strict(), Collections.<String>emptySet(), sorted::add);
+		MatcherAssert.assertThat(sorted.toString(), Matchers.equalTo("[1.0.0]"));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,111 @@
+package me.chrisswr1.semanticVersioner.maven;
+
+import me.chrisswr1.semanticVersioner.ParseOptions;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * @author chwe
+ */
+public class MavenMetadataScannerTest {
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+	
+	private Path root;
+	
+	@Before
+	public void setUp()
+			throws IOException {
+		this.root = this.folder.newFolder("repository").toPath();
+		
+		this.writeMetadata("org/example/core/maven-metadata.xml", "org.example", "core", "1.0", "1.1.0-RC1", "1.10.2", "1.9.0.Final");
+		this.writeMetadata("org/example/core/maven-metadata-central.xml", "org.example", "core", "2.0.0-SNAPSHOT", "not a version");
+		this.writeMetadata("org/example/api/maven-metadata-local.xml", "org.example", "api", "0.1.0");
+		this.write("org/example/api/0.1.0/api-0.1.0.pom", "<project/>");
+		this.write("com/broken/maven-metadata.xml", "<metadata><groupId>com");
+	}
+	
+	private void writeMetadata(String file, String groupId, String artifactId, String... versions)
+			throws IOException {
+		StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<metadata>\n");
+		xml.append("  <groupId>").append(groupId).append("</groupId>\n");
+		xml.append("  <artifactId>").append(artifactId).append("</artifactId>\n");
+		xml.append("  <versioning>\n    <latest>ignored</latest>\n    <release>ignored</release>\n    <versions>\n");
+		for (String version : versions) {
+			xml.append("      <version>").append(version).append("</version>\n");
+		}
+		xml.append("    </versions>\n    <lastUpdated>20240101000000</lastUpdated>\n  </versioning>\n</metadata>\n");
+		
+		this.write(file, xml.toString());
+	}
+	
+	private void write(String file, String content)
+			throws IOException {
+		Path path = this.root.resolve(file);
+		
+		Files.createDirectories(path.getParent());
+		Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+	}
+	
+	/**
+	 * tests, if all metadata files are indexed
+	 */
+	@Test
+	public void testScan()
+			throws IOException {
+		MavenMetadataScanner            scanner = new MavenMetadataScanner(this.root, new ForkJoinPool(4), ParseOptions.lenient());
+		MavenMetadataScanner.ScanResult result  = scanner.scan();
+		
+		MatcherAssert.assertThat(result.getFileCount(), Matchers.equalTo(4));
+		MatcherAssert.assertThat(result.getReadCount(), Matchers.equalTo(4));
+		MatcherAssert.assertThat(result.getFailedFiles(), Matchers.contains(this.root.resolve("com/broken/maven-metadata.xml")));
+		MatcherAssert.assertThat(result.getInvalidVersionCount(), Matchers.equalTo(1));
+		MatcherAssert.assertThat(scanner.getArtifacts(), Matchers.containsInAnyOrder("org.example:core", "org.example:api"));
+		
+		MatcherAssert.assertThat(scanner.getVersions("org.example", "core").toString(),
+		                         Matchers.equalTo("[1.0.0, 1.1.0-RC.1, 1.9.0+Final, 1.10.2, 2.0.0-SNAPSHOT]"));
+		MatcherAssert.assertThat(scanner.getLatestRelease("org.example", "core").toString(), Matchers.equalTo("1.10.2"));
+		MatcherAssert.assertThat(scanner.getLatestRelease("org.example", "api").toString(), Matchers.equalTo("0.1.0"));
+		Assert.assertNull(scanner.getLatestRelease("org.example", "missing"));
+	}
+	
+	/**
+	 * tests, if a rescan only reads the changed files and replaces the versions of their artifacts
+	 */
+	@Test
+	public void testRescan()
+			throws IOException {
+		MavenMetadataScanner scanner = new MavenMetadataScanner(this.root);
+		scanner.scan();
+		
+		MavenMetadataScanner.ScanResult unchanged = scanner.scan();
+		MatcherAssert.assertThat(unchanged.getReadCount(), Matchers.equalTo(0));
+		MatcherAssert.assertThat(unchanged.getChangedArtifacts(), Matchers.empty());
+		
+		Path central = this.root.resolve("org/example/core/maven-metadata-central.xml");
+		this.writeMetadata("org/example/core/maven-metadata-central.xml", "org.example", "core", "3.0.0");
+		Files.setLastModifiedTime(central, FileTime.fromMillis(Files.getLastModifiedTime(central).toMillis() + 2000));
+		Files.delete(this.root.resolve("org/example/api/maven-metadata-local.xml"));
+		
+		MavenMetadataScanner.ScanResult changed = scanner.scan();
+		MatcherAssert.assertThat(changed.getReadCount(), Matchers.equalTo(1));
+		MatcherAssert.assertThat(changed.getRemovedCount(), Matchers.equalTo(1));
+		MatcherAssert.assertThat(changed.getChangedArtifacts(), Matchers.containsInAnyOrder("org.example:core", "org.example:api"));
+		
+		MatcherAssert.assertThat(scanner.getVersions("org.example", "core").toString(),
+		                         Matchers.equalTo("[1.0.0, 1.1.0-RC.1, 1.9.0+Final, 1.10.2, 3.0.0]"));
+		MatcherAssert.assertThat(scanner.getArtifacts(), Matchers.contains("org.example:core"));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,132 @@
+package me.chrisswr1.semanticVersioner.range;
+
+import me.chrisswr1.semanticVersioner.SemanticVersion;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author chwe
+ */
+public class VersionRangeTest {
+	private static void assertRange(String range, String[] included, String[] excluded) {
+		VersionRange versionRange = VersionRange.parse(range);
+		
+		for (String version : included) {
+			Assert.assertTrue(range + " should contain " + version, versionRange.test(new SemanticVersion(version)));
+		}
+		for (String version : excluded) {
+			Assert.assertFalse(range + " should not contain " + version, versionRange.test(new SemanticVersion(version)));
+		}
+		
+		MatcherAssert.assertThat(range, VersionRange.parse(versionRange.toString()), Matchers.equalTo(versionRange));
+	}
+	
+	/**
+	 * tests comparators and unions
+	 */
+	@Test
+	public void testComparators() {
+		assertRange(">=1.2.0 <2.0.0-0 || ^3.1",
+		            new String[]{"1.2.0", "1.4.2", "1.99.0-rc.1", "3.1.0", "3.9.9"},
+		            new String[]{"1.1.9", "2.0.0-alpha", "2.0.0", "3.0.0", "4.0.0-0", "4.0.0"});
+		assertRange(">1.2.3", new String[]{"1.2.4", "2.0.0"}, new String[]{"1.2.3", "1.2.3-beta"});
+		assertRange("<=1.2", new String[]{"1.2.99", "1.0.0"}, new String[]{"1.3.0-0", "1.3.0"});
+		assertRange(">1.2", new String[]{"1.3.0-0", "1.3.0"}, new String[]{"1.2.99", "1.2.0"});
+		assertRange("<1.2", new String[]{"1.1.99"}, new String[]{"1.2.0-0", "1.2.0"});
+		assertRange("=1.2.3", new String[]{"1.2.3", "1.2.3+build"}, new String[]{"1.2.4", "1.2.3-beta"});
+		assertRange("1.2.x", new String[]{"1.2.0", "1.2.9"}, new String[]{"1.3.0", "1.1.9"});
+		assertRange("*", new String[]{"0.1.0", "99.0.0"}, new String[0]);
+		assertRange("", new String[]{"0.1.0", "99.0.0"}, new String[0]);
+		assertRange(">=1.2, <1.5", new String[]{"1.2.0", "1.4.9"}, new String[]{"1.5.0", "1.1.0"});
+		assertRange(">= 1.2.3 < 1.3", new String[]{"1.2.3"}, new String[]{"1.3.0"});
+		assertRange(">*", new String[0], new String[]{"0.1.0", "1.0.0"});
+		assertRange("1.2.3 - 1.2.1", new String[0], new String[]{"1.2.2"});
+	}
+	
+	/**
+	 * tests tilde and caret ranges
+	 */
+	@Test
+	public void testTildeCaret() {
+		assertRange("~1.2.3", new String[]{"1.2.3", "1.2.9"}, new String[]{"1.3.0", "1.2.2"});
+		assertRange("~1", new String[]{"1.0.0", "1.9.0"}, new String[]{"2.0.0"});
+		assertRange("~1.2.3-beta.2", new String[]{"1.2.3-beta.2", "1.2.3", "1.2.4"}, new String[]{"1.2.3-beta.1", "1.3.0"});
+		assertRange("^1.2.3", new String[]{"1.2.3", "1.9.9"}, new String[]{"2.0.0", "1.2.2"});
+		assertRange("^0.2.3", new String[]{"0.2.3", "0.2.9"}, new String[]{"0.3.0"});
+		assertRange("^0.0.3", new String[0], new String[]{"0.1.0"});
+		MatcherAssert.assertThat(VersionRange.parse("^0.0.3").toString(), Matchers.equalTo(">=0.0.3 <0.0.4-0"));
+		assertRange("^0.x", new String[]{"0.1.0", "0.9.0"}, new String[]{"1.0.0"});
+		assertRange("^1.2.x", new String[]{"1.2.0", "1.9.0"}, new String[]{"2.0.0"});
+	}
+	
+	/**
+	 * tests hyphen ranges
+	 */
+	@Test
+	public void testHyphen() {
+		assertRange("1.2.3 - 2.3.4", new String[]{"1.2.3", "2.3.4"}, new String[]{"2.3.5", "1.2.2"});
+		assertRange("1.2 - 2.3.4", new String[]{"1.2.0"}, new String[]{"1.1.9"});
+		assertRange("1.2.3 - 2.3", new String[]{"2.3.9"}, new String[]{"2.4.0"});
+		assertRange("1.2.3 - 2", new String[]{"2.9.9"}, new String[]{"3.0.0"});
+	}
+	
+	/**
+	 * tests Maven ranges
+	 */
+	@Test
+	public void testMaven() {
+		assertRange("[1.0,2.0)", new String[]{"1.0.0", "1.9.9"}, new String[]{"2.0.0", "0.9.0"});
+		assertRange("(,1.0]", new String[]{"0.1.0", "1.0.0"}, new String[]{"1.0.1"});
+		assertRange("[1.2,)", new String[]{"1.2.0", "9.0.0"}, new String[]{"1.1.0"});
+		assertRange("[1.0]", new String[]{"1.0.0"}, new String[]{"1.0.1"});
+		assertRange("[1.0,1.2),[1.5,)", new String[]{"1.1.0", "1.5.0"}, new String[]{"1.2.0", "1.4.0"});
+	}
+	
+	/**
+	 * tests the normalization of overlapping intervals
+	 */
+	@Test
+	public void testUnion() {
+		VersionRange range = VersionRange.parse("1.x || >=1.5.0 <3.0.0 || 3.0.0");
+		
+		MatcherAssert.assertThat(range.getIntervalCount(), Matchers.equalTo(1));
+		MatcherAssert.assertThat(range.toString(), Matchers.equalTo(">=1.0.0 <=3.0.0"));
+		MatcherAssert.assertThat(range.intersect(VersionRange.parse("<1.0.0 || >=2.0.0")).toString(),
+		                         Matchers.equalTo(">=2.0.0 <=3.0.0"));
+		Assert.assertTrue(range.intersect(VersionRange.parse(">4")).isEmpty());
+	}
+	
+	/**
+	 * Test method for {@link VersionRange#filter(SemanticVersion...)}.
+	 */
+	@Test
+	public void testFilter() {
+		SemanticVersion[] versions = {
+				new SemanticVersion("1.0.0"), new SemanticVersion("1.5.0"), new SemanticVersion("2.0.0")
+		};
+		
+		VersionRange range = VersionRange.parse("^1.2");
+		
+		Assert.assertArrayEquals(new boolean[]{false, true, false}, range.testAll(versions));
+		Assert.assertArrayEquals(new SemanticVersion[]{versions[1]}, range.filter(versions));
+	}
+	
+	/**
+	 * tests invalid ranges
+	 */
+	@Test
+	public void testInvalid() {
+		String[] ranges = {">=", "1.2.3 ||| 2", "[1.0,2.0", "[,]x", "1.02", ">=a", "^1.2.3-", "[1.0)"};
+		
+		for (String range : ranges) {
+			try {
+				VersionRange.parse(range);
+				Assert.fail(range);
+			} catch (VersionRangeFormatException e) {
+				MatcherAssert.assertThat(range, e.getErrorOffset(), Matchers.greaterThanOrEqualTo(0));
+			}
+		}
+	}
+}
\ No newline at end of file